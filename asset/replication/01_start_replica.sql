@@ -0,0 +1,13 @@
+-- 로컬 읽기/쓰기 분리 테스트용 레플리카 설정
+-- docker-compose.replica.yml 의 itda-mysql-replica 최초 기동 시 실행됨
+-- primary(itda-mysql)와 레플리카 모두 빈 볼륨에서 시작해야 GTID 자동 위치로 전체 이력을 복제함
+
+CHANGE REPLICATION SOURCE TO
+    SOURCE_HOST = 'itda-mysql',
+    SOURCE_PORT = 3306,
+    SOURCE_USER = 'root',
+    SOURCE_PASSWORD = 'idolphinspass',
+    SOURCE_AUTO_POSITION = 1,
+    GET_SOURCE_PUBLIC_KEY = 1;
+
+START REPLICA;
@@ -35,6 +35,7 @@ CREATE TABLE IF NOT EXISTS channels (
     is_active BOOLEAN DEFAULT TRUE COMMENT '활성 상태',
     subscriber_count INT DEFAULT 0 COMMENT '구독자 수',
     content_count INT DEFAULT 0 COMMENT '콘텐츠 수',
+    total_view_count BIGINT DEFAULT 0 COMMENT '전체 조회수',
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성일',
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일',
     FOREIGN KEY (owner_id) REFERENCES users(user_id) ON DELETE CASCADE,
@@ -126,6 +127,29 @@ CREATE TABLE IF NOT EXISTS storage (
     INDEX idx_storage_item (item_type, item_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='사용자 보관함';
 
+-- 보관함 폴더 테이블
+CREATE TABLE IF NOT EXISTS folders (
+    folder_id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '폴더 ID',
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    path VARCHAR(500) NOT NULL COMMENT '폴더 경로 (수학/1단원, 최상위는 빈 문자열)',
+    item_count BIGINT NOT NULL DEFAULT 0 COMMENT '폴더 직속 항목 수',
+    total_bytes BIGINT NOT NULL DEFAULT 0 COMMENT '폴더 직속 항목 용량',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성일',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일',
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
+    UNIQUE KEY uk_folders_user_path (user_id, path)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='보관함 폴더';
+
+-- 사용자별 업로드 사용량 테이블
+CREATE TABLE IF NOT EXISTS user_storage_usage (
+    user_id BIGINT PRIMARY KEY COMMENT '사용자 ID',
+    used_bytes BIGINT NOT NULL DEFAULT 0 COMMENT '삭제되지 않은 콘텐츠 파일 용량 합계',
+    item_count BIGINT NOT NULL DEFAULT 0 COMMENT '삭제되지 않은 콘텐츠 수',
+    quota_bytes BIGINT NULL COMMENT '사용자별 한도 (NULL이면 기본 한도)',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일',
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='사용자별 업로드 사용량';
+
 -- 검색 기록 테이블
 CREATE TABLE IF NOT EXISTS search_history (
     search_id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '검색 ID',
@@ -52,6 +52,9 @@ CREATE TABLE IF NOT EXISTS content (
     like_count BIGINT DEFAULT 0 COMMENT '좋아요수',
     download_count BIGINT DEFAULT 0 COMMENT '다운로드수',
 
+    -- 낙관적 잠금
+    version BIGINT NOT NULL DEFAULT 0 COMMENT '수정 버전',
+
     -- 메타 정보
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
@@ -65,6 +68,7 @@ CREATE TABLE IF NOT EXISTS content (
     INDEX idx_content_public_status (public_status),
     INDEX idx_content_created_at (created_at),
     INDEX idx_content_deleted_at (deleted_at),
+    INDEX idx_content_user_updated (user_id, updated_at, content_id),
 
     -- 외래키
     FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
@@ -0,0 +1,61 @@
+package com.itda.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * read-your-writes 보장
+ * - 콘텐츠를 등록/수정한 사용자는 복제 지연 구간 동안 읽기도 primary에서 처리한다
+ * - 사용자별 만료 시각만 메모리에 보관 (노드 로컬)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadYourWritesGuard {
+
+    private final ReplicationDataSourceProperties properties;
+
+    private final Map<Long, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    /**
+     * 쓰기 직후 호출: 현재 요청과 이후 일정 시간 동안의 요청을 primary로 고정
+     */
+    public void markWrite(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        pinnedUntil.put(userId, System.currentTimeMillis() + properties.getReadYourWritesWindow().toMillis());
+        ReplicationRoutingContext.forcePrimary();
+    }
+
+    /**
+     * 요청 시작 시 호출: 고정 구간 안에 있으면 현재 스레드를 primary로 라우팅
+     */
+    public void bindIfPinned(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        Long until = pinnedUntil.get(userId);
+        if (until == null) {
+            return;
+        }
+        if (until > System.currentTimeMillis()) {
+            ReplicationRoutingContext.forcePrimary();
+        } else {
+            pinnedUntil.remove(userId, until);
+        }
+    }
+
+    public void clear() {
+        ReplicationRoutingContext.clear();
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        pinnedUntil.entrySet().removeIf(entry -> entry.getValue() <= now);
+    }
+}
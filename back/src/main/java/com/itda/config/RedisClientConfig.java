@@ -0,0 +1,56 @@
+package com.itda.config;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.data.redis.LettuceClientConfigurationBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.time.Duration;
+
+/**
+ * Lettuce 클라이언트 설정
+ * - 연결 타임아웃/명령 타임아웃, 연결이 끊긴 동안의 명령은 쌓지 않고 즉시 실패 (호출 측의 Redis 장애 대체 로직이 바로 동작)
+ * - executePipelined 명령은 N개씩 모아서 전송 (명령마다 flush 하지 않음)
+ * - 풀 크기는 spring.data.redis.lettuce.pool.* (commons-pool2), 단건 명령은 공유 연결로 처리
+ */
+@Configuration
+public class RedisClientConfig {
+
+    @Bean
+    public LettuceClientConfigurationBuilderCustomizer lettuceClientCustomizer(
+            @Value("${app.redis.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${spring.data.redis.timeout:1s}") Duration commandTimeout) {
+        return builder -> builder
+                .commandTimeout(commandTimeout)
+                .clientOptions(ClientOptions.builder()
+                        .autoReconnect(true)
+                        .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                        .socketOptions(SocketOptions.builder()
+                                .connectTimeout(connectTimeout)
+                                .keepAlive(true)
+                                .build())
+                        .timeoutOptions(TimeoutOptions.enabled(commandTimeout))
+                        .build());
+    }
+
+    @Bean
+    public static BeanPostProcessor lettucePipeliningCustomizer(
+            @Value("${app.redis.pipeline-flush-size:64}") int pipelineFlushSize) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof LettuceConnectionFactory connectionFactory) {
+                    connectionFactory.setPipeliningFlushPolicy(
+                            LettuceConnection.PipeliningFlushPolicy.buffered(pipelineFlushSize));
+                }
+                return bean;
+            }
+        };
+    }
+}
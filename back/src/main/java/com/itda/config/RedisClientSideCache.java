@@ -0,0 +1,145 @@
+package com.itda.config;
+
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.support.caching.CacheAccessor;
+import io.lettuce.core.support.caching.CacheFrontend;
+import io.lettuce.core.support.caching.ClientSideCaching;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.SocketAddress;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Redis 서버 지원 클라이언트 측 캐시 (Redis 6+ CLIENT TRACKING, RESP3 무효화 메시지)
+ * - 자주 읽고 드물게 바뀌는 작은 문자열 키(목록 세대 번호 등)를 노드 메모리에 두고, 다른 노드가 값을 바꾸면
+ *   Redis가 보내는 무효화 메시지로 지운다 (적중 시 네트워크 왕복 없음)
+ * - 전용 연결 하나를 쓰고, 연결이 끊기면 무효화를 놓칠 수 있으므로 로컬 값을 모두 비우고 다시 추적을 켠다
+ * - 비활성화/Redis 5 이하/연결 실패 시 StringRedisTemplate으로 매번 조회
+ */
+@Slf4j
+@Component
+public class RedisClientSideCache {
+
+    private final RedisConnectionFactory connectionFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final Map<String, String> local;
+    private final Counter hits;
+    private final Counter misses;
+
+    private volatile StatefulRedisConnection<String, String> connection;
+    private volatile CacheFrontend<String, String> frontend;
+
+    public RedisClientSideCache(RedisConnectionFactory connectionFactory,
+                                StringRedisTemplate redisTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.redis.client-tracking.enabled:true}") boolean enabled,
+                                @Value("${app.redis.client-tracking.max-keys:10000}") int maxKeys) {
+        this.connectionFactory = connectionFactory;
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        // 오래 안 쓴 키부터 제거 (서버 추적 테이블은 그대로여도 무효화 메시지가 오면 무시될 뿐)
+        this.local = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxKeys;
+            }
+        });
+        this.hits = Counter.builder("redis.client.cache")
+                .description("클라이언트 측 캐시 조회")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("redis.client.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("redis.client.cache.size", local, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 후 전용 연결에서 추적 시작 (연결 팩토리가 시작된 뒤라야 네이티브 클라이언트를 쓸 수 있음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || !(connectionFactory instanceof LettuceConnectionFactory lettuceFactory)
+                || !(lettuceFactory.getNativeClient() instanceof RedisClient client)) {
+            return;
+        }
+        try {
+            StatefulRedisConnection<String, String> tracked = client.connect(StringCodec.UTF8);
+            tracked.addListener(new RedisConnectionStateListener() {
+                @Override
+                public void onRedisDisconnected(RedisChannelHandler<?, ?> handler) {
+                    local.clear();
+                }
+
+                @Override
+                public void onRedisConnected(RedisChannelHandler<?, ?> handler, SocketAddress address) {
+                    // 재연결된 연결은 추적이 꺼져 있으므로 다시 켠다 (그사이 값은 위에서 비웠음)
+                    local.clear();
+                    tracked.async().clientTracking(TrackingArgs.Builder.enabled());
+                }
+            });
+            this.frontend = ClientSideCaching.enable(CacheAccessor.forMap(local), tracked, TrackingArgs.Builder.enabled());
+            this.connection = tracked;
+            log.info("Redis 클라이언트 측 캐시 활성화 (CLIENT TRACKING)");
+        } catch (RuntimeException e) {
+            log.warn("Redis 클라이언트 측 캐시를 켜지 못해 매번 조회합니다: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        CacheFrontend<String, String> current = frontend;
+        frontend = null;
+        if (current != null) {
+            current.close();
+        }
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    /**
+     * 문자열 값 (추적 중이면 로컬 적중 시 Redis 왕복 없음)
+     */
+    public String get(String key) {
+        CacheFrontend<String, String> current = frontend;
+        if (current == null || !connection.isOpen()) {
+            return redisTemplate.opsForValue().get(key);
+        }
+        String cached = local.get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        return current.get(key);
+    }
+
+    /**
+     * 이 노드에서 값을 바꿨을 때 무효화 메시지를 기다리지 않고 바로 제거 (자기 쓰기 직후 읽기 보장)
+     */
+    public void evictLocal(Collection<String> keys) {
+        keys.forEach(local::remove);
+    }
+}
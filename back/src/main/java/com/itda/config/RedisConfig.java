@@ -1,21 +1,34 @@
 package com.itda.config;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.io.IOException;
 import java.time.Duration;
+import java.util.List;
 
 @Configuration
 @EnableCaching
@@ -45,16 +58,28 @@ public class RedisConfig {
     }
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        // ObjectMapper 설정
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.cache.ttl:10m}") Duration ttl,
+                                     @Value("${app.cache.ttl-jitter:0.1}") double ttlJitter,
+                                     @Value("${app.cache.stale-while-revalidate:1m}") Duration staleWhileRevalidate,
+                                     @Value("${app.cache.min-refresh-ahead:30s}") Duration minRefreshAhead,
+                                     @Value("${app.cache.refresh-beta:1.0}") double refreshBeta,
+                                     @Value("${app.cache.lock-ttl:10s}") Duration lockTtl,
+                                     @Value("${app.cache.lock-wait:2s}") Duration lockWait,
+                                     @Value("${app.cache.refresh-threads:2}") int refreshThreads) {
+        // 캐시 값은 타입 정보를 포함해서 저장 (적중 시 원래 타입으로 복원)
+        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer()
+                .configure(objectMapper -> {
+                    objectMapper.registerModule(new JavaTimeModule());
+                    objectMapper.registerModule(new SimpleModule().addDeserializer(PageImpl.class, new PageImplDeserializer()));
+                    objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+                });
 
         RedisCacheConfiguration cacheConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10)) // 캐시 만료 시간: 10분
+                // 캐시 만료 시간: 기본 10분 + 편차 (논리 만료 이후 stale 구간까지 Redis에 유지)
+                .entryTtl((key, value) -> StampedeProtectedCache.timeToLive(value, ttl))
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
                 )
@@ -62,8 +87,44 @@ public class RedisConfig {
                         RedisSerializationContext.SerializationPair.fromSerializer(serializer)
                 );
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(cacheConfig)
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        // 동시 미스 단일 로드, 만료 전 백그라운드 갱신 (기다린 요청에는 같은 직렬화기로 만든 복사본을 준다)
+        return new StampedeProtectedCacheManager(redisCacheManager, stringRedisTemplate, meterRegistry,
+                new StampedeProtectedCache.Settings(ttl, ttlJitter, staleWhileRevalidate, minRefreshAhead,
+                        refreshBeta, lockTtl, lockWait),
+                value -> serializer.deserialize(serializer.serialize(value)),
+                refreshThreads);
+    }
+
+    /**
+     * PageImpl은 기본 생성자가 없어서 content/number/size/totalElements로 다시 만든다
+     */
+    private static class PageImplDeserializer extends StdDeserializer<PageImpl<?>> {
+
+        PageImplDeserializer() {
+            super(PageImpl.class);
+        }
+
+        @Override
+        public PageImpl<?> deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonNode node = context.readTree(parser);
+            List<?> content = context.readTreeAsValue(node.get("content"), List.class);
+            int number = node.path("number").asInt();
+            int size = node.path("size").asInt();
+            long totalElements = node.path("totalElements").asLong();
+            return new PageImpl<>(content, PageRequest.of(number, Math.max(size, 1)), totalElements);
+        }
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        // 노드 간 메시지 전달용 pub/sub 구독 컨테이너 (리스너는 각 컴포넌트에서 등록)
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
     }
 }
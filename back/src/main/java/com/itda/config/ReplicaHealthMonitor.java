@@ -0,0 +1,69 @@
+package com.itda.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 레플리카 헬스 체크
+ * - 연결 불가 또는 복제 지연이 허용치를 넘으면 라우팅 대상에서 제외하고, 회복되면 다시 포함한다
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReplicaHealthMonitor {
+
+    private final ReplicationRoutingDataSource routingDataSource;
+    private final int timeoutSeconds;
+    private final long maxLagSeconds;
+
+    @Scheduled(fixedDelayString = "${app.datasource.health-check-interval-ms:10000}")
+    public void checkReplicas() {
+        for (String key : routingDataSource.getReplicaKeys()) {
+            if (isHealthy(routingDataSource.getReplica(key))) {
+                routingDataSource.markUp(key);
+            } else {
+                routingDataSource.markDown(key);
+            }
+        }
+    }
+
+    private boolean isHealthy(DataSource replica) {
+        try (Connection connection = replica.getConnection()) {
+            if (!connection.isValid(timeoutSeconds)) {
+                return false;
+            }
+            Long lag = replicationLagSeconds(connection);
+            if (lag != null && lag > maxLagSeconds) {
+                log.warn("레플리카 복제 지연 초과: lag={}s, max={}s", lag, maxLagSeconds);
+                return false;
+            }
+            return true;
+        } catch (SQLException e) {
+            log.debug("레플리카 헬스 체크 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * SHOW REPLICA STATUS의 Seconds_Behind_Source (복제 스레드가 멈춰 있으면 무한대로 취급)
+     */
+    private Long replicationLagSeconds(Connection connection) {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!resultSet.next()) {
+                return null;
+            }
+            long lag = resultSet.getLong("Seconds_Behind_Source");
+            return resultSet.wasNull() ? Long.MAX_VALUE : lag;
+        } catch (SQLException e) {
+            // 복제 상태 조회 권한이 없는 계정이면 연결 상태만으로 판단
+            return null;
+        }
+    }
+}
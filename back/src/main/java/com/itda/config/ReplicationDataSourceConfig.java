@@ -0,0 +1,77 @@
+package com.itda.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 분리 DataSource 설정
+ * - app.datasource.routing-enabled=true 일 때만 활성화 (기본은 spring.datasource 단일 DB)
+ * - primary는 spring.datasource, 레플리카는 app.datasource.replicas 목록을 사용
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ReplicationDataSourceProperties.class)
+public class ReplicationDataSourceConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource", name = "routing-enabled", havingValue = "true")
+    public ReplicationRoutingDataSource replicationRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                                     ReplicationDataSourceProperties properties) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("itda-primary");
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            ReplicationDataSourceProperties.Replica replica = properties.getReplicas().get(i);
+            String name = replica.getName() != null ? replica.getName() : "replica-" + i;
+
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(replica.getUrl())
+                    .username(replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.getUsername())
+                    .password(replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.getPassword())
+                    .build();
+            dataSource.setPoolName("itda-" + name);
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            // 레플리카가 내려가 있어도 애플리케이션 기동은 가능하도록
+            dataSource.setInitializationFailTimeout(-1);
+
+            replicas.put(name, dataSource);
+        }
+
+        log.info("읽기/쓰기 분리 활성화: replicas={}", replicas.keySet());
+        return new ReplicationRoutingDataSource(primary, replicas);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "app.datasource", name = "routing-enabled", havingValue = "true")
+    public DataSource dataSource(ReplicationRoutingDataSource replicationRoutingDataSource) {
+        // 실제 커넥션 획득을 첫 쿼리 시점으로 미뤄서 트랜잭션의 readOnly 여부로 라우팅되도록 함
+        return new LazyConnectionDataSourceProxy(replicationRoutingDataSource);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource", name = "routing-enabled", havingValue = "true")
+    public ReplicaHealthMonitor replicaHealthMonitor(ReplicationRoutingDataSource replicationRoutingDataSource,
+                                                     ReplicationDataSourceProperties properties) {
+        return new ReplicaHealthMonitor(replicationRoutingDataSource,
+                properties.getHealthCheckTimeoutSeconds(), properties.getMaxReplicaLagSeconds());
+    }
+}
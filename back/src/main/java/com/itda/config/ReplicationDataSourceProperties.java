@@ -0,0 +1,42 @@
+package com.itda.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 분리 설정 (app.datasource.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource")
+public class ReplicationDataSourceProperties {
+
+    // 라우팅 활성화 여부 (false면 spring.datasource 단일 DB 사용)
+    private boolean routingEnabled = false;
+
+    // 쓰기 직후 해당 사용자의 읽기를 primary로 고정하는 시간
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    // 레플리카 헬스 체크 타임아웃(초)
+    private int healthCheckTimeoutSeconds = 2;
+
+    // 허용 복제 지연(초), 초과 시 해당 레플리카로 읽기를 보내지 않음
+    private long maxReplicaLagSeconds = 10;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
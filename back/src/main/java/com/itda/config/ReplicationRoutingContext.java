@@ -0,0 +1,25 @@
+package com.itda.config;
+
+/**
+ * 현재 요청 스레드의 라우팅 힌트
+ * - read-your-writes 구간에 있는 사용자의 요청은 readOnly 트랜잭션이라도 primary로 보낸다
+ */
+public final class ReplicationRoutingContext {
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private ReplicationRoutingContext() {
+    }
+
+    public static void forcePrimary() {
+        FORCE_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(FORCE_PRIMARY.get());
+    }
+
+    public static void clear() {
+        FORCE_PRIMARY.remove();
+    }
+}
@@ -0,0 +1,122 @@
+package com.itda.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 레플리카로, 나머지는 primary로 보내는 라우팅 DataSource
+ * - 레플리카는 라운드 로빈으로 선택하며, 비정상 레플리카는 건너뛴다
+ * - 레플리카 연결 실패 시 해당 레플리카를 down 처리하고 primary로 폴백한다
+ * - readOnly 플래그는 트랜잭션 시작 후에 설정되므로 LazyConnectionDataSourceProxy로 감싸서 사용해야 한다
+ */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    public static final String PRIMARY = "primary";
+
+    private final List<String> replicaKeys;
+    private final Set<String> downReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger counter = new AtomicInteger();
+
+    public ReplicationRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        this.replicaKeys = List.copyOf(replicas.keySet());
+
+        Map<Object, Object> targets = new ConcurrentHashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || ReplicationRoutingContext.isPrimaryForced()) {
+            return PRIMARY;
+        }
+        return nextHealthyReplica();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String key = (String) determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary().getConnection();
+        }
+
+        try {
+            return getResolvedDataSources().get(key).getConnection();
+        } catch (SQLException e) {
+            markDown(key);
+            log.warn("레플리카 연결 실패, primary로 폴백: replica={}, error={}", key, e.getMessage());
+            return primary().getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // 자격 증명을 별도로 지정하는 경우는 쓰기 경로와 동일하게 취급
+        return primary().getConnection(username, password);
+    }
+
+    /**
+     * 라운드 로빈으로 정상 레플리카 선택 (모두 비정상이면 primary)
+     */
+    private String nextHealthyReplica() {
+        int size = replicaKeys.size();
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get(Math.floorMod(counter.getAndIncrement(), size));
+            if (!downReplicas.contains(key)) {
+                return key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    private DataSource primary() {
+        return getResolvedDefaultDataSource();
+    }
+
+    public List<String> getReplicaKeys() {
+        return replicaKeys;
+    }
+
+    public DataSource getReplica(String key) {
+        return getResolvedDataSources().get(key);
+    }
+
+    public void markDown(String key) {
+        if (downReplicas.add(key)) {
+            log.warn("레플리카 비활성화: {}", key);
+        }
+    }
+
+    public void markUp(String key) {
+        if (downReplicas.remove(key)) {
+            log.info("레플리카 복구: {}", key);
+        }
+    }
+
+    public boolean isDown(String key) {
+        return downReplicas.contains(key);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource dataSource : getResolvedDataSources().values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
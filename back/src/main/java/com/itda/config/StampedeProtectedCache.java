@@ -0,0 +1,366 @@
+package com.itda.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * 캐시 스탬피드 방지 래퍼 (RedisCache를 감싼다)
+ * - 값은 만료 시각/계산 시간을 담은 {@link Entry}로 저장하고, Redis TTL은 논리 만료 + stale 허용 시간
+ * - 미스: 노드 안에서는 키별로 한 요청만 로드 (나머지는 결과를 기다림), 노드 간에는 Redis 락을 잡은 노드만 로드
+ *   (락을 못 잡은 노드는 잠시 캐시를 다시 확인하고, 그래도 없으면 직접 로드)
+ * - 적중: 만료가 가까울수록 높은 확률로 백그라운드 갱신 (XFetch), 논리 만료 후 stale 구간이면 이전 값을 주고 갱신
+ * - TTL에 무작위 편차를 줘서 같은 시각에 채운 키들이 함께 만료되지 않게 한다
+ * - 백그라운드 갱신은 {@link org.springframework.cache.annotation.Cacheable#sync()} 또는 get(key, loader)로 읽을 때만 가능
+ * - 같은 노드에서 로드를 기다린 요청들은 각자 복사본을 받는다 (호출 쪽에서 값을 고쳐도 서로 영향 없음)
+ */
+@Slf4j
+public class StampedeProtectedCache implements Cache {
+
+    private static final String LOCK_KEY_PREFIX = "cache:lock:";
+    private static final long LOCK_POLL_MS = 25L;
+
+    // 내 락일 때만 삭제
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final Cache delegate;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Executor refreshExecutor;
+    private final Settings settings;
+    private final UnaryOperator<Object> copier;
+
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<Object, Boolean> refreshing = new ConcurrentHashMap<>();
+    // 로드 중인 키별 무효화 횟수 (로드 도중 그 키가 무효화되면 결과를 저장하지 않음, 로드가 끝나면 제거)
+    private final Map<Object, KeyInvalidations> loadingKeys = new ConcurrentHashMap<>();
+    // clear() 횟수 (모든 키 무효화)
+    private final AtomicLong clears = new AtomicLong();
+
+    /**
+     * @param copier 값 깊은 복사 (캐시 직렬화기로 직렬화 후 역직렬화)
+     */
+    public StampedeProtectedCache(Cache delegate, StringRedisTemplate redisTemplate, MeterRegistry meterRegistry,
+                                  Executor refreshExecutor, Settings settings, UnaryOperator<Object> copier) {
+        this.delegate = delegate;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.refreshExecutor = refreshExecutor;
+        this.settings = settings;
+        this.copier = copier;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object stored = wrapper.get();
+        return stored instanceof Entry entry ? new SimpleValueWrapper(entry.value()) : wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입 불일치: " + type.getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper != null) {
+            Object stored = wrapper.get();
+            if (!(stored instanceof Entry entry)) {
+                return (T) stored;
+            }
+            if (shouldRefresh(entry)) {
+                refreshInBackground(key, valueLoader);
+            }
+            return (T) entry.value();
+        }
+        return (T) loadOnce(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, wrap(value, 0L));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, wrap(value, 0L));
+        if (existing == null) {
+            return null;
+        }
+        Object stored = existing.get();
+        return stored instanceof Entry entry ? new SimpleValueWrapper(entry.value()) : existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        // 같은 키의 저장(loadAndPut)과 순서를 맞추기 위해 compute 안에서 올린다
+        loadingKeys.computeIfPresent(key, (k, tracked) -> {
+            tracked.count++;
+            return tracked;
+        });
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        clears.incrementAndGet();
+        delegate.clear();
+    }
+
+    /**
+     * Redis TTL (논리 만료 + stale 허용 시간), RedisCacheConfiguration의 TTL 함수에서 사용
+     */
+    public static Duration timeToLive(Object value, Duration fallback) {
+        if (value instanceof Entry entry) {
+            return Duration.ofMillis(Math.max(1L, entry.expiresAt() - System.currentTimeMillis() + entry.staleMs()));
+        }
+        return fallback;
+    }
+
+    /**
+     * 미스 시 키별 단일 로드 (같은 노드의 동시 요청은 첫 요청의 결과를 복사해서 받음)
+     * - future에는 아무에게도 주지 않는 스냅샷을 넣고, 기다린 요청마다 스냅샷을 다시 복사한다
+     */
+    private Object loadOnce(Object key, Callable<?> valueLoader) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            count("coalesced");
+            return copy(await(existing));
+        }
+
+        try {
+            Object value = loadAcrossNodes(key, valueLoader);
+            future.complete(copy(value));
+            return value;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Redis 락을 잡으면 로드, 못 잡으면 다른 노드가 채울 때까지 잠시 대기
+     */
+    private Object loadAcrossNodes(Object key, Callable<?> valueLoader) {
+        String lockKey = lockKey(key);
+        String token = UUID.randomUUID().toString();
+        if (tryLock(lockKey, token)) {
+            try {
+                count("load");
+                return loadAndPut(key, valueLoader);
+            } finally {
+                unlock(lockKey, token);
+            }
+        }
+
+        long deadline = System.currentTimeMillis() + settings.lockWait().toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(LOCK_POLL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            ValueWrapper wrapper = get(key);
+            if (wrapper != null) {
+                count("remote");
+                return wrapper.get();
+            }
+        }
+        // 락을 가진 노드가 느리거나 죽은 경우 직접 로드
+        count("lock_timeout");
+        return loadAndPut(key, valueLoader);
+    }
+
+    private void refreshInBackground(Object key, Callable<?> valueLoader) {
+        if (refreshing.putIfAbsent(key, Boolean.TRUE) != null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                String lockKey = lockKey(key);
+                String token = UUID.randomUUID().toString();
+                try {
+                    if (tryLock(lockKey, token)) {
+                        try {
+                            count("refresh");
+                            loadAndPut(key, valueLoader);
+                        } finally {
+                            unlock(lockKey, token);
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("캐시 백그라운드 갱신 실패: cache={}, key={}, error={}", getName(), key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RuntimeException e) {
+            // 갱신 풀이 가득 차면 이번에는 건너뜀 (다음 적중 때 다시 시도)
+            refreshing.remove(key);
+            count("refresh_rejected");
+        }
+    }
+
+    private Object loadAndPut(Object key, Callable<?> valueLoader) {
+        KeyInvalidations tracked = loadingKeys.compute(key, (k, existing) -> {
+            KeyInvalidations next = existing != null ? existing : new KeyInvalidations();
+            next.loaders++;
+            return next;
+        });
+        long invalidationsBefore = tracked.count;
+        long clearsBefore = clears.get();
+        try {
+            long start = System.currentTimeMillis();
+            Object value;
+            try {
+                value = valueLoader.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            long computeMs = System.currentTimeMillis() - start;
+            // 확인과 저장을 compute 안에서 해서 그 사이 같은 키의 evict가 끼어들지 못하게 한다
+            loadingKeys.computeIfPresent(key, (k, current) -> {
+                if (current.count == invalidationsBefore && clears.get() == clearsBefore) {
+                    delegate.put(key, wrap(value, computeMs));
+                }
+                return current;
+            });
+            return value;
+        } finally {
+            loadingKeys.computeIfPresent(key, (k, current) -> --current.loaders == 0 ? null : current);
+        }
+    }
+
+    /**
+     * XFetch: 남은 시간이 (계산 시간 x 무작위 배수)보다 작으면 갱신, stale 구간이면 항상 갱신
+     */
+    private boolean shouldRefresh(Entry entry) {
+        long now = System.currentTimeMillis();
+        if (now >= entry.expiresAt()) {
+            count("stale");
+            return true;
+        }
+        long delta = Math.max(entry.computeMs(), settings.minRefreshAhead().toMillis());
+        double gap = delta * settings.beta() * -Math.log(ThreadLocalRandom.current().nextDouble(1e-12, 1.0));
+        return now + gap >= entry.expiresAt();
+    }
+
+    private Entry wrap(Object value, long computeMs) {
+        long ttlMs = settings.ttl().toMillis();
+        long jitterMs = (long) (ttlMs * settings.jitter() * ThreadLocalRandom.current().nextDouble());
+        return new Entry(value, System.currentTimeMillis() + ttlMs + jitterMs, computeMs,
+                settings.staleWhileRevalidate().toMillis());
+    }
+
+    private boolean tryLock(String lockKey, String token) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(lockKey, token, settings.lockTtl()));
+        } catch (DataAccessException e) {
+            // Redis 장애 시 노드 내 단일 로드만 적용
+            return true;
+        }
+    }
+
+    private void unlock(String lockKey, String token) {
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), token);
+        } catch (DataAccessException e) {
+            log.debug("캐시 락 해제 실패 (TTL로 만료됨): {}", e.getMessage());
+        }
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("캐시 로드 대기 중단", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private Object copy(Object value) {
+        return value != null ? copier.apply(value) : null;
+    }
+
+    private String lockKey(Object key) {
+        return LOCK_KEY_PREFIX + getName() + ":" + key;
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("cache.loads", "cache", getName(), "result", result).increment();
+    }
+
+    /**
+     * 저장 형태 (expiresAt: 논리 만료 시각, computeMs: 로드에 걸린 시간)
+     */
+    public record Entry(Object value, long expiresAt, long computeMs, long staleMs) {
+    }
+
+    /**
+     * 로드 중인 키의 무효화 횟수와 로드 중인 요청 수 (loadingKeys.compute 안에서만 변경)
+     */
+    private static final class KeyInvalidations {
+        private volatile long count;
+        private int loaders;
+    }
+
+    /**
+     * 캐시별 설정 (jitter: TTL에 더할 최대 비율, beta: XFetch 조기 갱신 강도)
+     */
+    public record Settings(Duration ttl, double jitter, Duration staleWhileRevalidate, Duration minRefreshAhead,
+                           double beta, Duration lockTtl, Duration lockWait) {
+    }
+}
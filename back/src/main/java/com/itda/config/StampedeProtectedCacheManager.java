@@ -0,0 +1,68 @@
+package com.itda.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+/**
+ * 모든 캐시를 {@link StampedeProtectedCache}로 감싸는 CacheManager (백그라운드 갱신 풀 공유)
+ */
+public class StampedeProtectedCacheManager implements CacheManager, DisposableBean {
+
+    private final CacheManager delegate;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final StampedeProtectedCache.Settings settings;
+    private final UnaryOperator<Object> copier;
+    private final ThreadPoolExecutor refreshExecutor;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public StampedeProtectedCacheManager(CacheManager delegate, StringRedisTemplate redisTemplate,
+                                         MeterRegistry meterRegistry, StampedeProtectedCache.Settings settings,
+                                         UnaryOperator<Object> copier, int refreshThreads) {
+        this.delegate = delegate;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.settings = settings;
+        this.copier = copier;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(refreshThreads, refreshThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(100), runnable -> {
+                    Thread thread = new Thread(runnable, "cache-refresh-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, key -> {
+            Cache cache = delegate.getCache(key);
+            return cache != null
+                    ? new StampedeProtectedCache(cache, redisTemplate, meterRegistry, refreshExecutor, settings, copier)
+                    : null;
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,113 @@
+package com.itda.controller;
+
+import com.itda.entity.User;
+import com.itda.service.ArchiveService;
+import com.itda.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 압축 다운로드 (꾸러미, 보관함 폴더)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/archives")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000", "http://localhost:15173"})
+public class ArchiveController {
+
+    private static final String RETRY_AFTER_SECONDS = "10";
+
+    private final ArchiveService archiveService;
+    private final UserService userService;
+
+    /**
+     * 인증된 사용자 정보를 가져오는 헬퍼 메서드
+     */
+    private Long getAuthenticatedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new RuntimeException("인증되지 않은 사용자입니다");
+        }
+        String username = authentication.getName();
+        User user = userService.findByUsername(username);
+        return user.getUserId();
+    }
+
+    /**
+     * 꾸러미 전체 다운로드 (ZIP)
+     */
+    @GetMapping("/packages/{packageId}")
+    public ResponseEntity<StreamingResponseBody> downloadPackage(@PathVariable Long packageId) {
+        Long userId = getAuthenticatedUserId();
+        log.info("꾸러미 압축 다운로드 요청: packageId={}, userId={}", packageId, userId);
+
+        try {
+            return stream(archiveService.preparePackage(packageId, userId));
+        } catch (IllegalArgumentException e) {
+            log.error("꾸러미 압축 다운로드 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
+    /**
+     * 내 보관함 폴더 다운로드 (하위 폴더 포함, ZIP)
+     */
+    @GetMapping("/folders")
+    public ResponseEntity<StreamingResponseBody> downloadFolder(@RequestParam String folderPath) {
+        Long userId = getAuthenticatedUserId();
+        log.info("폴더 압축 다운로드 요청: folderPath={}, userId={}", folderPath, userId);
+
+        try {
+            return stream(archiveService.prepareFolder(userId, folderPath));
+        } catch (IllegalArgumentException e) {
+            log.error("폴더 압축 다운로드 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * 응답 본문을 비동기로 스트리밍 (동시 압축 수 초과 시 503)
+     */
+    private ResponseEntity<StreamingResponseBody> stream(ArchiveService.Archive archive) {
+        if (archive.entries().isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        if (!archiveService.tryAcquire()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .build();
+        }
+
+        StreamingResponseBody body = out -> {
+            try {
+                archiveService.write(archive, out);
+            } catch (IOException e) {
+                // 대부분 클라이언트 연결 종료
+                log.info("압축 다운로드 중단: name={}, reason={}", archive.name(), e.getMessage());
+            } finally {
+                archiveService.release();
+            }
+        };
+
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(archive.name() + ".zip", StandardCharsets.UTF_8)
+                .build();
+        return ResponseEntity.ok()
+                .contentType(MediaType.valueOf("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+}
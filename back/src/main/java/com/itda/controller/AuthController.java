@@ -2,10 +2,15 @@ package com.itda.controller;
 
 import com.itda.dto.LoginRequest;
 import com.itda.dto.LoginResponse;
+import com.itda.dto.RefreshTokenRequest;
+import com.itda.service.RateLimitService;
 import com.itda.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,22 +22,58 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final UserService userService;
+    private final RateLimitService rateLimitService;
 
     @PostMapping("/login")
     public ResponseEntity<?> login(@Valid @RequestBody LoginRequest loginRequest) {
+        // 아이디별 시도 횟수 제한 (IP별 제한은 RateLimitFilter)
+        RateLimitService.Decision decision =
+                rateLimitService.tryConsume(RateLimitService.Policy.LOGIN_USER, loginRequest.getUsername());
+        if (!decision.allowed()) {
+            log.warn("Login rate limited for user {}", loginRequest.getUsername());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()))
+                    .body(new ErrorResponse("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."));
+        }
+
         try {
             LoginResponse response = userService.login(loginRequest);
             log.info("User {} logged in successfully", loginRequest.getUsername());
             return ResponseEntity.ok(response);
+        } catch (IllegalStateException e) {
+            // BCrypt 대기열 초과 (로그인 폭주)
+            log.warn("Login throttled for user {}: {}", loginRequest.getUsername(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(new ErrorResponse(e.getMessage()));
         } catch (RuntimeException e) {
             log.error("Login failed for user {}: {}", loginRequest.getUsername(), e.getMessage());
             return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
         }
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        try {
+            return ResponseEntity.ok(userService.refresh(request.getRefreshToken()));
+        } catch (IllegalArgumentException e) {
+            log.warn("Token refresh failed: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
     @PostMapping("/logout")
-    public ResponseEntity<?> logout() {
-        // JWT는 stateless하므로 클라이언트에서 토큰을 삭제하면 됨
+    public ResponseEntity<?> logout(HttpServletRequest httpRequest,
+                                    @RequestBody(required = false) RefreshTokenRequest request) {
+        // 액세스 토큰은 만료 전까지 폐기 목록에 올리고, 리프레시 토큰은 family째 폐기
+        String authorization = httpRequest.getHeader(HttpHeaders.AUTHORIZATION);
+        String accessToken = authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7) : null;
+        try {
+            userService.logout(accessToken, request != null ? request.getRefreshToken() : null);
+        } catch (RuntimeException e) {
+            log.error("Logout revocation failed: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ErrorResponse("로그아웃 처리 중 오류가 발생했습니다"));
+        }
         return ResponseEntity.ok(new MessageResponse("로그아웃되었습니다"));
     }
 
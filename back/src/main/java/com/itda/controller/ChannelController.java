@@ -0,0 +1,101 @@
+package com.itda.controller;
+
+import com.itda.dto.ChannelStatsResponse;
+import com.itda.dto.TimelineResponse;
+import com.itda.entity.User;
+import com.itda.service.ChannelStatsService;
+import com.itda.service.ChannelTimelineService;
+import com.itda.service.StorageService;
+import com.itda.service.SubscriptionService;
+import com.itda.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/channels")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000", "http://localhost:15173"})
+public class ChannelController {
+
+    private final SubscriptionService subscriptionService;
+    private final ChannelTimelineService channelTimelineService;
+    private final ChannelStatsService channelStatsService;
+    private final StorageService storageService;
+    private final UserService userService;
+
+    /**
+     * 인증된 사용자 정보를 가져오는 헬퍼 메서드
+     */
+    private Long getAuthenticatedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new RuntimeException("인증되지 않은 사용자입니다");
+        }
+        String username = authentication.getName();
+        User user = userService.findByUsername(username);
+        return user.getUserId();
+    }
+
+    /**
+     * 채널 헤더 통계 (콘텐츠 수, 구독자 수, 전체 조회수)
+     */
+    @GetMapping("/{channelId}/stats")
+    public ResponseEntity<ChannelStatsResponse> getStats(@PathVariable Long channelId) {
+        try {
+            ChannelStatsResponse stats = channelStatsService.getStats(channelId);
+            return ResponseEntity.ok(stats);
+        } catch (IllegalArgumentException e) {
+            log.error("채널 통계 조회 실패: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * 채널 구독
+     */
+    @PostMapping("/{channelId}/subscription")
+    public ResponseEntity<Void> subscribe(@PathVariable Long channelId) {
+        Long userId = getAuthenticatedUserId();
+        log.info("채널 구독 요청: userId={}, channelId={}", userId, channelId);
+
+        try {
+            subscriptionService.subscribe(userId, channelId);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            log.error("채널 구독 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
+    /**
+     * 채널 구독 취소
+     */
+    @DeleteMapping("/{channelId}/subscription")
+    public ResponseEntity<Void> unsubscribe(@PathVariable Long channelId) {
+        Long userId = getAuthenticatedUserId();
+        log.info("채널 구독 취소 요청: userId={}, channelId={}", userId, channelId);
+
+        subscriptionService.unsubscribe(userId, channelId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 구독 채널 새 콘텐츠 (커서 페이징, 첫 페이지는 cursor 생략)
+     */
+    @GetMapping("/timeline")
+    public ResponseEntity<TimelineResponse> getTimeline(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Long userId = getAuthenticatedUserId();
+        TimelineResponse timeline = channelTimelineService.getTimeline(userId, cursor, size);
+        storageService.applySavedFlags(userId, timeline.getContents());
+        return ResponseEntity.ok(timeline);
+    }
+}
@@ -1,9 +1,24 @@
 package com.itda.controller;
 
+import com.itda.dto.ContentBrowseResponse;
+import com.itda.dto.ContentChangesResponse;
+import com.itda.dto.ContentDetailResponse;
+import com.itda.dto.ContentPatchRequest;
 import com.itda.dto.ContentRequest;
 import com.itda.dto.ContentResponse;
+import com.itda.dto.SuggestionResponse;
+import com.itda.dto.TrendingKeywordResponse;
 import com.itda.entity.User;
+import com.itda.security.JwtAuthenticationFilter;
+import com.itda.service.ContentChangeFeedService;
+import com.itda.service.ContentDetailService;
+import com.itda.service.ContentPatchService;
 import com.itda.service.ContentService;
+import com.itda.service.ContentVersionService;
+import com.itda.service.ResponseBytesCache;
+import com.itda.service.SearchHistoryService;
+import com.itda.service.StorageQuotaService;
+import com.itda.service.StorageService;
 import com.itda.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,14 +26,24 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 @Slf4j
 @RestController
@@ -27,8 +52,17 @@ import java.util.List;
 @CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000", "http://localhost:15173"})
 public class ContentController {
 
+    private static final int MAX_BATCH_IDS = 100;
+
     private final ContentService contentService;
+    private final ContentPatchService contentPatchService;
+    private final ContentDetailService contentDetailService;
+    private final ContentChangeFeedService contentChangeFeedService;
     private final UserService userService;
+    private final SearchHistoryService searchHistoryService;
+    private final StorageService storageService;
+    private final ContentVersionService contentVersionService;
+    private final ResponseBytesCache responseBytesCache;
 
     /**
      * 인증된 사용자 정보를 가져오는 헬퍼 메서드
@@ -43,6 +77,65 @@ public class ContentController {
         return user.getUserId();
     }
 
+    /**
+     * 로그인한 사용자명 (비로그인이면 null, DB 조회 없음)
+     */
+    private String getAuthenticatedUsernameOrNull() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    /**
+     * 세대 기반 ETag 응답 (매번 재검증, 사용자별 응답이므로 공유 캐시 금지)
+     */
+    private <T> ResponseEntity<T> withEtag(String etag, T body) {
+        if (etag == null) {
+            return ResponseEntity.ok(body);
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(etag)
+                .body(body);
+    }
+
+    /**
+     * 직렬화된 JSON 바이트 캐시로 응답 (ETag 세대가 키에 포함되므로 변경 시 자동으로 새 키)
+     * - etag는 loader보다 먼저 읽는다 (세대가 오르기 전에 원본 캐시가 비워지므로, 새 세대 키에 이전 목록이 들어가지 않음)
+     */
+    private ResponseEntity<?> cachedJson(String name, String key, String etag, WebRequest webRequest,
+                                         Supplier<?> loader) {
+        if (etag == null) {
+            return ResponseEntity.ok(loader.get());
+        }
+        ResponseBytesCache.CachedJson json = responseBytesCache.get(name, etag + ":" + key, loader);
+        String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean sendGzip = json.gzipped() && acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(etag);
+        if (sendGzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(sendGzip ? json.bytes() : json.plainBytes());
+    }
+
+    /**
+     * 로그인 사용자면 카드 목록에 보관함 여부 일괄 표시
+     */
+    private void applySavedFlags(List<ContentResponse> contents) {
+        String username = getAuthenticatedUsernameOrNull();
+        if (username != null) {
+            storageService.applySavedFlags(userService.findByUsername(username).getUserId(), contents);
+        }
+    }
+
     /**
      * 콘텐츠 등록
      */
@@ -58,6 +151,9 @@ public class ContentController {
         try {
             ContentResponse response = contentService.createContent(request, file, thumbnail, userId);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (StorageQuotaService.QuotaExceededException e) {
+            log.warn("콘텐츠 등록 거절: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
         } catch (Exception e) {
             log.error("콘텐츠 등록 실패: {}", e.getMessage(), e);
             throw new RuntimeException("콘텐츠 등록에 실패했습니다: " + e.getMessage());
@@ -83,12 +179,40 @@ public class ContentController {
         } catch (IllegalArgumentException e) {
             log.error("콘텐츠 수정 실패: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("콘텐츠 수정 충돌: contentId={}", contentId);
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (StorageQuotaService.QuotaExceededException e) {
+            log.warn("콘텐츠 수정 거절: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
         } catch (Exception e) {
             log.error("콘텐츠 수정 실패: {}", e.getMessage(), e);
             throw new RuntimeException("콘텐츠 수정에 실패했습니다: " + e.getMessage());
         }
     }
 
+    /**
+     * 콘텐츠 부분 수정 (보낸 항목만 변경, version을 보내면 그사이 다른 수정이 있을 때 409)
+     */
+    @PatchMapping("/{contentId}")
+    public ResponseEntity<ContentResponse> patchContent(
+            @PathVariable Long contentId,
+            @RequestBody ContentPatchRequest request) {
+
+        Long userId = getAuthenticatedUserId();
+        log.info("콘텐츠 부분 수정 요청: contentId={}, userId={}", contentId, userId);
+
+        try {
+            return ResponseEntity.ok(contentPatchService.patch(contentId, request, userId));
+        } catch (IllegalArgumentException e) {
+            log.error("콘텐츠 부분 수정 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("콘텐츠 부분 수정 충돌: contentId={}, version={}", contentId, request.getVersion());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
     /**
      * 콘텐츠 조회 (단건)
      */
@@ -105,6 +229,40 @@ public class ContentController {
         }
     }
 
+    /**
+     * 콘텐츠 상세 묶음 조회 (콘텐츠 + 보조자료 + 작성자 + 채널, 일부가 늦으면 missingParts로 표시)
+     */
+    @GetMapping("/{contentId}/detail")
+    public ResponseEntity<ContentDetailResponse> getContentDetail(@PathVariable Long contentId) {
+        log.info("콘텐츠 상세 조회 요청: contentId={}", contentId);
+
+        try {
+            return ResponseEntity.ok(contentDetailService.getDetail(contentId));
+        } catch (IllegalArgumentException e) {
+            log.error("콘텐츠 상세 조회 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
+    /**
+     * 여러 콘텐츠 한 번에 조회 (카드 채우기용, 공개 콘텐츠와 본인 콘텐츠만)
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<ContentResponse>> getContents(@RequestParam List<Long> ids, WebRequest webRequest) {
+        if (ids.size() > MAX_BATCH_IDS) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Long viewerId = (Long) webRequest.getAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        List<ContentResponse> contents = contentService.getContents(ids).stream()
+                .filter(content -> "public".equals(content.getPublicStatus())
+                        || (viewerId != null && viewerId.equals(content.getUserId())))
+                .toList();
+        applySavedFlags(contents);
+        return ResponseEntity.ok(contents);
+    }
+
     /**
      * 콘텐츠 삭제
      */
@@ -127,20 +285,51 @@ public class ContentController {
      * 사용자별 콘텐츠 목록 조회
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<Page<ContentResponse>> getContentsByUser(
+    public ResponseEntity<?> getContentsByUser(
             @PathVariable Long userId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "DESC") String direction) {
+            @RequestParam(defaultValue = "DESC") String direction,
+            WebRequest webRequest) {
 
         log.info("사용자별 콘텐츠 목록 조회: userId={}, page={}, size={}", userId, page, size);
 
+        // 세대가 같으면 DB 조회/직렬화 없이 304
+        String etag = contentVersionService.userContentsTag(userId);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         Sort.Direction sortDirection = Sort.Direction.fromString(direction);
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
 
-        Page<ContentResponse> contents = contentService.getContentsByUser(userId, pageable);
-        return ResponseEntity.ok(contents);
+        String key = userId + ":" + page + ":" + size + ":" + sortBy + ":" + sortDirection;
+        return cachedJson("userContents", key, etag, webRequest,
+                () -> contentService.getContentsByUser(userId, pageable));
+    }
+
+    /**
+     * 사용자별 콘텐츠 변경 피드 (since 토큰 이후 등록/수정/삭제분만, 토큰 없으면 전체부터)
+     */
+    @GetMapping("/user/{userId}/changes")
+    public ResponseEntity<ContentChangesResponse> getContentChanges(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "200") int size,
+            WebRequest webRequest) {
+
+        log.info("콘텐츠 변경 피드 조회: userId={}, since={}, size={}", userId, since, size);
+
+        Long viewerId = (Long) webRequest.getAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        int pageSize = Math.max(1, Math.min(size, ContentChangeFeedService.MAX_PAGE_SIZE));
+        try {
+            return ResponseEntity.ok(contentChangeFeedService.getChanges(userId, since, pageSize, userId.equals(viewerId)));
+        } catch (IllegalArgumentException e) {
+            log.error("콘텐츠 변경 피드 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
@@ -151,15 +340,25 @@ public class ContentController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "DESC") String direction) {
+            @RequestParam(defaultValue = "DESC") String direction,
+            WebRequest webRequest) {
 
         log.info("공개 콘텐츠 목록 조회: page={}, size={}", page, size);
 
+        // 로그인 사용자는 보관함 표시가 달라지므로 사용자별 ETag
+        Long viewerId = (Long) webRequest.getAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        String etag = contentVersionService.publicContentsTag(viewerId);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         Sort.Direction sortDirection = Sort.Direction.fromString(direction);
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
 
         Page<ContentResponse> contents = contentService.getPublicContents(pageable);
-        return ResponseEntity.ok(contents);
+        applySavedFlags(contents.getContent());
+        return withEtag(etag, contents);
     }
 
     /**
@@ -179,6 +378,7 @@ public class ContentController {
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
 
         Page<ContentResponse> contents = contentService.getContentsByChannel(channelId, pageable);
+        applySavedFlags(contents.getContent());
         return ResponseEntity.ok(contents);
     }
 
@@ -199,6 +399,7 @@ public class ContentController {
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
 
         Page<ContentResponse> contents = contentService.getContentsByType(contentType, pageable);
+        applySavedFlags(contents.getContent());
         return ResponseEntity.ok(contents);
     }
 
@@ -230,9 +431,66 @@ public class ContentController {
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
 
         Page<ContentResponse> contents = contentService.searchByKeyword(keyword, pageable);
+        searchHistoryService.record(getAuthenticatedUsernameOrNull(), keyword);
+        applySavedFlags(contents.getContent());
         return ResponseEntity.ok(contents);
     }
 
+    /**
+     * 인기 검색어 (최근 1시간)
+     */
+    @GetMapping("/search/trending")
+    public ResponseEntity<List<TrendingKeywordResponse>> getTrendingKeywords(
+            @RequestParam(defaultValue = "10") int size) {
+
+        List<TrendingKeywordResponse> keywords = searchHistoryService.getTrendingKeywords(size);
+        return ResponseEntity.ok(keywords);
+    }
+
+    /**
+     * 검색어 자동완성 (초성 검색 지원, 예: q=ㅅㅎ)
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionResponse>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int size) {
+
+        List<SuggestionResponse> suggestions = contentService.suggest(q, size);
+        return ResponseEntity.ok(suggestions);
+    }
+
+    /**
+     * 교육과정 탐색 (패싯 필터 + 패싯별 개수)
+     * - 같은 항목에 여러 값을 주면 OR (예: subject=math,science)
+     */
+    @GetMapping("/browse")
+    public ResponseEntity<ContentBrowseResponse> browseContents(
+            @RequestParam(required = false) List<String> schoolLevel,
+            @RequestParam(required = false) List<String> grade,
+            @RequestParam(required = false) List<String> semester,
+            @RequestParam(required = false) List<String> subject,
+            @RequestParam(required = false) List<String> contentType,
+            @RequestParam(required = false) List<String> contentFormat,
+            @RequestParam(required = false) List<String> usageCondition,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Map<String, List<String>> filters = new LinkedHashMap<>();
+        filters.put("schoolLevel", schoolLevel);
+        filters.put("grade", grade);
+        filters.put("semester", semester);
+        filters.put("subject", subject);
+        filters.put("contentType", contentType);
+        filters.put("contentFormat", contentFormat);
+        filters.put("usageCondition", usageCondition);
+
+        log.info("교육과정 탐색: filters={}, page={}, size={}", filters, page, size);
+
+        ContentBrowseResponse response = contentService.browseContents(filters, page, size);
+        applySavedFlags(response.getContents());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 사용자의 폴더별 콘텐츠 조회
      */
@@ -251,8 +509,13 @@ public class ContentController {
         Sort.Direction sortDirection = Sort.Direction.fromString(direction);
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
 
-        Page<ContentResponse> contents = contentService.getContentsByUserAndFolder(userId, folderPath, pageable);
-        return ResponseEntity.ok(contents);
+        try {
+            Page<ContentResponse> contents = contentService.getContentsByUserAndFolder(userId, folderPath, pageable);
+            return ResponseEntity.ok(contents);
+        } catch (IllegalArgumentException e) {
+            log.error("사용자 폴더별 콘텐츠 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
@@ -291,11 +554,25 @@ public class ContentController {
      * 인기 콘텐츠 조회 (조회수 높은 순)
      */
     @GetMapping("/popular")
-    public ResponseEntity<List<ContentResponse>> getPopularContents(
-            @RequestParam(defaultValue = "10") int size) {
+    public ResponseEntity<?> getPopularContents(
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
         log.info("인기 콘텐츠 조회: size={}", size);
 
+        Long viewerId = (Long) webRequest.getAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        String etag = contentVersionService.publicContentsTag(viewerId);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        // 비로그인 응답은 모두 같으므로 바이트 캐시, 로그인 사용자는 보관함 표시 때문에 매번 직렬화
+        if (viewerId == null) {
+            return cachedJson("popularContents", String.valueOf(size), etag, webRequest,
+                    () -> contentService.getPopularContents(size));
+        }
         List<ContentResponse> contents = contentService.getPopularContents(size);
-        return ResponseEntity.ok(contents);
+        applySavedFlags(contents);
+        return withEtag(etag, contents);
     }
 }
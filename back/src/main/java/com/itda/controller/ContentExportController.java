@@ -0,0 +1,73 @@
+package com.itda.controller;
+
+import com.itda.service.ContentExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * 콘텐츠 전체 내보내기 (관리자 전용, SecurityConfig에서 /api/admin/** 를 ADMIN으로 제한)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/contents")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000", "http://localhost:15173"})
+public class ContentExportController {
+
+    private static final String RETRY_AFTER_SECONDS = "30";
+
+    private final ContentExportService contentExportService;
+
+    /**
+     * 전체 콘텐츠 CSV/NDJSON 다운로드 (gzip=true면 .gz 파일로)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+
+        ContentExportService.Format exportFormat;
+        try {
+            exportFormat = ContentExportService.Format.of(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        log.info("콘텐츠 내보내기 요청: format={}, gzip={}", exportFormat, gzip);
+
+        if (!contentExportService.tryAcquire()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .build();
+        }
+
+        StreamingResponseBody body = out -> {
+            try {
+                contentExportService.export(exportFormat, gzip, out);
+            } catch (IOException e) {
+                // 대부분 클라이언트 연결 종료
+                log.info("콘텐츠 내보내기 중단: reason={}", e.getMessage());
+            } finally {
+                contentExportService.release();
+            }
+        };
+
+        String filename = "contents-" + LocalDate.now() + "." + exportFormat.extension() + (gzip ? ".gz" : "");
+        MediaType mediaType = gzip
+                ? MediaType.valueOf("application/gzip")
+                : MediaType.parseMediaType(exportFormat.mediaType() + ";charset=UTF-8");
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
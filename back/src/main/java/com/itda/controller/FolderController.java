@@ -0,0 +1,116 @@
+package com.itda.controller;
+
+import com.itda.dto.FolderNodeResponse;
+import com.itda.dto.FolderRequest;
+import com.itda.entity.User;
+import com.itda.service.FolderService;
+import com.itda.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 내 보관함 폴더
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/folders")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000", "http://localhost:15173"})
+public class FolderController {
+
+    private final FolderService folderService;
+    private final UserService userService;
+
+    /**
+     * 인증된 사용자 정보를 가져오는 헬퍼 메서드
+     */
+    private Long getAuthenticatedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new RuntimeException("인증되지 않은 사용자입니다");
+        }
+        String username = authentication.getName();
+        User user = userService.findByUsername(username);
+        return user.getUserId();
+    }
+
+    /**
+     * 폴더 트리 (폴더별 항목 수/용량, 하위 합계 포함)
+     */
+    @GetMapping("/tree")
+    public ResponseEntity<FolderNodeResponse> getTree() {
+        Long userId = getAuthenticatedUserId();
+        return ResponseEntity.ok(folderService.getTree(userId));
+    }
+
+    /**
+     * 빈 폴더 생성
+     */
+    @PostMapping
+    public ResponseEntity<Void> createFolder(@RequestBody FolderRequest request) {
+        Long userId = getAuthenticatedUserId();
+        try {
+            folderService.createFolder(userId, request.getPath());
+            return ResponseEntity.status(HttpStatus.CREATED).build();
+        } catch (IllegalArgumentException e) {
+            log.error("폴더 생성 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * 폴더 이동 (하위 폴더/콘텐츠 포함)
+     */
+    @PostMapping("/move")
+    public ResponseEntity<Map<String, Integer>> moveFolder(@RequestBody FolderRequest request) {
+        Long userId = getAuthenticatedUserId();
+        log.info("폴더 이동 요청: userId={}, from={}, to={}", userId, request.getFromPath(), request.getToPath());
+
+        try {
+            int moved = folderService.moveFolder(userId, request.getFromPath(), request.getToPath());
+            return ResponseEntity.ok(Map.of("movedCount", moved));
+        } catch (IllegalArgumentException e) {
+            log.error("폴더 이동 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * 폴더 이름 변경
+     */
+    @PostMapping("/rename")
+    public ResponseEntity<Map<String, Integer>> renameFolder(@RequestBody FolderRequest request) {
+        Long userId = getAuthenticatedUserId();
+        log.info("폴더 이름 변경 요청: userId={}, path={}, newName={}", userId, request.getPath(), request.getNewName());
+
+        try {
+            int moved = folderService.renameFolder(userId, request.getPath(), request.getNewName());
+            return ResponseEntity.ok(Map.of("movedCount", moved));
+        } catch (IllegalArgumentException e) {
+            log.error("폴더 이름 변경 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * 빈 폴더 삭제
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> deleteFolder(@RequestParam String path) {
+        Long userId = getAuthenticatedUserId();
+        try {
+            folderService.deleteFolder(userId, path);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            log.error("폴더 삭제 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.itda.controller;
+
+import com.itda.dto.NotificationResponse;
+import com.itda.entity.User;
+import com.itda.service.NotificationService;
+import com.itda.service.UserService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000", "http://localhost:15173"})
+public class NotificationController {
+
+    private final NotificationService notificationService;
+    private final UserService userService;
+
+    /**
+     * 인증된 사용자 정보를 가져오는 헬퍼 메서드
+     */
+    private Long getAuthenticatedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new RuntimeException("인증되지 않은 사용자입니다");
+        }
+        String username = authentication.getName();
+        User user = userService.findByUsername(username);
+        return user.getUserId();
+    }
+
+    /**
+     * 실시간 알림 구독 (SSE)
+     * - EventSource는 헤더를 지정할 수 없으므로 토큰은 ?token= 으로도 받는다
+     * - 재연결 시 브라우저가 보내는 Last-Event-ID 이후 알림부터 다시 전송
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(value = "lastEventId", required = false) Long lastEventIdParam,
+            HttpServletResponse response) {
+
+        Long userId = getAuthenticatedUserId();
+        Long lastEventId = lastEventIdParam;
+        if (lastEventIdHeader != null && !lastEventIdHeader.isBlank()) {
+            try {
+                lastEventId = Long.parseLong(lastEventIdHeader.trim());
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 Last-Event-ID: {}", lastEventIdHeader);
+            }
+        }
+
+        // 프록시(nginx) 응답 버퍼링 해제
+        response.setHeader("X-Accel-Buffering", "no");
+        return notificationService.connect(userId, lastEventId);
+    }
+
+    /**
+     * 알림 목록 (최신순)
+     */
+    @GetMapping
+    public ResponseEntity<Page<NotificationResponse>> getNotifications(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Long userId = getAuthenticatedUserId();
+        Page<NotificationResponse> notifications = notificationService.getNotifications(userId, PageRequest.of(page, size));
+        return ResponseEntity.ok(notifications);
+    }
+
+    /**
+     * 읽지 않은 알림 수
+     */
+    @GetMapping("/unread-count")
+    public ResponseEntity<Map<String, Long>> getUnreadCount() {
+        Long userId = getAuthenticatedUserId();
+        return ResponseEntity.ok(Map.of("count", notificationService.countUnread(userId)));
+    }
+
+    /**
+     * 알림 읽음 처리
+     */
+    @PutMapping("/{notificationId}/read")
+    public ResponseEntity<Void> markRead(@PathVariable Long notificationId) {
+        Long userId = getAuthenticatedUserId();
+        try {
+            notificationService.markRead(userId, notificationId);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            log.error("알림 읽음 처리 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.itda.controller;
+
+import com.itda.dto.PackageRequest;
+import com.itda.dto.PackageResponse;
+import com.itda.entity.User;
+import com.itda.service.PackageService;
+import com.itda.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 꾸러미 (여러 콘텐츠를 수업 단위로 묶은 것)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/packages")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000", "http://localhost:15173"})
+public class PackageController {
+
+    private final PackageService packageService;
+    private final UserService userService;
+
+    /**
+     * 인증된 사용자 정보를 가져오는 헬퍼 메서드
+     */
+    private Long getAuthenticatedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new RuntimeException("인증되지 않은 사용자입니다");
+        }
+        String username = authentication.getName();
+        User user = userService.findByUsername(username);
+        return user.getUserId();
+    }
+
+    /**
+     * 로그인 사용자 ID (비로그인이면 null)
+     */
+    private Long getAuthenticatedUserIdOrNull() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return userService.findByUsername(authentication.getName()).getUserId();
+    }
+
+    /**
+     * 꾸러미 상세 (구성 콘텐츠 포함)
+     */
+    @GetMapping("/{packageId}")
+    public ResponseEntity<PackageResponse> getPackage(@PathVariable Long packageId) {
+        try {
+            return ResponseEntity.ok(packageService.getPackage(packageId, getAuthenticatedUserIdOrNull()));
+        } catch (IllegalArgumentException e) {
+            log.error("꾸러미 조회 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
+    /**
+     * 꾸러미 생성
+     */
+    @PostMapping
+    public ResponseEntity<PackageResponse> createPackage(@RequestBody PackageRequest request) {
+        Long userId = getAuthenticatedUserId();
+        log.info("꾸러미 생성 요청: channelId={}, userId={}", request.getChannelId(), userId);
+
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(packageService.createPackage(request, userId));
+        } catch (IllegalArgumentException e) {
+            log.error("꾸러미 생성 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * 꾸러미 정보 수정
+     */
+    @PutMapping("/{packageId}")
+    public ResponseEntity<PackageResponse> updatePackage(
+            @PathVariable Long packageId,
+            @RequestBody PackageRequest request) {
+
+        Long userId = getAuthenticatedUserId();
+        try {
+            return ResponseEntity.ok(packageService.updatePackage(packageId, request, userId));
+        } catch (IllegalArgumentException e) {
+            log.error("꾸러미 수정 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * 구성 콘텐츠 교체 (요청 순서대로 표시)
+     */
+    @PutMapping("/{packageId}/contents")
+    public ResponseEntity<PackageResponse> replaceContents(
+            @PathVariable Long packageId,
+            @RequestBody List<Long> contentIds) {
+
+        Long userId = getAuthenticatedUserId();
+        try {
+            return ResponseEntity.ok(packageService.replaceContents(packageId, contentIds, userId));
+        } catch (IllegalArgumentException e) {
+            log.error("꾸러미 구성 변경 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * 꾸러미 삭제
+     */
+    @DeleteMapping("/{packageId}")
+    public ResponseEntity<Void> deletePackage(@PathVariable Long packageId) {
+        Long userId = getAuthenticatedUserId();
+        try {
+            packageService.deletePackage(packageId, userId);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            log.error("꾸러미 삭제 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+}
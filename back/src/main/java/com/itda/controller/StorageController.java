@@ -0,0 +1,141 @@
+package com.itda.controller;
+
+import com.itda.dto.ContentResponse;
+import com.itda.dto.StorageRequest;
+import com.itda.entity.Storage;
+import com.itda.entity.User;
+import com.itda.service.StorageQuotaService;
+import com.itda.service.StorageService;
+import com.itda.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Locale;
+import java.util.Set;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/storage")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000", "http://localhost:15173"})
+public class StorageController {
+
+    private final StorageService storageService;
+    private final StorageQuotaService storageQuotaService;
+    private final UserService userService;
+
+    /**
+     * 인증된 사용자 정보를 가져오는 헬퍼 메서드
+     */
+    private Long getAuthenticatedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new RuntimeException("인증되지 않은 사용자입니다");
+        }
+        String username = authentication.getName();
+        User user = userService.findByUsername(username);
+        return user.getUserId();
+    }
+
+    /**
+     * 내 업로드 사용량/한도
+     */
+    @GetMapping("/usage")
+    public ResponseEntity<StorageQuotaService.Usage> usage() {
+        Long userId = getAuthenticatedUserId();
+        return ResponseEntity.ok(storageQuotaService.getUsage(userId));
+    }
+
+    /**
+     * 보관함에 추가
+     */
+    @PostMapping
+    public ResponseEntity<Void> add(@RequestBody StorageRequest request) {
+        Long userId = getAuthenticatedUserId();
+        try {
+            storageService.add(userId, itemType(request.getItemType()), request.getItemId(), storageType(request.getStorageType()));
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            log.error("보관함 추가 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * 보관함에서 삭제
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> remove(
+            @RequestParam String itemType,
+            @RequestParam Long itemId,
+            @RequestParam(defaultValue = "BOOKMARK") String storageType) {
+
+        Long userId = getAuthenticatedUserId();
+        try {
+            storageService.remove(userId, itemType(itemType), itemId, storageType(storageType));
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            log.error("보관함 삭제 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * 보관한 콘텐츠 목록
+     */
+    @GetMapping("/contents")
+    public ResponseEntity<Page<ContentResponse>> getStoredContents(
+            @RequestParam(defaultValue = "BOOKMARK") String storageType,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Long userId = getAuthenticatedUserId();
+        try {
+            Page<ContentResponse> contents = storageService.getStoredContents(userId, storageType(storageType), PageRequest.of(page, size));
+            return ResponseEntity.ok(contents);
+        } catch (IllegalArgumentException e) {
+            log.error("보관함 조회 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * 여러 항목의 보관 여부 일괄 확인 (보관된 ID만 반환)
+     */
+    @PostMapping("/check")
+    public ResponseEntity<Set<Long>> check(@RequestBody StorageRequest request) {
+        Long userId = getAuthenticatedUserId();
+        if (request.getItemIds() == null || request.getItemIds().isEmpty()) {
+            return ResponseEntity.ok(Set.of());
+        }
+        try {
+            Set<Long> saved = storageService.findSavedIds(userId, itemType(request.getItemType()),
+                    storageType(request.getStorageType()), request.getItemIds());
+            return ResponseEntity.ok(saved);
+        } catch (IllegalArgumentException e) {
+            log.error("보관 여부 확인 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    private Storage.ItemType itemType(String value) {
+        if (value == null) {
+            return Storage.ItemType.CONTENT;
+        }
+        return Storage.ItemType.valueOf(value.toUpperCase(Locale.ROOT));
+    }
+
+    private Storage.StorageType storageType(String value) {
+        if (value == null) {
+            return Storage.StorageType.BOOKMARK;
+        }
+        return Storage.StorageType.valueOf(value.toUpperCase(Locale.ROOT));
+    }
+}
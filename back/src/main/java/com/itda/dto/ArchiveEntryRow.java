@@ -0,0 +1,19 @@
+package com.itda.dto;
+
+/**
+ * 압축 다운로드 대상 파일 프로젝션
+ */
+public interface ArchiveEntryRow {
+
+    Long getContentId();
+
+    Long getUserId();
+
+    String getPublicStatus();
+
+    String getFilePath();
+
+    String getFileName();
+
+    String getFolderPath();
+}
@@ -0,0 +1,28 @@
+package com.itda.dto;
+
+import com.itda.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthorSummary {
+
+    private Long userId;
+    private String fullName;
+    private String profileImageUrl;
+    private String schoolName;
+
+    public static AuthorSummary from(User user) {
+        return AuthorSummary.builder()
+                .userId(user.getUserId())
+                .fullName(user.getFullName())
+                .profileImageUrl(user.getProfileImageUrl())
+                .schoolName(user.getSchoolName())
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.itda.dto;
+
+import com.itda.entity.Channel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChannelStatsResponse {
+
+    private Long channelId;
+    private String channelName;
+    private String channelType;
+    private String channelImageUrl;
+
+    // 집계 (주기적으로 일괄 반영되므로 수 초 지연될 수 있음)
+    private Integer contentCount;
+    private Integer subscriberCount;
+    private Long totalViewCount;
+
+    public static ChannelStatsResponse from(Channel channel) {
+        return ChannelStatsResponse.builder()
+                .channelId(channel.getChannelId())
+                .channelName(channel.getChannelName())
+                .channelType(channel.getChannelType().name())
+                .channelImageUrl(channel.getChannelImageUrl())
+                .contentCount(channel.getContentCount())
+                .subscriberCount(channel.getSubscriberCount())
+                .totalViewCount(channel.getTotalViewCount())
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.itda.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentBrowseResponse {
+
+    // 필터 조건에 맞는 전체 콘텐츠 수
+    private long totalElements;
+    private int page;
+    private int size;
+
+    // 현재 페이지 콘텐츠 (최신 등록순)
+    private List<ContentResponse> contents;
+
+    // 패싯별 값 → 개수 (자기 패싯의 필터는 제외하고 집계)
+    private Map<String, Map<String, Integer>> facets;
+}
@@ -0,0 +1,27 @@
+package com.itda.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentChangesResponse {
+
+    // 등록/수정된 콘텐츠 (변경 순서)
+    private List<ContentResponse> upserts;
+
+    // 삭제되었거나 더 이상 볼 수 없게 된 콘텐츠 ID (로컬 사본에서 제거)
+    private List<Long> deletedIds;
+
+    // 다음 요청의 since로 전달 (변경이 없어도 항상 내려줌)
+    private String nextToken;
+
+    // true면 바로 이어서 다음 페이지 요청
+    private boolean hasMore;
+}
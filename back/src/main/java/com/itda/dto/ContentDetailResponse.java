@@ -0,0 +1,25 @@
+package com.itda.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentDetailResponse {
+
+    private ContentResponse content;
+    private List<ContentResponse> supportMaterials;
+    private AuthorSummary author;
+
+    // 채널에 등록된 콘텐츠만 (보관함 콘텐츠면 null)
+    private ChannelStatsResponse channel;
+
+    // 시간 안에 못 가져왔거나 실패한 부분 (supportMaterials, author, channel), 클라이언트는 개별 API로 다시 요청
+    private List<String> missingParts;
+}
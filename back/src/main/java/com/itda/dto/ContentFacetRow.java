@@ -0,0 +1,23 @@
+package com.itda.dto;
+
+/**
+ * 패싯 인덱스 구축용 프로젝션 (분류 컬럼만 조회)
+ */
+public interface ContentFacetRow {
+
+    Long getContentId();
+
+    String getSchoolLevel();
+
+    String getGrade();
+
+    String getSemester();
+
+    String getSubject();
+
+    String getContentType();
+
+    String getContentFormat();
+
+    String getUsageCondition();
+}
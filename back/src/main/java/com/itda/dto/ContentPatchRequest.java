@@ -0,0 +1,50 @@
+package com.itda.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 콘텐츠 부분 수정 요청 (null인 항목은 바꾸지 않음)
+ * - 파일/썸네일 교체는 PUT(multipart)으로
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentPatchRequest {
+
+    // 클라이언트가 읽은 수정 버전 (보내면 그사이 다른 수정이 있을 때 409, 없으면 최신 상태에 다시 적용)
+    private Long version;
+
+    // 기본 정보
+    private String title;
+    private String description;
+
+    // 콘텐츠 분류
+    private String contentType;
+    private String schoolLevel;
+    private String grade;
+    private String semester;
+    private String subject;
+    private String achievementStandard;
+
+    // 콘텐츠 형식
+    private String contentUrl;
+
+    // 키워드
+    private String keywords;
+
+    // 저작권 정보
+    private String copyrightType;
+    private String usageCondition;
+
+    // 공개 설정
+    private String publicStatus;
+
+    // 저장 위치
+    private String storageType;
+    private Long channelId;
+    private String folderPath;
+}
@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @Builder
@@ -36,6 +37,8 @@ public class ContentResponse {
     // 보조자료
     private Long parentContentId;
     private Boolean isSupportMaterial;
+    private Integer supportMaterialCount;
+    private List<SupportMaterialSummary> supportMaterials;
 
     // 대표 이미지
     private String thumbnailPath;
@@ -58,6 +61,9 @@ public class ContentResponse {
     // 작성자 정보
     private Long userId;
 
+    // 로그인 사용자의 보관함(북마크) 여부 (비로그인이면 null)
+    private Boolean isSaved;
+
     // 통계
     private Long viewCount;
     private Long likeCount;
@@ -67,6 +73,9 @@ public class ContentResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // 수정 버전 (PATCH 시 그대로 보내면 그사이 다른 수정이 있었는지 확인)
+    private Long version;
+
     public static ContentResponse from(Content content) {
         return ContentResponse.builder()
                 .contentId(content.getContentId())
@@ -99,6 +108,7 @@ public class ContentResponse {
                 .downloadCount(content.getDownloadCount())
                 .createdAt(content.getCreatedAt())
                 .updatedAt(content.getUpdatedAt())
+                .version(content.getVersion())
                 .build();
     }
 }
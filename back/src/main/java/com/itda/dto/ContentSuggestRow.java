@@ -0,0 +1,17 @@
+package com.itda.dto;
+
+/**
+ * 자동완성 인덱스 구축용 프로젝션
+ */
+public interface ContentSuggestRow {
+
+    Long getContentId();
+
+    String getTitle();
+
+    String getKeywords();
+
+    String getSubject();
+
+    Long getViewCount();
+}
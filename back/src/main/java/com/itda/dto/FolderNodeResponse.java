@@ -0,0 +1,30 @@
+package com.itda.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 보관함 폴더 트리 노드
+ * - itemCount/totalBytes: 폴더 직속 항목
+ * - subtreeItemCount/subtreeBytes: 하위 폴더 포함 합계
+ */
+@Data
+@NoArgsConstructor
+public class FolderNodeResponse {
+
+    private String name;
+    private String path;
+    private long itemCount;
+    private long totalBytes;
+    private long subtreeItemCount;
+    private long subtreeBytes;
+    private List<FolderNodeResponse> children = new ArrayList<>();
+
+    public FolderNodeResponse(String name, String path) {
+        this.name = name;
+        this.path = path;
+    }
+}
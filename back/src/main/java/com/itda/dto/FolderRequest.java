@@ -0,0 +1,21 @@
+package com.itda.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FolderRequest {
+
+    // 생성/이름 변경 대상 폴더
+    private String path;
+
+    // 이름 변경 시 새 이름
+    private String newName;
+
+    // 이동
+    private String fromPath;
+    private String toPath;
+}
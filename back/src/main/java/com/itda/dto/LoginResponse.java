@@ -15,6 +15,8 @@ public class LoginResponse {
     private String email;
     private String fullName;
     private String userType;
+    private String refreshToken;
+    private Long expiresIn; // 액세스 토큰 수명 (초)
 
     public LoginResponse(String token, Long userId, String username, String email, String fullName, String userType) {
         this.token = token;
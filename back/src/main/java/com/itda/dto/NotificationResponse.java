@@ -0,0 +1,38 @@
+package com.itda.dto;
+
+import com.itda.entity.Notification;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationResponse {
+
+    private Long notificationId;
+    private Long userId;
+    private String title;
+    private String message;
+    private String notificationType;
+    private Boolean isRead;
+    private Long relatedId;
+    private LocalDateTime createdAt;
+
+    public static NotificationResponse from(Notification notification) {
+        return NotificationResponse.builder()
+                .notificationId(notification.getNotificationId())
+                .userId(notification.getUserId())
+                .title(notification.getTitle())
+                .message(notification.getMessage())
+                .notificationType(notification.getNotificationType().name())
+                .isRead(notification.getIsRead())
+                .relatedId(notification.getRelatedId())
+                .createdAt(notification.getCreatedAt())
+                .build();
+    }
+}
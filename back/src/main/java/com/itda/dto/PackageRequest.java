@@ -0,0 +1,25 @@
+package com.itda.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PackageRequest {
+
+    private Long channelId;
+    private String title;
+    private String description;
+    private String subject;
+    private String gradeLevel;
+    private String lessonPlan;
+    private String thumbnailUrl;
+    private Boolean isPublic;
+
+    // 구성 콘텐츠 (이 순서대로 표시)
+    private List<Long> contentIds;
+}
@@ -0,0 +1,63 @@
+package com.itda.dto;
+
+import com.itda.entity.ContentPackage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PackageResponse {
+
+    private Long packageId;
+    private Long channelId;
+    private Long ownerId;
+    private String title;
+    private String description;
+    private String subject;
+    private String gradeLevel;
+    private String lessonPlan;
+    private String thumbnailUrl;
+    private Integer viewCount;
+    private Integer likeCount;
+    private Boolean isPublic;
+
+    // 구성 콘텐츠 요약 (표시 순서)
+    private Integer contentCount;
+    private Long totalFileSize;
+    private List<ContentResponse> contents;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static PackageResponse of(ContentPackage contentPackage, Long ownerId, List<ContentResponse> contents) {
+        long totalFileSize = contents.stream()
+                .mapToLong(content -> content.getFileSize() != null ? content.getFileSize() : 0L)
+                .sum();
+        return PackageResponse.builder()
+                .packageId(contentPackage.getPackageId())
+                .channelId(contentPackage.getChannelId())
+                .ownerId(ownerId)
+                .title(contentPackage.getTitle())
+                .description(contentPackage.getDescription())
+                .subject(contentPackage.getSubject())
+                .gradeLevel(contentPackage.getGradeLevel())
+                .lessonPlan(contentPackage.getLessonPlan())
+                .thumbnailUrl(contentPackage.getThumbnailUrl())
+                .viewCount(contentPackage.getViewCount())
+                .likeCount(contentPackage.getLikeCount())
+                .isPublic(contentPackage.getIsPublic())
+                .contentCount(contents.size())
+                .totalFileSize(totalFileSize)
+                .contents(contents)
+                .createdAt(contentPackage.getCreatedAt())
+                .updatedAt(contentPackage.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.itda.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class RefreshTokenRequest {
+    @NotBlank(message = "refresh token은 필수입니다")
+    private String refreshToken;
+}
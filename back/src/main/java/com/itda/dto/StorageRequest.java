@@ -0,0 +1,20 @@
+package com.itda.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StorageRequest {
+
+    private String itemType;    // CONTENT, PACKAGE, QUESTION, EXAM
+    private Long itemId;
+    private String storageType; // BOOKMARK, LIKE, SHARE, DOWNLOAD
+
+    // 일괄 보관 여부 확인용
+    private List<Long> itemIds;
+}
@@ -0,0 +1,11 @@
+package com.itda.dto;
+
+/**
+ * 채널 구독자 팬아웃용 프로젝션
+ */
+public interface SubscriberRow {
+
+    Long getSubscriptionId();
+
+    Long getUserId();
+}
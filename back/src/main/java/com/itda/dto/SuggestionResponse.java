@@ -0,0 +1,19 @@
+package com.itda.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionResponse {
+
+    private String text;
+
+    // title, keyword, subject
+    private String type;
+
+    // 인기도 가중치 (1 + 조회수의 합)
+    private long weight;
+}
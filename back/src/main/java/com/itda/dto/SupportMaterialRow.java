@@ -0,0 +1,27 @@
+package com.itda.dto;
+
+/**
+ * 보조자료 트리 일괄 조회용 프로젝션
+ */
+public interface SupportMaterialRow {
+
+    Long getContentId();
+
+    Long getParentContentId();
+
+    String getTitle();
+
+    String getContentFormat();
+
+    String getContentUrl();
+
+    String getFileName();
+
+    Long getFileSize();
+
+    String getFileExtension();
+
+    String getThumbnailPath();
+
+    Integer getDepth();
+}
@@ -0,0 +1,48 @@
+package com.itda.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SupportMaterialSummary {
+
+    private Long contentId;
+    private Long parentContentId;
+    private String title;
+
+    // 콘텐츠 형식
+    private String contentFormat;
+    private String contentUrl;
+    private String fileName;
+    private Long fileSize;
+    private String fileExtension;
+
+    // 대표 이미지
+    private String thumbnailPath;
+
+    // 하위 보조자료
+    @Builder.Default
+    private List<SupportMaterialSummary> supportMaterials = new ArrayList<>();
+
+    public static SupportMaterialSummary from(SupportMaterialRow row) {
+        return SupportMaterialSummary.builder()
+                .contentId(row.getContentId())
+                .parentContentId(row.getParentContentId())
+                .title(row.getTitle())
+                .contentFormat(row.getContentFormat())
+                .contentUrl(row.getContentUrl())
+                .fileName(row.getFileName())
+                .fileSize(row.getFileSize())
+                .fileExtension(row.getFileExtension())
+                .thumbnailPath(row.getThumbnailPath())
+                .build();
+    }
+}
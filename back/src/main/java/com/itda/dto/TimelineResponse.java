@@ -0,0 +1,23 @@
+package com.itda.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelineResponse {
+
+    // 구독 채널 새 콘텐츠 (최신 등록순)
+    private List<ContentResponse> contents;
+
+    // 다음 페이지 요청 시 cursor로 전달 (마지막이면 null)
+    private Long nextCursor;
+
+    private boolean hasNext;
+}
@@ -0,0 +1,16 @@
+package com.itda.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingKeywordResponse {
+
+    private String keyword;
+
+    // 집계 구간 내 검색 횟수 (근사값)
+    private long count;
+}
@@ -52,6 +52,9 @@ public class Channel {
     @Column(name = "content_count")
     private Integer contentCount = 0;
 
+    @Column(name = "total_view_count")
+    private Long totalViewCount = 0L;
+
     @CreatedDate
     @Column(name = "created_at")
     private LocalDateTime createdAt;
@@ -5,17 +5,23 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "content")
+@Table(name = "content", indexes = {
+        @Index(name = "idx_content_channel_id", columnList = "channel_id"),
+        @Index(name = "idx_content_user_folder", columnList = "user_id, folder_path"),
+        @Index(name = "idx_content_user_updated", columnList = "user_id, updated_at, content_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@SQLDelete(sql = "UPDATE content SET deleted_at = NOW() WHERE content_id = ?")
+@DynamicUpdate // 바뀐 컬럼만 UPDATE (TEXT 컬럼을 매번 다시 쓰지 않음)
+@SQLDelete(sql = "UPDATE content SET deleted_at = NOW(), updated_at = NOW(), version = version + 1 WHERE content_id = ? AND version = ?")
 public class Content {
 
     @Id
@@ -108,16 +114,21 @@ public class Content {
     @Column(name = "user_id", nullable = false)
     private Long userId;
 
-    // 통계
-    @Column(name = "view_count")
+    // 통계 (엔티티 저장에서 제외, ContentJdbcRepository의 증감 UPDATE로만 변경)
+    @Column(name = "view_count", updatable = false)
     private Long viewCount = 0L;
 
-    @Column(name = "like_count")
+    @Column(name = "like_count", updatable = false)
     private Long likeCount = 0L;
 
-    @Column(name = "download_count")
+    @Column(name = "download_count", updatable = false)
     private Long downloadCount = 0L;
 
+    // 낙관적 잠금 (수정마다 증가, 카운터 증가는 올리지 않음)
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long version;
+
     // 메타 정보
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,66 @@
+package com.itda.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 꾸러미 (여러 콘텐츠를 수업 단위로 묶은 것)
+ */
+@Entity
+@Table(name = "packages")
+@Getter
+@Setter
+@NoArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class ContentPackage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "package_id")
+    private Long packageId;
+
+    @Column(name = "channel_id", nullable = false)
+    private Long channelId;
+
+    @Column(name = "title", nullable = false, length = 200)
+    private String title;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "subject", length = 50)
+    private String subject;
+
+    @Column(name = "grade_level", length = 20)
+    private String gradeLevel;
+
+    @Column(name = "lesson_plan", columnDefinition = "TEXT")
+    private String lessonPlan;
+
+    @Column(name = "thumbnail_url", length = 500)
+    private String thumbnailUrl;
+
+    @Column(name = "view_count")
+    private Integer viewCount = 0;
+
+    @Column(name = "like_count")
+    private Integer likeCount = 0;
+
+    @Column(name = "is_public")
+    private Boolean isPublic = true;
+
+    @CreatedDate
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,46 @@
+package com.itda.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관함 폴더 (materialized path + 폴더 직속 항목 수/용량)
+ * - 하위 폴더 합계는 트리 조회 시 메모리에서 합산
+ * - 항목 수/용량은 FolderJdbcRepository에서 증감분으로만 갱신
+ */
+@Entity
+@Table(name = "folders",
+        uniqueConstraints = @UniqueConstraint(name = "uk_folders_user_path", columnNames = {"user_id", "path"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class Folder {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "folder_id")
+    private Long folderId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 정규화된 경로 ("수학/1단원", 최상위는 빈 문자열)
+    @Column(name = "path", nullable = false, length = 500)
+    private String path;
+
+    @Column(name = "item_count", nullable = false)
+    private Long itemCount = 0L;
+
+    @Column(name = "total_bytes", nullable = false)
+    private Long totalBytes = 0L;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
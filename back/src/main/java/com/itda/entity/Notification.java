@@ -0,0 +1,48 @@
+package com.itda.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "notifications",
+        indexes = @Index(name = "idx_notifications_user_id", columnList = "user_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class Notification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "notification_id")
+    private Long notificationId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "title", nullable = false, length = 200)
+    private String title;
+
+    @Column(name = "message", nullable = false, columnDefinition = "TEXT")
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "notification_type", nullable = false)
+    private NotificationType notificationType;
+
+    @Column(name = "is_read")
+    private Boolean isRead = false;
+
+    @Column(name = "related_id")
+    private Long relatedId;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    public enum NotificationType {
+        SYSTEM, CHANNEL, CONTENT, MESSAGE
+    }
+}
@@ -0,0 +1,57 @@
+package com.itda.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 꾸러미-콘텐츠 연결 (sort_order 순으로 표시)
+ */
+@Entity
+@Table(name = "package_contents",
+        indexes = @Index(name = "idx_package_contents_content_id", columnList = "content_id"))
+@IdClass(PackageContent.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class PackageContent {
+
+    @Id
+    @Column(name = "package_id")
+    private Long packageId;
+
+    @Id
+    @Column(name = "content_id")
+    private Long contentId;
+
+    @Column(name = "sort_order", nullable = false)
+    private Integer sortOrder = 0;
+
+    @CreatedDate
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    public PackageContent(Long packageId, Long contentId, Integer sortOrder) {
+        this.packageId = packageId;
+        this.contentId = contentId;
+        this.sortOrder = sortOrder;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long packageId;
+        private Long contentId;
+    }
+}
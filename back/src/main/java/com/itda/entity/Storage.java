@@ -0,0 +1,60 @@
+package com.itda.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "storage",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_item_type",
+                columnNames = {"user_id", "item_type", "item_id", "storage_type"}),
+        indexes = @Index(name = "idx_storage_item", columnList = "item_type, item_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class Storage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "storage_id")
+    private Long storageId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "item_type", nullable = false)
+    private ItemType itemType;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "storage_type", nullable = false)
+    private StorageType storageType;
+
+    @CreatedDate
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    public Storage(Long userId, ItemType itemType, Long itemId, StorageType storageType) {
+        this.userId = userId;
+        this.itemType = itemType;
+        this.itemId = itemId;
+        this.storageType = storageType;
+    }
+
+    public enum ItemType {
+        CONTENT, PACKAGE, QUESTION, EXAM
+    }
+
+    public enum StorageType {
+        BOOKMARK, LIKE, SHARE, DOWNLOAD
+    }
+}
@@ -0,0 +1,37 @@
+package com.itda.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 업로드 사용량 (삭제되지 않은 콘텐츠의 파일 용량 합계/항목 수)
+ * - StorageUsageJdbcRepository에서 증감분으로만 갱신하고, 주기적인 정합성 보정으로 실제 값에 맞춘다
+ */
+@Entity
+@Table(name = "user_storage_usage")
+@Getter
+@Setter
+@NoArgsConstructor
+public class StorageUsage {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "used_bytes", nullable = false)
+    private Long usedBytes = 0L;
+
+    @Column(name = "item_count", nullable = false)
+    private Long itemCount = 0L;
+
+    // 사용자별 한도 (null이면 app.storage-quota.default-bytes)
+    @Column(name = "quota_bytes")
+    private Long quotaBytes;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
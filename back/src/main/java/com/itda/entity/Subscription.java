@@ -0,0 +1,41 @@
+package com.itda.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "subscriptions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_channel", columnNames = {"user_id", "channel_id"}),
+        indexes = @Index(name = "idx_subscriptions_channel_id", columnList = "channel_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class Subscription {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "subscription_id")
+    private Long subscriptionId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "channel_id", nullable = false)
+    private Long channelId;
+
+    @CreatedDate
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    public Subscription(Long userId, Long channelId) {
+        this.userId = userId;
+        this.channelId = channelId;
+    }
+}
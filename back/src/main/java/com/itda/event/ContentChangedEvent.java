@@ -0,0 +1,46 @@
+package com.itda.event;
+
+import com.itda.dto.ContentResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 콘텐츠 변경 이벤트 (등록/수정/삭제)
+ * - 인덱스, 캐시 등 파생 데이터는 이 이벤트를 구독해서 갱신한다
+ */
+@Getter
+@AllArgsConstructor
+public class ContentChangedEvent {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final ChangeType changeType;
+
+    // 변경 전 상태 (등록이면 null)
+    private final ContentResponse before;
+
+    // 변경 후 상태 (삭제면 null)
+    private final ContentResponse after;
+
+    public static ContentChangedEvent created(ContentResponse after) {
+        return new ContentChangedEvent(ChangeType.CREATED, null, after);
+    }
+
+    public static ContentChangedEvent updated(ContentResponse before, ContentResponse after) {
+        return new ContentChangedEvent(ChangeType.UPDATED, before, after);
+    }
+
+    public static ContentChangedEvent deleted(ContentResponse before) {
+        return new ContentChangedEvent(ChangeType.DELETED, before, null);
+    }
+
+    public Long getContentId() {
+        return after != null ? after.getContentId() : before.getContentId();
+    }
+
+    public Long getUserId() {
+        return after != null ? after.getUserId() : before.getUserId();
+    }
+}
@@ -0,0 +1,14 @@
+package com.itda.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 꾸러미 정보/구성 변경 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class PackageChangedEvent {
+
+    private final Long packageId;
+}
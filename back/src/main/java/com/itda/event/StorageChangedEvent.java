@@ -0,0 +1,24 @@
+package com.itda.event;
+
+import com.itda.entity.Storage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 보관함 추가/삭제 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class StorageChangedEvent {
+
+    private final Long userId;
+
+    private final Storage.ItemType itemType;
+
+    private final Long itemId;
+
+    private final Storage.StorageType storageType;
+
+    // true: 추가, false: 삭제
+    private final boolean added;
+}
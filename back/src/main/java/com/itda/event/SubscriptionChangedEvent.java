@@ -0,0 +1,19 @@
+package com.itda.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 채널 구독/구독 취소 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class SubscriptionChangedEvent {
+
+    private final Long userId;
+
+    private final Long channelId;
+
+    // true면 구독, false면 구독 취소
+    private final boolean subscribed;
+}
@@ -0,0 +1,19 @@
+package com.itda.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 사용자 콘텐츠 일괄 변경 이벤트 (폴더 이동처럼 건별 ContentChangedEvent 없이 여러 콘텐츠가 바뀐 경우)
+ */
+@Getter
+@AllArgsConstructor
+public class UserContentsChangedEvent {
+
+    private final Long userId;
+
+    // 바뀐 콘텐츠 ID (단건 캐시 무효화용)
+    private final List<Long> contentIds;
+}
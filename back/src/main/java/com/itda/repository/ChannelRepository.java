@@ -0,0 +1,16 @@
+package com.itda.repository;
+
+import com.itda.entity.Channel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ChannelRepository extends JpaRepository<Channel, Long> {
+
+    @Query("SELECT c.owner.userId FROM Channel c WHERE c.channelId = :channelId")
+    Optional<Long> findOwnerId(@Param("channelId") Long channelId);
+}
@@ -0,0 +1,59 @@
+package com.itda.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 채널 집계 컬럼 갱신 (channels.content_count, subscriber_count, total_view_count)
+ * - 누적된 증감분은 JDBC 배치로 한 번에 반영
+ * - 정합성 보정은 channel_id 범위 단위로 실제 값을 다시 계산해 덮어씀
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChannelStatsJdbcRepository {
+
+    private static final String APPLY_DELTA_SQL =
+            "UPDATE channels SET " +
+            "content_count = GREATEST(content_count + ?, 0), " +
+            "subscriber_count = GREATEST(subscriber_count + ?, 0), " +
+            "total_view_count = GREATEST(total_view_count + ?, 0) " +
+            "WHERE channel_id = ?";
+
+    private static final String RECONCILE_SQL =
+            "UPDATE channels ch SET " +
+            "content_count = (SELECT COUNT(*) FROM content c WHERE c.channel_id = ch.channel_id " +
+            "AND c.deleted_at IS NULL AND (c.is_support_material IS NULL OR c.is_support_material = false)), " +
+            "total_view_count = (SELECT COALESCE(SUM(c.view_count), 0) FROM content c WHERE c.channel_id = ch.channel_id " +
+            "AND c.deleted_at IS NULL AND (c.is_support_material IS NULL OR c.is_support_material = false)), " +
+            "subscriber_count = (SELECT COUNT(*) FROM subscriptions s WHERE s.channel_id = ch.channel_id) " +
+            "WHERE ch.channel_id > ? AND ch.channel_id <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void applyDeltas(List<Delta> deltas) {
+        jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, deltas, deltas.size(), (statement, delta) -> {
+            statement.setLong(1, delta.contentCount());
+            statement.setLong(2, delta.subscriberCount());
+            statement.setLong(3, delta.viewCount());
+            statement.setLong(4, delta.channelId());
+        });
+    }
+
+    public long findMaxChannelId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(channel_id) FROM channels", Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+
+    /**
+     * (afterId, toId] 범위 채널의 집계 컬럼을 실제 값으로 덮어씀
+     */
+    public int reconcileRange(long afterId, long toId) {
+        return jdbcTemplate.update(RECONCILE_SQL, afterId, toId);
+    }
+
+    public record Delta(Long channelId, long contentCount, long subscriberCount, long viewCount) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.itda.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+
+/**
+ * 콘텐츠 전체 내보내기용 스트리밍 조회
+ * - MySQL Connector/J는 전진 전용/읽기 전용 문장에 fetchSize = Integer.MIN_VALUE일 때만 행을 하나씩 받아온다
+ *   (그 외에는 결과 전체를 메모리에 올림), 엔티티/영속성 컨텍스트 없이 행마다 콜백으로 넘긴다
+ * - 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로 이 조회만 단독으로 사용
+ */
+@Repository
+public class ContentExportJdbcRepository {
+
+    public static final String[] COLUMNS = {
+            "content_id", "title", "content_type", "school_level", "grade", "semester", "subject",
+            "content_format", "file_name", "file_size", "public_status", "storage_type", "channel_id",
+            "folder_path", "user_id", "view_count", "like_count", "download_count", "created_at", "updated_at"
+    };
+
+    // PK 순서라 정렬 없이 클러스터드 인덱스를 그대로 읽는다
+    private static final String EXPORT_SQL =
+            "SELECT " + String.join(", ", COLUMNS) + " FROM content WHERE deleted_at IS NULL ORDER BY content_id";
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public ContentExportJdbcRepository(DataSource dataSource) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /**
+     * 삭제되지 않은 콘텐츠를 content_id 순으로 한 행씩 전달 (컬럼 순서는 COLUMNS)
+     */
+    public void streamAll(RowCallbackHandler handler) {
+        streamingJdbcTemplate.query(EXPORT_SQL, handler);
+    }
+}
@@ -0,0 +1,57 @@
+package com.itda.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * content 카운터 컬럼 배치 갱신 (엔티티를 읽고 저장하지 않고 증감분만 반영)
+ * - updated_at을 그대로 지정해 ON UPDATE 자동 갱신을 막는다 (카운터 변경은 변경 피드에 나오지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ContentJdbcRepository {
+
+    private static final String INCREMENT_VIEW_COUNT_SQL =
+            "UPDATE content SET view_count = view_count + ?, updated_at = updated_at WHERE content_id = ?";
+    private static final String INCREMENT_LIKE_COUNT_SQL =
+            "UPDATE content SET like_count = like_count + 1, updated_at = updated_at WHERE content_id = ? AND deleted_at IS NULL";
+    private static final String INCREMENT_DOWNLOAD_COUNT_SQL =
+            "UPDATE content SET download_count = download_count + 1, updated_at = updated_at WHERE content_id = ? AND deleted_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void incrementViewCounts(List<CounterDelta> deltas) {
+        jdbcTemplate.batchUpdate(INCREMENT_VIEW_COUNT_SQL, deltas, deltas.size(), (statement, delta) -> {
+            statement.setLong(1, delta.delta());
+            statement.setLong(2, delta.contentId());
+        });
+    }
+
+    /**
+     * 좋아요 수 +1 (반영된 행 수, 없거나 삭제된 콘텐츠면 0)
+     */
+    public int incrementLikeCount(Long contentId) {
+        return jdbcTemplate.update(INCREMENT_LIKE_COUNT_SQL, contentId);
+    }
+
+    /**
+     * 다운로드 수 +1 (반영된 행 수, 없거나 삭제된 콘텐츠면 0)
+     */
+    public int incrementDownloadCount(Long contentId) {
+        return jdbcTemplate.update(INCREMENT_DOWNLOAD_COUNT_SQL, contentId);
+    }
+
+    /**
+     * DB 현재 시각 (soft delete/폴더 이동이 updated_at에 쓰는 NOW()와 같은 시계)
+     */
+    public LocalDateTime currentTimestamp() {
+        return jdbcTemplate.queryForObject("SELECT NOW()", LocalDateTime.class);
+    }
+
+    public record CounterDelta(Long contentId, long delta) {
+    }
+}
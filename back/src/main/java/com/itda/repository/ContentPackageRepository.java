@@ -0,0 +1,9 @@
+package com.itda.repository;
+
+import com.itda.entity.ContentPackage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ContentPackageRepository extends JpaRepository<ContentPackage, Long> {
+}
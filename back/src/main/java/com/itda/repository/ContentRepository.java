@@ -1,5 +1,9 @@
 package com.itda.repository;
 
+import com.itda.dto.ArchiveEntryRow;
+import com.itda.dto.ContentFacetRow;
+import com.itda.dto.ContentSuggestRow;
+import com.itda.dto.SupportMaterialRow;
 import com.itda.entity.Content;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,6 +12,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,6 +22,18 @@ public interface ContentRepository extends JpaRepository<Content, Long> {
     // 사용자별 콘텐츠 조회
     Page<Content> findByUserId(Long userId, Pageable pageable);
 
+    // 사용자별 변경 피드 (updated_at, content_id 순 키셋 페이지, until 이전에 바뀐 것만)
+    @Query("SELECT c FROM Content c WHERE c.userId = :userId AND c.updatedAt <= :until " +
+            "AND (c.updatedAt > :sinceAt OR (c.updatedAt = :sinceAt AND c.contentId > :sinceId)) " +
+            "AND (:includeDeleted = true OR c.deletedAt IS NULL) " +
+            "ORDER BY c.updatedAt ASC, c.contentId ASC")
+    List<Content> findChangesByUser(@Param("userId") Long userId,
+                                    @Param("sinceAt") LocalDateTime sinceAt,
+                                    @Param("sinceId") Long sinceId,
+                                    @Param("until") LocalDateTime until,
+                                    @Param("includeDeleted") boolean includeDeleted,
+                                    Pageable pageable);
+
     // 공개 콘텐츠 조회
     Page<Content> findByPublicStatus(String publicStatus, Pageable pageable);
 
@@ -28,10 +46,85 @@ public interface ContentRepository extends JpaRepository<Content, Long> {
     // 보조자료 조회
     List<Content> findByParentContentId(Long parentContentId);
 
+    // 여러 부모의 보조자료 트리를 한 번에 조회 (재귀 CTE, maxDepth 단계까지)
+    @Query(value = "WITH RECURSIVE support_tree AS (" +
+            "SELECT c.content_id, c.parent_content_id, c.title, c.content_format, c.content_url, c.file_name, " +
+            "c.file_size, c.file_extension, c.thumbnail_path, 1 AS depth " +
+            "FROM content c WHERE c.parent_content_id IN (:parentIds) AND c.deleted_at IS NULL " +
+            "UNION ALL " +
+            "SELECT c.content_id, c.parent_content_id, c.title, c.content_format, c.content_url, c.file_name, " +
+            "c.file_size, c.file_extension, c.thumbnail_path, t.depth + 1 " +
+            "FROM content c JOIN support_tree t ON c.parent_content_id = t.content_id " +
+            "WHERE c.deleted_at IS NULL AND t.depth < :maxDepth) " +
+            "SELECT content_id AS contentId, parent_content_id AS parentContentId, title, " +
+            "content_format AS contentFormat, content_url AS contentUrl, file_name AS fileName, " +
+            "file_size AS fileSize, file_extension AS fileExtension, thumbnail_path AS thumbnailPath, depth " +
+            "FROM support_tree ORDER BY depth, content_id",
+            nativeQuery = true)
+    List<SupportMaterialRow> findSupportMaterialTree(@Param("parentIds") Collection<Long> parentIds,
+                                                     @Param("maxDepth") int maxDepth);
+
+    // 자신부터 위로 올라가며 상위 콘텐츠 id (재귀 CTE, maxDepth 단계까지, 보조자료 순환 참조 확인용)
+    @Query(value = "WITH RECURSIVE ancestors AS (" +
+            "SELECT c.content_id, c.parent_content_id, 1 AS depth FROM content c WHERE c.content_id = :contentId " +
+            "UNION ALL " +
+            "SELECT c.content_id, c.parent_content_id, a.depth + 1 " +
+            "FROM content c JOIN ancestors a ON c.content_id = a.parent_content_id WHERE a.depth < :maxDepth) " +
+            "SELECT content_id FROM ancestors",
+            nativeQuery = true)
+    List<Long> findAncestorIds(@Param("contentId") Long contentId, @Param("maxDepth") int maxDepth);
+
     // 키워드 검색
     @Query("SELECT c FROM Content c WHERE c.keywords LIKE %:keyword%")
     Page<Content> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
     // 사용자의 폴더별 콘텐츠 조회
     Page<Content> findByUserIdAndFolderPath(Long userId, String folderPath, Pageable pageable);
+
+    // 패싯 인덱스 구축용 공개 콘텐츠 분류 정보 (content_id 기준 청크 조회)
+    @Query("SELECT c.contentId AS contentId, c.schoolLevel AS schoolLevel, c.grade AS grade, " +
+            "c.semester AS semester, c.subject AS subject, c.contentType AS contentType, " +
+            "c.contentFormat AS contentFormat, c.usageCondition AS usageCondition " +
+            "FROM Content c WHERE c.publicStatus = 'public' AND c.deletedAt IS NULL " +
+            "AND (c.isSupportMaterial IS NULL OR c.isSupportMaterial = false) " +
+            "AND c.contentId > :afterId ORDER BY c.contentId")
+    List<ContentFacetRow> findFacetRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 자동완성 인덱스 구축용 공개 콘텐츠 제목/키워드/과목 (content_id 기준 청크 조회)
+    @Query("SELECT c.contentId AS contentId, c.title AS title, c.keywords AS keywords, " +
+            "c.subject AS subject, c.viewCount AS viewCount " +
+            "FROM Content c WHERE c.publicStatus = 'public' AND c.deletedAt IS NULL " +
+            "AND (c.isSupportMaterial IS NULL OR c.isSupportMaterial = false) " +
+            "AND c.contentId > :afterId ORDER BY c.contentId")
+    List<ContentSuggestRow> findSuggestRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 채널들의 최근 공개 콘텐츠 ID (타임라인 초기 구축용, 최신순)
+    @Query("SELECT c.contentId FROM Content c WHERE c.channelId IN :channelIds " +
+            "AND c.publicStatus = 'public' AND c.deletedAt IS NULL " +
+            "AND (c.isSupportMaterial IS NULL OR c.isSupportMaterial = false) " +
+            "ORDER BY c.contentId DESC")
+    List<Long> findRecentContentIdsByChannelIds(@Param("channelIds") Collection<Long> channelIds, Pageable pageable);
+
+    // 꾸러미 구성 콘텐츠 (꾸러미 표시 순서, 한 번의 조인 조회)
+    @Query("SELECT c FROM PackageContent pc, Content c WHERE c.contentId = pc.contentId " +
+            "AND pc.packageId = :packageId AND c.deletedAt IS NULL ORDER BY pc.sortOrder, c.contentId")
+    List<Content> findPackageMembers(@Param("packageId") Long packageId);
+
+    // 꾸러미 압축 다운로드 대상 파일 (꾸러미 표시 순서)
+    @Query("SELECT c.contentId AS contentId, c.userId AS userId, c.publicStatus AS publicStatus, " +
+            "c.filePath AS filePath, c.fileName AS fileName, c.folderPath AS folderPath " +
+            "FROM PackageContent pc, Content c WHERE c.contentId = pc.contentId AND pc.packageId = :packageId " +
+            "AND c.deletedAt IS NULL AND c.filePath IS NOT NULL ORDER BY pc.sortOrder, c.contentId")
+    List<ArchiveEntryRow> findPackageArchiveEntries(@Param("packageId") Long packageId);
+
+    // 보관함 폴더(하위 폴더 포함) 압축 다운로드 대상 파일 (최상위면 폴더 없는 콘텐츠까지)
+    @Query("SELECT c.contentId AS contentId, c.userId AS userId, c.publicStatus AS publicStatus, " +
+            "c.filePath AS filePath, c.fileName AS fileName, c.folderPath AS folderPath " +
+            "FROM Content c WHERE c.userId = :userId AND c.deletedAt IS NULL AND c.filePath IS NOT NULL " +
+            "AND (c.folderPath = :folderPath OR c.folderPath LIKE :folderPrefix ESCAPE '!' " +
+            "OR (:folderPath = '' AND c.folderPath IS NULL)) " +
+            "ORDER BY c.folderPath, c.contentId")
+    List<ArchiveEntryRow> findFolderArchiveEntries(@Param("userId") Long userId,
+                                                   @Param("folderPath") String folderPath,
+                                                   @Param("folderPrefix") String folderPrefix);
 }
@@ -0,0 +1,148 @@
+package com.itda.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 보관함 폴더 (folders) 갱신/조회
+ * - 항목 수/용량은 증감분 upsert 배치로 반영 (폴더 행이 없으면 생성)
+ * - 이동/이름 변경은 하위 경로 전체를 UPDATE 한 번으로 바꾸고, 대상 하위 트리만 content 에서 다시 집계
+ * - 하위 트리 조건은 (user_id, path) 유니크 인덱스 범위 스캔
+ */
+@Repository
+@RequiredArgsConstructor
+public class FolderJdbcRepository {
+
+    private static final String SUBTREE = "(path = ? OR path LIKE ? ESCAPE '!')";
+    private static final String CONTENT_SUBTREE = "(c.folder_path = ? OR c.folder_path LIKE ? ESCAPE '!')";
+
+    private static final String APPLY_DELTA_SQL =
+            "INSERT INTO folders (user_id, path, item_count, total_bytes, created_at, updated_at) " +
+            "VALUES (?, ?, GREATEST(?, 0), GREATEST(?, 0), NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE item_count = GREATEST(item_count + ?, 0), " +
+            "total_bytes = GREATEST(total_bytes + ?, 0), updated_at = NOW()";
+
+    private static final String RECOUNT_SELECT =
+            "INSERT INTO folders (user_id, path, item_count, total_bytes, created_at, updated_at) " +
+            "SELECT c.user_id, COALESCE(c.folder_path, ''), COUNT(*), COALESCE(SUM(c.file_size), 0), NOW(), NOW() " +
+            "FROM content c WHERE c.user_id = ? AND c.deleted_at IS NULL ";
+
+    private static final String RECOUNT_UPSERT =
+            "GROUP BY COALESCE(c.folder_path, '') " +
+            "ON DUPLICATE KEY UPDATE item_count = VALUES(item_count), total_bytes = VALUES(total_bytes), updated_at = NOW()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void applyDeltas(List<Delta> deltas) {
+        jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, deltas, deltas.size(), (statement, delta) -> {
+            statement.setLong(1, delta.userId());
+            statement.setString(2, delta.path());
+            statement.setLong(3, delta.itemCount());
+            statement.setLong(4, delta.bytes());
+            statement.setLong(5, delta.itemCount());
+            statement.setLong(6, delta.bytes());
+        });
+    }
+
+    /**
+     * 사용자의 전체 폴더 (경로순, 쿼리 한 번)
+     */
+    public List<FolderRow> findByUserId(Long userId) {
+        return jdbcTemplate.query(
+                "SELECT path, item_count, total_bytes FROM folders WHERE user_id = ? ORDER BY path",
+                (rs, rowNum) -> new FolderRow(rs.getString("path"), rs.getLong("item_count"), rs.getLong("total_bytes")),
+                userId);
+    }
+
+    /**
+     * 빈 폴더 생성 (이미 있으면 무시)
+     */
+    public void createIfAbsent(Long userId, String path) {
+        jdbcTemplate.update("INSERT IGNORE INTO folders (user_id, path, item_count, total_bytes, created_at, updated_at) " +
+                "VALUES (?, ?, 0, 0, NOW(), NOW())", userId, path);
+    }
+
+    /**
+     * 하위 트리에 (삭제되지 않은) 콘텐츠가 있는지
+     */
+    public boolean hasContents(Long userId, String path, String descendantPattern) {
+        Integer found = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM content c WHERE c.user_id = ? AND c.deleted_at IS NULL AND " + CONTENT_SUBTREE + ")",
+                Integer.class, userId, path, descendantPattern);
+        return found != null && found > 0;
+    }
+
+    /**
+     * 하위 트리의 (삭제되지 않은) 콘텐츠 ID
+     */
+    public List<Long> findContentIds(Long userId, String path, String descendantPattern) {
+        return jdbcTemplate.queryForList(
+                "SELECT c.content_id FROM content c WHERE c.user_id = ? AND c.deleted_at IS NULL AND " + CONTENT_SUBTREE,
+                Long.class, userId, path, descendantPattern);
+    }
+
+    /**
+     * 하위 트리 콘텐츠의 폴더 경로를 한 번에 변경 (from 접두사 → to, 변경 피드에 나오도록 updated_at/version 갱신)
+     * - 최상위로 옮겨져 경로가 비면 콘텐츠와 같이 NULL로 저장
+     */
+    public int moveContents(Long userId, String from, String descendantPattern, String to, int suffixStart) {
+        return jdbcTemplate.update(
+                "UPDATE content c SET c.folder_path = NULLIF(CONCAT(?, SUBSTRING(c.folder_path, ?)), ''), " +
+                "c.updated_at = NOW(), c.version = c.version + 1 " +
+                "WHERE c.user_id = ? AND " + CONTENT_SUBTREE,
+                to, suffixStart, userId, from, descendantPattern);
+    }
+
+    /**
+     * 하위 트리 폴더 행을 새 경로로 복사 (빈 폴더 보존용, 대상에 이미 있으면 무시) 후 원래 행 삭제
+     * - 최상위로 옮기면 from 자신은 최상위 행('')이 된다
+     */
+    public void moveFolders(Long userId, String from, String descendantPattern, String to, int suffixStart) {
+        jdbcTemplate.update(
+                "INSERT IGNORE INTO folders (user_id, path, item_count, total_bytes, created_at, updated_at) " +
+                "SELECT user_id, CONCAT(?, SUBSTRING(path, ?)), 0, 0, created_at, NOW() FROM folders " +
+                "WHERE user_id = ? AND " + SUBTREE,
+                to, suffixStart, userId, from, descendantPattern);
+        deleteSubtree(userId, from, descendantPattern);
+    }
+
+    public int deleteSubtree(Long userId, String path, String descendantPattern) {
+        return jdbcTemplate.update("DELETE FROM folders WHERE user_id = ? AND " + SUBTREE,
+                userId, path, descendantPattern);
+    }
+
+    /**
+     * 하위 트리의 항목 수/용량을 content 에서 다시 집계해 덮어씀
+     */
+    public void recountSubtree(Long userId, String path, String descendantPattern) {
+        jdbcTemplate.update("UPDATE folders SET item_count = 0, total_bytes = 0 WHERE user_id = ? AND " + SUBTREE,
+                userId, path, descendantPattern);
+        jdbcTemplate.update(RECOUNT_SELECT + "AND " + CONTENT_SUBTREE + " " + RECOUNT_UPSERT,
+                userId, path, descendantPattern);
+    }
+
+    /**
+     * 사용자 전체 폴더의 항목 수/용량을 다시 집계해 덮어씀
+     */
+    public void recountUser(Long userId) {
+        jdbcTemplate.update("UPDATE folders SET item_count = 0, total_bytes = 0 WHERE user_id = ?", userId);
+        jdbcTemplate.update(RECOUNT_SELECT + RECOUNT_UPSERT, userId);
+    }
+
+    /**
+     * 정합성 보정 대상 사용자 (user_id 순 청크)
+     */
+    public List<Long> findUserIdsAfter(long afterId, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT user_id FROM users WHERE user_id > ? ORDER BY user_id LIMIT ?", Long.class, afterId, limit);
+    }
+
+    public record Delta(Long userId, String path, long itemCount, long bytes) {
+    }
+
+    public record FolderRow(String path, long itemCount, long totalBytes) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.itda.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 일괄 저장 (notifications)
+ * - 다중 행 INSERT 한 문장으로 저장하고 생성된 ID를 순서대로 돌려받는다 (SSE 이벤트 ID로 사용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO notifications (user_id, title, message, notification_type, is_read, related_id, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, false, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> insertAll(List<Row> rows, LocalDateTime createdAt) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int i = 0; i < rows.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(ROW_PLACEHOLDER);
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql.toString(), Statement.RETURN_GENERATED_KEYS);
+            int index = 1;
+            for (Row row : rows) {
+                statement.setLong(index++, row.userId());
+                statement.setString(index++, row.title());
+                statement.setString(index++, row.message());
+                statement.setString(index++, row.notificationType());
+                statement.setObject(index++, row.relatedId());
+                statement.setTimestamp(index++, timestamp);
+            }
+            return statement;
+        }, keyHolder);
+
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    public record Row(Long userId, String title, String message, String notificationType, Long relatedId) {
+    }
+}
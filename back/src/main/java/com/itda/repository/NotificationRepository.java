@@ -0,0 +1,28 @@
+package com.itda.repository;
+
+import com.itda.entity.Notification;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    // 사용자 알림 목록 (최신순)
+    Page<Notification> findByUserIdOrderByNotificationIdDesc(Long userId, Pageable pageable);
+
+    // 재연결 시 놓친 알림 (Last-Event-ID 이후, 오래된 순)
+    List<Notification> findByUserIdAndNotificationIdGreaterThanOrderByNotificationIdAsc(Long userId, Long afterId, Pageable pageable);
+
+    long countByUserIdAndIsReadFalse(Long userId);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.notificationId = :notificationId AND n.userId = :userId")
+    int markRead(@Param("notificationId") Long notificationId, @Param("userId") Long userId);
+}
@@ -0,0 +1,22 @@
+package com.itda.repository;
+
+import com.itda.entity.PackageContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PackageContentRepository extends JpaRepository<PackageContent, PackageContent.Key> {
+
+    // 콘텐츠가 속한 꾸러미 (콘텐츠 변경 시 꾸러미 캐시 무효화용)
+    @Query("SELECT DISTINCT pc.packageId FROM PackageContent pc WHERE pc.contentId = :contentId")
+    List<Long> findPackageIdsByContentId(@Param("contentId") Long contentId);
+
+    @Modifying
+    @Query("DELETE FROM PackageContent pc WHERE pc.packageId = :packageId")
+    int deleteByPackageId(@Param("packageId") Long packageId);
+}
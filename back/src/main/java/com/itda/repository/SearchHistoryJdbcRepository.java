@@ -0,0 +1,61 @@
+package com.itda.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 기록 일괄 저장 (search_history)
+ * - 건별 upsert 대신 JDBC 배치로 INSERT ... ON DUPLICATE KEY UPDATE
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchHistoryJdbcRepository {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO search_history (user_id, search_keyword, search_count, last_searched_at) " +
+            "VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE search_count = search_count + VALUES(search_count), " +
+            "last_searched_at = GREATEST(last_searched_at, VALUES(last_searched_at))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * username → user_id 일괄 조회
+     */
+    public Map<String, Long> findUserIdsByUsernames(Collection<String> usernames) {
+        Map<String, Long> result = new HashMap<>();
+        if (usernames.isEmpty()) {
+            return result;
+        }
+        namedParameterJdbcTemplate.query(
+                "SELECT user_id, username FROM users WHERE username IN (:usernames)",
+                new MapSqlParameterSource("usernames", usernames),
+                resultSet -> {
+                    result.put(resultSet.getString("username"), resultSet.getLong("user_id"));
+                });
+        return result;
+    }
+
+    public void upsertAll(List<Entry> entries) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, entries, entries.size(), (statement, entry) -> {
+            statement.setLong(1, entry.userId());
+            statement.setString(2, entry.keyword());
+            statement.setLong(3, entry.count());
+            statement.setTimestamp(4, Timestamp.valueOf(entry.lastSearchedAt()));
+        });
+    }
+
+    public record Entry(Long userId, String keyword, long count, LocalDateTime lastSearchedAt) {
+    }
+}
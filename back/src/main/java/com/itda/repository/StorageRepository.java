@@ -0,0 +1,42 @@
+package com.itda.repository;
+
+import com.itda.entity.Content;
+import com.itda.entity.Storage;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StorageRepository extends JpaRepository<Storage, Long> {
+
+    Optional<Storage> findByUserIdAndItemTypeAndItemIdAndStorageType(Long userId, Storage.ItemType itemType,
+                                                                     Long itemId, Storage.StorageType storageType);
+
+    boolean existsByUserIdAndItemTypeAndItemIdAndStorageType(Long userId, Storage.ItemType itemType,
+                                                             Long itemId, Storage.StorageType storageType);
+
+    // 사용자 보관 항목 ID 전체 (보관 여부 집합 구축용)
+    @Query("SELECT s.itemId FROM Storage s WHERE s.userId = :userId " +
+            "AND s.itemType = :itemType AND s.storageType = :storageType")
+    List<Long> findItemIds(@Param("userId") Long userId,
+                           @Param("itemType") Storage.ItemType itemType,
+                           @Param("storageType") Storage.StorageType storageType);
+
+    // 보관한 콘텐츠 목록 (itemType은 CONTENT, 최근 보관순)
+    @Query(value = "SELECT c FROM Storage s, Content c WHERE c.contentId = s.itemId " +
+            "AND s.userId = :userId AND s.itemType = :itemType " +
+            "AND s.storageType = :storageType AND c.deletedAt IS NULL ORDER BY s.storageId DESC",
+            countQuery = "SELECT COUNT(s) FROM Storage s, Content c WHERE c.contentId = s.itemId " +
+                    "AND s.userId = :userId AND s.itemType = :itemType " +
+                    "AND s.storageType = :storageType AND c.deletedAt IS NULL")
+    Page<Content> findStoredContents(@Param("userId") Long userId,
+                                     @Param("itemType") Storage.ItemType itemType,
+                                     @Param("storageType") Storage.StorageType storageType,
+                                     Pageable pageable);
+}
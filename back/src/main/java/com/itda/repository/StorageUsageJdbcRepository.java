@@ -0,0 +1,84 @@
+package com.itda.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 사용자별 업로드 사용량 갱신 (user_storage_usage)
+ * - 증감은 한 문장 UPDATE로 원자적으로 반영, 증가는 한도를 넘지 않을 때만 (조건부 UPDATE)
+ * - 행이 없던 사용자는 증감이 반영되지 않았을 때만 content에서 실제 값을 계산해 만든다
+ * - 정합성 보정은 user_id 범위 단위로 실제 값을 다시 계산해 덮어씀
+ */
+@Repository
+@RequiredArgsConstructor
+public class StorageUsageJdbcRepository {
+
+    private static final String INIT_SQL =
+            "INSERT IGNORE INTO user_storage_usage (user_id, used_bytes, item_count, updated_at) " +
+            "SELECT ?, COALESCE(SUM(file_size), 0), COUNT(*), NOW() FROM content " +
+            "WHERE user_id = ? AND deleted_at IS NULL";
+
+    // 줄이는 변경은 항상, 늘리는 변경은 한도 안에서만
+    private static final String TRY_ADD_SQL =
+            "UPDATE user_storage_usage SET used_bytes = GREATEST(used_bytes + ?, 0), " +
+            "item_count = GREATEST(item_count + ?, 0), updated_at = NOW() " +
+            "WHERE user_id = ? AND (? <= 0 OR used_bytes + ? <= COALESCE(quota_bytes, ?))";
+
+    private static final String ADD_SQL =
+            "UPDATE user_storage_usage SET used_bytes = GREATEST(used_bytes + ?, 0), " +
+            "item_count = GREATEST(item_count + ?, 0), updated_at = NOW() WHERE user_id = ?";
+
+    private static final String RECONCILE_SQL =
+            "INSERT INTO user_storage_usage (user_id, used_bytes, item_count, updated_at) " +
+            "SELECT u.user_id, COALESCE(SUM(c.file_size), 0), COUNT(c.content_id), NOW() FROM users u " +
+            "LEFT JOIN content c ON c.user_id = u.user_id AND c.deleted_at IS NULL " +
+            "WHERE u.user_id > ? AND u.user_id <= ? GROUP BY u.user_id " +
+            "ON DUPLICATE KEY UPDATE used_bytes = VALUES(used_bytes), item_count = VALUES(item_count), updated_at = NOW()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void initIfAbsent(Long userId) {
+        jdbcTemplate.update(INIT_SQL, userId, userId);
+    }
+
+    /**
+     * 사용량 증감 (늘리는 경우 한도를 넘으면 반영하지 않고 false, 행이 없어도 false)
+     */
+    public boolean tryAdd(Long userId, long bytes, long items, long defaultQuotaBytes) {
+        return jdbcTemplate.update(TRY_ADD_SQL, bytes, items, userId, bytes, bytes, defaultQuotaBytes) > 0;
+    }
+
+    /**
+     * 사용량 증감 (한도 확인 없음, 행이 없으면 false)
+     */
+    public boolean add(Long userId, long bytes, long items) {
+        return jdbcTemplate.update(ADD_SQL, bytes, items, userId) > 0;
+    }
+
+    public Usage findUsage(Long userId) {
+        List<Usage> found = jdbcTemplate.query(
+                "SELECT used_bytes, item_count, quota_bytes FROM user_storage_usage WHERE user_id = ?",
+                (rs, rowNum) -> new Usage(rs.getLong("used_bytes"), rs.getLong("item_count"),
+                        rs.getObject("quota_bytes", Long.class)),
+                userId);
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    public long findMaxUserId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(user_id) FROM users", Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+
+    /**
+     * (afterId, toId] 범위 사용자의 사용량을 실제 값으로 덮어씀 (INSERT ... SELECT가 읽는 행을 잠가 동시 증감과 섞이지 않음)
+     */
+    public int reconcileRange(long afterId, long toId) {
+        return jdbcTemplate.update(RECONCILE_SQL, afterId, toId);
+    }
+
+    public record Usage(long usedBytes, long itemCount, Long quotaBytes) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.itda.repository;
+
+import com.itda.dto.SubscriberRow;
+import com.itda.entity.Channel;
+import com.itda.entity.Subscription;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SubscriptionRepository extends JpaRepository<Subscription, Long> {
+
+    Optional<Subscription> findByUserIdAndChannelId(Long userId, Long channelId);
+
+    boolean existsByUserIdAndChannelId(Long userId, Long channelId);
+
+    // 사용자가 구독 중인 활성 채널
+    @Query("SELECT c FROM Channel c WHERE c.isActive = true AND c.channelId IN " +
+            "(SELECT s.channelId FROM Subscription s WHERE s.userId = :userId)")
+    List<Channel> findSubscribedChannels(@Param("userId") Long userId);
+
+    // 채널 구독자 (subscription_id 기준 청크 조회, 팬아웃용)
+    @Query("SELECT s.subscriptionId AS subscriptionId, s.userId AS userId FROM Subscription s " +
+            "WHERE s.channelId = :channelId AND s.subscriptionId > :afterId ORDER BY s.subscriptionId")
+    List<SubscriberRow> findSubscribersAfter(@Param("channelId") Long channelId,
+                                             @Param("afterId") Long afterId,
+                                             Pageable pageable);
+}
@@ -0,0 +1,43 @@
+package com.itda.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 로그인 관련 users 컬럼 단건/배치 갱신 (엔티티 전체 저장 없이 필요한 컬럼만)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserJdbcRepository {
+
+    // 더 최근 값이 이미 있으면 덮어쓰지 않음 (노드 간 순서 역전 대비)
+    private static final String UPDATE_LAST_LOGIN_SQL =
+            "UPDATE users SET last_login_at = ? WHERE user_id = ? AND (last_login_at IS NULL OR last_login_at < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void updateLastLoginAt(List<LastLogin> lastLogins) {
+        jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN_SQL, lastLogins, lastLogins.size(), (statement, lastLogin) -> {
+            Timestamp at = Timestamp.valueOf(lastLogin.at());
+            statement.setTimestamp(1, at);
+            statement.setLong(2, lastLogin.userId());
+            statement.setTimestamp(3, at);
+        });
+    }
+
+    /**
+     * 해시 교체 (그사이 비밀번호가 바뀌었으면 갱신하지 않음)
+     */
+    public int updatePasswordHash(Long userId, String expectedHash, String newHash) {
+        return jdbcTemplate.update("UPDATE users SET password_hash = ? WHERE user_id = ? AND password_hash = ?",
+                newHash, userId, expectedHash);
+    }
+
+    public record LastLogin(Long userId, LocalDateTime at) {
+    }
+}
@@ -0,0 +1,251 @@
+package com.itda.security;
+
+import com.itda.util.GradientLimit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 엔드포인트 그룹별 적응형 동시 처리 제한 (과부하 시 빠른 거절)
+ * - 그룹마다 처리 지연 기반 한도(GradientLimit)를 두고, 전체 한도 중 그룹이 쓸 수 있는 비율로 우선순위를 준다
+ *   (부하로 전체 한도가 줄면 업로드/검색이 먼저 거절되고 단건 조회는 끝까지 처리)
+ * - 한도를 넘으면 톰캣 대기열에 쌓지 않고 즉시 429 + Retry-After
+ * - 인증보다 앞에서 동작 (거절 비용 최소화)
+ * - SSE, 압축 다운로드 같은 장시간 비동기 응답은 제외 (각자 동시 연결 수 제한이 있음)
+ * - 정적 미디어(/content/**)도 제외 (동영상 range 요청처럼 전송 시간이 길고, IP별 요청 빈도 제한으로 보호)
+ * - 파일 다운로드(GET)는 처리 시간이 전송 크기에 좌우되므로 지연 표본에서 제외
+ * - 그 밖의 비동기 응답(StreamingResponseBody 등)은 비동기 처리가 끝날 때까지 점유를 유지
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 50)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    /**
+     * 엔드포인트 그룹 (share: 전체 한도 중 사용할 수 있는 비율 = 우선순위)
+     */
+    public enum EndpointGroup {
+        READ(1.0, 80, 10, 200),
+        WRITE(0.8, 40, 5, 200),
+        SEARCH(0.6, 30, 4, 150),
+        FILE(0.3, 8, 2, 40);
+
+        private final double share;
+        private final int initialLimit;
+        private final int minLimit;
+        private final int maxLimit;
+
+        EndpointGroup(double share, int initialLimit, int minLimit, int maxLimit) {
+            this.share = share;
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+    }
+
+    private final boolean enabled;
+    private final String retryAfterSeconds;
+    private final GradientLimit globalLimit;
+    private final AtomicInteger globalInFlight = new AtomicInteger();
+    private final Map<EndpointGroup, Group> groups = new EnumMap<>(EndpointGroup.class);
+
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry,
+                                  @Value("${app.concurrency-limit.enabled:true}") boolean enabled,
+                                  @Value("${app.concurrency-limit.initial-limit:100}") int initialLimit,
+                                  @Value("${app.concurrency-limit.max-limit:200}") int maxLimit,
+                                  @Value("${app.concurrency-limit.latency-tolerance:1.5}") double tolerance,
+                                  @Value("${app.concurrency-limit.retry-after-seconds:1}") int retryAfterSeconds) {
+        this.enabled = enabled;
+        this.retryAfterSeconds = String.valueOf(retryAfterSeconds);
+        this.globalLimit = new GradientLimit(initialLimit, 20, maxLimit, tolerance);
+
+        Gauge.builder("http.concurrency.limit", globalLimit, GradientLimit::getLimit)
+                .tag("group", "all")
+                .register(meterRegistry);
+        Gauge.builder("http.concurrency.inflight", globalInFlight, AtomicInteger::get)
+                .tag("group", "all")
+                .register(meterRegistry);
+
+        for (EndpointGroup endpointGroup : EndpointGroup.values()) {
+            String tag = endpointGroup.name().toLowerCase(Locale.ROOT);
+            Group group = new Group(
+                    new GradientLimit(endpointGroup.initialLimit, endpointGroup.minLimit, endpointGroup.maxLimit, tolerance),
+                    Counter.builder("http.concurrency.rejected")
+                            .description("동시 처리 한도 초과로 거절된 요청 수")
+                            .tag("group", tag)
+                            .register(meterRegistry));
+            Gauge.builder("http.concurrency.limit", group.limit, GradientLimit::getLimit)
+                    .tag("group", tag)
+                    .register(meterRegistry);
+            Gauge.builder("http.concurrency.inflight", group.inFlight, AtomicInteger::get)
+                    .tag("group", tag)
+                    .register(meterRegistry);
+            groups.put(endpointGroup, group);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || "OPTIONS".equals(request.getMethod())) {
+            return true;
+        }
+        String uri = request.getRequestURI();
+        return uri.startsWith("/api/notifications/stream")
+                || uri.startsWith("/api/archives/")
+                || uri.startsWith("/content/")
+                || uri.startsWith("/actuator")
+                || uri.equals("/health")
+                || uri.equals("/api/health");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        EndpointGroup endpointGroup = classify(request);
+        Group group = groups.get(endpointGroup);
+
+        int inFlight = tryAcquire(group, endpointGroup);
+        if (inFlight < 0) {
+            group.rejected.increment();
+            log.warn("동시 처리 한도 초과로 거절: group={}, {} {}", endpointGroup, request.getMethod(), request.getRequestURI());
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = false;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value()
+                    || response.getStatus() == HttpStatus.GATEWAY_TIMEOUT.value();
+        } catch (IOException | ServletException | RuntimeException e) {
+            dropped = true;
+            throw e;
+        } finally {
+            if (request.isAsyncStarted()) {
+                // 비동기 응답은 완료/오류/타임아웃 때 반환 (처리 시간은 응답 크기에 좌우되므로 표본에서 제외)
+                releaseOnAsyncCompletion(request, group);
+            } else {
+                release(group);
+                if (!isDownload(endpointGroup, request)) {
+                    long rtt = System.nanoTime() - start;
+                    group.limit.onSample(rtt, inFlight, dropped);
+                    globalLimit.onSample(rtt, globalInFlight.get() + 1, dropped);
+                }
+            }
+        }
+    }
+
+    private void releaseOnAsyncCompletion(HttpServletRequest request, Group group) {
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable releaseOnce = () -> {
+            if (released.compareAndSet(false, true)) {
+                release(group);
+            }
+        };
+        try {
+            request.getAsyncContext().addListener(new AsyncListener() {
+                @Override
+                public void onComplete(AsyncEvent event) {
+                    releaseOnce.run();
+                }
+
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                    releaseOnce.run();
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                    releaseOnce.run();
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                    // 다시 비동기로 전환되면 같은 리스너를 새 컨텍스트에 이어서 등록
+                    event.getAsyncContext().addListener(this);
+                }
+            });
+        } catch (IllegalStateException e) {
+            // 이미 완료된 비동기 처리
+            releaseOnce.run();
+        }
+    }
+
+    private void release(Group group) {
+        group.inFlight.decrementAndGet();
+        globalInFlight.decrementAndGet();
+    }
+
+    /**
+     * 그룹 한도와 (전체 한도 x 그룹 비율)을 모두 만족하면 점유, 그룹 내 동시 처리 수 반환 (거절이면 -1)
+     */
+    private int tryAcquire(Group group, EndpointGroup endpointGroup) {
+        int inFlight = group.inFlight.incrementAndGet();
+        if (inFlight > group.limit.getLimit()) {
+            group.inFlight.decrementAndGet();
+            return -1;
+        }
+        int global = globalInFlight.incrementAndGet();
+        if (global > Math.max(1, (int) (globalLimit.getLimit() * endpointGroup.share))) {
+            globalInFlight.decrementAndGet();
+            group.inFlight.decrementAndGet();
+            return -1;
+        }
+        return inFlight;
+    }
+
+    /**
+     * 파일 다운로드 (처리 시간이 전송 크기와 클라이언트 속도에 좌우되어 지연 표본으로 쓸 수 없음)
+     */
+    private static boolean isDownload(EndpointGroup endpointGroup, HttpServletRequest request) {
+        return endpointGroup == EndpointGroup.FILE && "GET".equals(request.getMethod());
+    }
+
+    private EndpointGroup classify(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String method = request.getMethod();
+        String contentType = request.getContentType();
+
+        if (uri.startsWith("/api/files/") || uri.startsWith("/api/admin/contents/export")
+                || (contentType != null && contentType.startsWith("multipart/"))) {
+            return EndpointGroup.FILE;
+        }
+        if ("GET".equals(method)) {
+            if (uri.startsWith("/api/contents/search") || uri.startsWith("/api/contents/browse")
+                    || uri.startsWith("/api/contents/popular") || uri.startsWith("/api/channels/timeline")) {
+                return EndpointGroup.SEARCH;
+            }
+            return EndpointGroup.READ;
+        }
+        return EndpointGroup.WRITE;
+    }
+
+    private record Group(GradientLimit limit, AtomicInteger inFlight, Counter rejected) {
+        Group(GradientLimit limit, Counter rejected) {
+            this(limit, new AtomicInteger(), rejected);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.itda.security;
 
+import com.itda.config.ReadYourWritesGuard;
+import com.itda.service.TokenRevocationService;
 import com.itda.service.UserService;
 import com.itda.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,8 +27,17 @@ import java.util.List;
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /**
+     * 인증된 사용자 ID 요청 속성 (컨트롤러가 사용자 조회 없이 쓸 수 있도록)
+     */
+    public static final String USER_ID_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".userId";
+
+    private static final String SSE_STREAM_PATH = "/api/notifications/stream";
+
     private final JwtUtil jwtUtil;
     private final UserService userService;
+    private final ReadYourWritesGuard readYourWritesGuard;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -35,8 +47,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             log.info("JWT Filter - Processing: {} {}, JWT present: {}, Content-Type: {}",
                     request.getMethod(), request.getRequestURI(), jwt != null, request.getContentType());
 
-            if (StringUtils.hasText(jwt) && jwtUtil.validateToken(jwt)) {
-                String username = jwtUtil.getUsernameFromToken(jwt);
+            Claims claims = StringUtils.hasText(jwt) ? jwtUtil.parseClaims(jwt) : null;
+            if (claims != null && tokenRevocationService.isRevoked(claims.getId())) {
+                log.warn("JWT Filter - Revoked token for request: {} {}", request.getMethod(), request.getRequestURI());
+            } else if (claims != null) {
+                String username = claims.getSubject();
                 log.info("JWT Filter - Token valid, username: {}", username);
                 var user = userService.findByUsername(username);
 
@@ -50,6 +65,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                request.setAttribute(USER_ID_ATTRIBUTE, user.getUserId());
+
+                // 최근에 쓰기를 한 사용자면 이번 요청의 읽기도 primary로
+                readYourWritesGuard.bindIfPinned(user.getUserId());
                 log.info("JWT Filter - Successfully authenticated user: {} with role: {}", username, user.getUserType());
             } else if (StringUtils.hasText(jwt)) {
                 log.warn("JWT Filter - Invalid JWT token for request: {} {}", request.getMethod(), request.getRequestURI());
@@ -61,7 +80,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     request.getMethod(), request.getRequestURI(), ex);
         }
 
-        filterChain.doFilter(request, response);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            readYourWritesGuard.clear();
+        }
     }
 
     private String getJwtFromRequest(HttpServletRequest request) {
@@ -69,6 +92,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
             return bearerToken.substring(7);
         }
+        // EventSource(SSE)는 헤더를 보낼 수 없어 알림 스트림에 한해 쿼리 파라미터 허용
+        if (SSE_STREAM_PATH.equals(request.getRequestURI())) {
+            String token = request.getParameter("token");
+            return StringUtils.hasText(token) ? token : null;
+        }
         return null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.itda.security;
+
+import com.itda.service.RateLimitService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 로그인/파일 엔드포인트 요청 빈도 제한 (IP별 + 로그인 사용자별 토큰 버킷)
+ * - JWT 인증 필터 다음에 동작해 인증된 사용자 기준 버킷도 함께 확인
+ * - 로그인의 사용자(아이디)별 제한은 요청 본문을 읽어야 하므로 AuthController 에서 확인
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String LOGIN_PATH = "/api/auth/login";
+
+    private final RateLimitService rateLimitService;
+    private final boolean enabled;
+    private final boolean trustForwardedFor;
+
+    public RateLimitFilter(RateLimitService rateLimitService,
+                           @Value("${app.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${app.rate-limit.trust-forwarded-for:false}") boolean trustForwardedFor) {
+        this.rateLimitService = rateLimitService;
+        this.enabled = enabled;
+        this.trustForwardedFor = trustForwardedFor;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || "OPTIONS".equals(request.getMethod())
+                || (!isLogin(request) && !isFileRequest(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String clientIp = clientIp(request);
+        RateLimitService.Decision decision;
+        if (isLogin(request)) {
+            decision = rateLimitService.tryConsume(RateLimitService.Policy.LOGIN_IP, clientIp);
+        } else {
+            decision = rateLimitService.tryConsume(RateLimitService.Policy.FILE_IP, clientIp);
+            String username = authenticatedUsername();
+            if (decision.allowed() && username != null) {
+                decision = rateLimitService.tryConsume(RateLimitService.Policy.FILE_USER, username);
+            }
+        }
+
+        if (!decision.allowed()) {
+            log.warn("요청 빈도 제한 초과: ip={}, {} {}", clientIp, request.getMethod(), request.getRequestURI());
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean isLogin(HttpServletRequest request) {
+        return "POST".equals(request.getMethod()) && LOGIN_PATH.equals(request.getRequestURI());
+    }
+
+    /**
+     * 파일 업로드(multipart), 파일/압축 다운로드, 정적 콘텐츠 파일
+     */
+    private boolean isFileRequest(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contentType = request.getContentType();
+        return uri.startsWith("/api/files/") || uri.startsWith("/api/archives/") || uri.startsWith("/content/")
+                || (contentType != null && contentType.startsWith("multipart/"));
+    }
+
+    private String authenticatedUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (StringUtils.hasText(forwardedFor)) {
+                return forwardedFor.split(",")[0].trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
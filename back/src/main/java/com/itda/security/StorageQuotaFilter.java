@@ -0,0 +1,65 @@
+package com.itda.security;
+
+import com.itda.service.StorageQuotaService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 콘텐츠 등록 업로드의 용량 한도 사전 확인
+ * - multipart 본문을 읽기(임시 파일 저장) 전에 Content-Length와 남은 용량을 비교해 확실히 넘는 요청은 바로 413
+ * - Content-Length에는 multipart 경계/JSON 파트/썸네일이 포함되므로 slack 만큼은 허용하고,
+ *   최종 판단은 StorageQuotaService가 트랜잭션 안에서 한다 (Content-Length가 없는 요청도 여기서는 통과)
+ * - JWT 인증 필터 다음에 동작 (인증된 사용자 ID 필요)
+ */
+@Slf4j
+@Component
+public class StorageQuotaFilter extends OncePerRequestFilter {
+
+    private static final String CREATE_PATH = "/api/contents";
+
+    private final StorageQuotaService storageQuotaService;
+    private final long slackBytes;
+
+    public StorageQuotaFilter(StorageQuotaService storageQuotaService,
+                              @Value("${app.storage-quota.precheck-slack:2MB}") DataSize slack) {
+        this.storageQuotaService = storageQuotaService;
+        this.slackBytes = slack.toBytes();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return !"POST".equals(request.getMethod()) || !CREATE_PATH.equals(request.getRequestURI())
+                || contentType == null || !contentType.startsWith("multipart/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Long userId = (Long) request.getAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE);
+        long contentLength = request.getContentLengthLong();
+        if (userId != null && contentLength > slackBytes) {
+            long remaining = storageQuotaService.remainingBytes(userId);
+            if (contentLength - slackBytes > remaining) {
+                log.warn("업로드 용량 한도 초과 (본문 수신 전 거절): userId={}, contentLength={}, remaining={}",
+                        userId, contentLength, remaining);
+                response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+                // 남은 본문을 읽어 버리지 않도록 연결을 닫는다
+                response.setHeader(HttpHeaders.CONNECTION, "close");
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
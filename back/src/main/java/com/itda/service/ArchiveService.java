@@ -0,0 +1,238 @@
+package com.itda.service;
+
+import com.itda.dto.ArchiveEntryRow;
+import com.itda.entity.ContentPackage;
+import com.itda.repository.ChannelRepository;
+import com.itda.repository.ContentPackageRepository;
+import com.itda.repository.ContentRepository;
+import com.itda.util.FileUploadUtil;
+import com.itda.util.FolderPathUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 꾸러미/보관함 폴더 압축 다운로드
+ * - 임시 파일 없이 응답 스트림에 ZIP을 바로 쓴다 (요청당 버퍼 하나만 사용)
+ * - 이미 압축된 형식(mp4, jpg, zip, pdf 등)은 STORED, 나머지는 DEFLATED
+ *   STORED 항목은 헤더에 CRC/크기가 필요하므로 파일을 한 번 더 읽어 계산 (메모리 사용 없음)
+ * - 동시 압축 다운로드 수를 제한해 전체 버퍼 메모리도 상한이 있다
+ * - 클라이언트가 끊으면 다음 쓰기에서 예외가 나므로 즉시 중단된다
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ArchiveService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Set<String> STORED_EXTENSIONS = Set.of(
+            "mp4", "mov", "avi", "wmv", "webm", "mp3", "ogg",
+            "jpg", "jpeg", "png", "gif", "webp",
+            "zip", "rar", "7z", "gz",
+            "pdf", "docx", "xlsx", "pptx", "hwpx");
+
+    private final ContentRepository contentRepository;
+    private final ContentPackageRepository contentPackageRepository;
+    private final ChannelRepository channelRepository;
+    private final FileUploadUtil fileUploadUtil;
+    private final Semaphore permits;
+    private final int deflateLevel;
+
+    public ArchiveService(ContentRepository contentRepository,
+                          ContentPackageRepository contentPackageRepository,
+                          ChannelRepository channelRepository,
+                          FileUploadUtil fileUploadUtil,
+                          @Value("${app.archive.max-concurrent:4}") int maxConcurrent,
+                          @Value("${app.archive.deflate-level:6}") int deflateLevel) {
+        this.contentRepository = contentRepository;
+        this.contentPackageRepository = contentPackageRepository;
+        this.channelRepository = channelRepository;
+        this.fileUploadUtil = fileUploadUtil;
+        this.permits = new Semaphore(maxConcurrent);
+        this.deflateLevel = deflateLevel;
+    }
+
+    /**
+     * 꾸러미 압축 대상 (비공개 꾸러미는 채널 소유자만, 다른 사람의 비공개 콘텐츠는 제외)
+     */
+    public Archive preparePackage(Long packageId, Long userId) {
+        ContentPackage contentPackage = contentPackageRepository.findById(packageId)
+                .orElseThrow(() -> new IllegalArgumentException("꾸러미를 찾을 수 없습니다: " + packageId));
+        Long ownerId = channelRepository.findOwnerId(contentPackage.getChannelId()).orElse(null);
+        boolean owner = Objects.equals(ownerId, userId);
+        if (!Boolean.TRUE.equals(contentPackage.getIsPublic()) && !owner) {
+            throw new IllegalArgumentException("꾸러미 다운로드 권한이 없습니다.");
+        }
+
+        List<Archive.Entry> entries = new ArrayList<>();
+        Set<String> usedNames = new HashSet<>();
+        for (ArchiveEntryRow row : contentRepository.findPackageArchiveEntries(packageId)) {
+            if (owner || "public".equals(row.getPublicStatus()) || Objects.equals(row.getUserId(), userId)) {
+                entries.add(new Archive.Entry(row.getFilePath(), uniqueName("", displayName(row), usedNames)));
+            }
+        }
+        return new Archive(contentPackage.getTitle(), entries);
+    }
+
+    /**
+     * 내 보관함 폴더 압축 대상 (하위 폴더는 ZIP 안의 폴더로)
+     */
+    public Archive prepareFolder(Long userId, String folderPath) {
+        // 저장된 경로와 같은 정규형으로 맞춤 (최상위는 빈 문자열 → 보관함 전체)
+        String root = FolderPathUtil.normalize(folderPath);
+        String prefix = root.isEmpty() ? "%" : FolderPathUtil.descendantPattern(root);
+
+        List<Archive.Entry> entries = new ArrayList<>();
+        Set<String> usedNames = new HashSet<>();
+        for (ArchiveEntryRow row : contentRepository.findFolderArchiveEntries(userId, root, prefix)) {
+            String path = row.getFolderPath() != null ? row.getFolderPath() : FolderPathUtil.ROOT;
+            String relative = path.length() > root.length()
+                    ? path.substring(root.length()).replaceAll("^/+", "") : "";
+            String directory = relative.isEmpty() ? "" : relative + "/";
+            entries.add(new Archive.Entry(row.getFilePath(), uniqueName(directory, displayName(row), usedNames)));
+        }
+
+        String name = root.contains("/") ? root.substring(root.lastIndexOf('/') + 1) : root;
+        return new Archive(name.isEmpty() ? "storage" : name, entries);
+    }
+
+    /**
+     * 동시 압축 다운로드 슬롯 확보 (없으면 false, 성공 시 write 이후 release 필요)
+     */
+    public boolean tryAcquire() {
+        return permits.tryAcquire();
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * ZIP을 out에 바로 기록 (파일이 없으면 건너뜀)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void write(Archive archive, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int written = 0;
+
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        zip.setLevel(deflateLevel);
+        for (Archive.Entry entry : archive.entries()) {
+            Path path;
+            try {
+                path = fileUploadUtil.getFullPath(entry.filePath());
+            } catch (IllegalArgumentException e) {
+                log.warn("압축 대상 파일 없음, 건너뜀: {}", entry.filePath());
+                continue;
+            }
+
+            ZipEntry zipEntry = new ZipEntry(entry.name());
+            zipEntry.setLastModifiedTime(Files.getLastModifiedTime(path));
+            if (isStored(entry.name())) {
+                long size = Files.size(path);
+                zipEntry.setMethod(ZipEntry.STORED);
+                zipEntry.setSize(size);
+                zipEntry.setCompressedSize(size);
+                zipEntry.setCrc(crc(path, buffer));
+            } else {
+                zipEntry.setMethod(ZipEntry.DEFLATED);
+            }
+
+            zip.putNextEntry(zipEntry);
+            copy(path, zip, buffer);
+            zip.closeEntry();
+            written++;
+        }
+        zip.finish();
+        zip.flush();
+
+        log.info("압축 다운로드 완료: name={}, files={}, elapsed={}ms",
+                archive.name(), written, System.currentTimeMillis() - start);
+    }
+
+    private void copy(Path path, OutputStream out, byte[] buffer) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                checkInterrupted();
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    private long crc(Path path, byte[] buffer) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = Files.newInputStream(path)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                checkInterrupted();
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private void checkInterrupted() throws InterruptedIOException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("압축 다운로드 중단");
+        }
+    }
+
+    private boolean isStored(String name) {
+        return STORED_EXTENSIONS.contains(fileUploadUtil.getFileExtension(name).toLowerCase(Locale.ROOT));
+    }
+
+    private String displayName(ArchiveEntryRow row) {
+        String name = row.getFileName();
+        if (name == null || name.isBlank()) {
+            name = row.getFilePath().substring(row.getFilePath().lastIndexOf('/') + 1);
+        }
+        // ZIP 내부 경로를 벗어나지 않도록 경로 구분자 제거
+        return name.replace('/', '_').replace('\\', '_');
+    }
+
+    /**
+     * 같은 폴더 안에서 이름이 겹치면 "이름 (2).확장자" 형태로
+     */
+    private String uniqueName(String directory, String name, Set<String> usedNames) {
+        String candidate = directory + name;
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        String extension = dot > 0 ? name.substring(dot) : "";
+        for (int i = 2; !usedNames.add(candidate.toLowerCase(Locale.ROOT)); i++) {
+            candidate = directory + base + " (" + i + ")" + extension;
+        }
+        return candidate;
+    }
+
+    /**
+     * 압축 대상 (파일 경로와 ZIP 내부 이름만 보관)
+     */
+    public record Archive(String name, List<Entry> entries) {
+
+        public record Entry(String filePath, String name) {
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.itda.service;
+
+import com.itda.dto.ChannelStatsResponse;
+import com.itda.dto.ContentResponse;
+import com.itda.event.ContentChangedEvent;
+import com.itda.event.SubscriptionChangedEvent;
+import com.itda.repository.ChannelRepository;
+import com.itda.repository.ChannelStatsJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 채널 집계 (콘텐츠 수, 구독자 수, 전체 조회수)
+ * - 콘텐츠 등록/삭제/채널 이동, 구독 변경, 조회 시 증감분만 메모리에 합쳐 두고 주기적으로 일괄 반영
+ *   (COUNT(*) 없이 channels 컬럼이 항상 근사값을 유지)
+ * - 누락/중복 반영은 주기적인 정합성 보정 작업이 실제 값으로 덮어써서 바로잡는다
+ * - 채널 헤더용 통계는 캐시에서 제공하고, 반영된 채널만 캐시를 비운다
+ */
+@Slf4j
+@Service
+public class ChannelStatsService {
+
+    public static final String CACHE_NAME = "channelStats";
+
+    private static final int RECONCILE_CHUNK_SIZE = 1000;
+
+    private final ChannelRepository channelRepository;
+    private final ChannelStatsJdbcRepository channelStatsJdbcRepository;
+    private final CacheManager cacheManager;
+
+    private final ReentrantReadWriteLock bufferLock = new ReentrantReadWriteLock();
+    private volatile Map<Long, Delta> buffer = new ConcurrentHashMap<>();
+
+    public ChannelStatsService(ChannelRepository channelRepository,
+                               ChannelStatsJdbcRepository channelStatsJdbcRepository,
+                               CacheManager cacheManager) {
+        this.channelRepository = channelRepository;
+        this.channelStatsJdbcRepository = channelStatsJdbcRepository;
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * 채널 통계 (캐시, 집계 쿼리 없이 channels 한 건 조회)
+     */
+    @Cacheable(value = CACHE_NAME, key = "#channelId", sync = true)
+    @Transactional(readOnly = true)
+    public ChannelStatsResponse getStats(Long channelId) {
+        return channelRepository.findById(channelId)
+                .map(ChannelStatsResponse::from)
+                .orElseThrow(() -> new IllegalArgumentException("채널을 찾을 수 없습니다: " + channelId));
+    }
+
+    /**
+     * 콘텐츠 변경분 반영 (커밋 이후)
+     */
+    @TransactionalEventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        ContentResponse before = event.getBefore();
+        ContentResponse after = event.getAfter();
+        boolean beforeCounted = isCounted(before);
+        boolean afterCounted = isCounted(after);
+
+        if (beforeCounted && afterCounted && before.getChannelId().equals(after.getChannelId())) {
+            return;
+        }
+        if (beforeCounted) {
+            add(before.getChannelId(), -1, 0, -viewsOf(before));
+        }
+        if (afterCounted) {
+            add(after.getChannelId(), 1, 0, viewsOf(after));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onSubscriptionChanged(SubscriptionChangedEvent event) {
+        add(event.getChannelId(), 0, event.isSubscribed() ? 1 : -1, 0);
+    }
+
+    /**
+     * 채널 콘텐츠 조회수 증가분
+     */
+    public void recordView(Long channelId) {
+        if (channelId != null) {
+            add(channelId, 0, 0, 1);
+        }
+    }
+
+    /**
+     * 누적된 증감분을 일괄 반영 (실패하면 버퍼에 되돌려 다음 주기에 재시도)
+     */
+    @Scheduled(fixedDelayString = "${app.channel-stats.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Map<Long, Delta> flushing;
+        bufferLock.writeLock().lock();
+        try {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            flushing = buffer;
+            buffer = new ConcurrentHashMap<>();
+        } finally {
+            bufferLock.writeLock().unlock();
+        }
+
+        List<ChannelStatsJdbcRepository.Delta> deltas = new ArrayList<>(flushing.size());
+        flushing.forEach((channelId, delta) -> deltas.add(new ChannelStatsJdbcRepository.Delta(
+                channelId, delta.contentCount(), delta.subscriberCount(), delta.viewCount())));
+
+        try {
+            channelStatsJdbcRepository.applyDeltas(deltas);
+        } catch (RuntimeException e) {
+            log.error("채널 집계 반영 실패: {}개 채널, 다음 주기에 재시도, error={}", deltas.size(), e.getMessage());
+            flushing.forEach((channelId, delta) ->
+                    add(channelId, delta.contentCount(), delta.subscriberCount(), delta.viewCount()));
+            return;
+        }
+
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            flushing.keySet().forEach(cache::evict);
+        }
+        log.debug("채널 집계 반영: {}개 채널", deltas.size());
+    }
+
+    /**
+     * 정합성 보정: channel_id 범위별로 실제 값을 다시 계산 (보정 전에 버퍼를 먼저 반영)
+     */
+    @Scheduled(cron = "${app.channel-stats.reconcile-cron:0 30 4 * * *}")
+    public synchronized void reconcile() {
+        long start = System.currentTimeMillis();
+        flush();
+
+        long maxId = channelStatsJdbcRepository.findMaxChannelId();
+        int updated = 0;
+        for (long afterId = 0; afterId < maxId; afterId += RECONCILE_CHUNK_SIZE) {
+            updated += channelStatsJdbcRepository.reconcileRange(afterId, afterId + RECONCILE_CHUNK_SIZE);
+        }
+
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.clear();
+        }
+        log.info("채널 집계 정합성 보정 완료: channels={}, elapsed={}ms", updated, System.currentTimeMillis() - start);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void add(Long channelId, long contentCount, long subscriberCount, long viewCount) {
+        bufferLock.readLock().lock();
+        try {
+            buffer.merge(channelId, new Delta(contentCount, subscriberCount, viewCount), Delta::merge);
+        } finally {
+            bufferLock.readLock().unlock();
+        }
+    }
+
+    private boolean isCounted(ContentResponse content) {
+        return content != null
+                && content.getChannelId() != null
+                && !Boolean.TRUE.equals(content.getIsSupportMaterial());
+    }
+
+    private long viewsOf(ContentResponse content) {
+        return content.getViewCount() != null ? content.getViewCount() : 0L;
+    }
+
+    private record Delta(long contentCount, long subscriberCount, long viewCount) {
+        Delta merge(Delta other) {
+            return new Delta(contentCount + other.contentCount,
+                    subscriberCount + other.subscriberCount,
+                    viewCount + other.viewCount);
+        }
+    }
+}
@@ -0,0 +1,394 @@
+package com.itda.service;
+
+import com.itda.dto.ContentResponse;
+import com.itda.dto.SubscriberRow;
+import com.itda.dto.TimelineResponse;
+import com.itda.entity.Channel;
+import com.itda.entity.Content;
+import com.itda.event.ContentChangedEvent;
+import com.itda.event.SubscriptionChangedEvent;
+import com.itda.repository.ChannelRepository;
+import com.itda.repository.ContentRepository;
+import com.itda.repository.SubscriptionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 구독 채널 타임라인 ("내 채널 새 콘텐츠")
+ * - 일반 채널: 등록 시 구독자별 Redis 정렬 집합(timeline:user:{userId})에 밀어 넣음 (fan-out-on-write)
+ * - 대형 채널(INSTITUTION 또는 구독자 수 임계치 이상): 채널별 최근 목록(timeline:channel:{channelId})에만 넣고
+ *   조회 시 사용자 타임라인과 k-way 병합 (fan-out-on-read)
+ * - 점수와 멤버 모두 content_id라 커서(content_id 미만) 페이징이 정확하고, 길이는 max-length로 제한
+ * - 키가 없으면 조회 시 DB에서 최근 목록으로 구축하고, 팬아웃은 이미 구축된 키에만 반영 (비활성 사용자는 TTL로 만료)
+ */
+@Slf4j
+@Service
+public class ChannelTimelineService {
+
+    public static final int MAX_PAGE_SIZE = 50;
+
+    private static final String USER_KEY_PREFIX = "timeline:user:";
+    private static final String CHANNEL_KEY_PREFIX = "timeline:channel:";
+    private static final int FAN_OUT_CHUNK_SIZE = 1000;
+
+    // 빈 타임라인도 "구축됨"으로 표시하기 위한 자리표시 멤버 (score 0, 조회 범위에서 제외)
+    private static final String SENTINEL = "0";
+
+    // 키가 있을 때만 추가 후 길이 제한 (KEYS: 타임라인 키들, ARGV[1]: content_id, ARGV[2]: 최대 길이)
+    private static final RedisScript<Long> PUSH_SCRIPT = new DefaultRedisScript<>(
+            "local pushed = 0\n" +
+            "for _, key in ipairs(KEYS) do\n" +
+            "  if redis.call('EXISTS', key) == 1 then\n" +
+            "    redis.call('ZADD', key, ARGV[1], ARGV[1])\n" +
+            "    redis.call('ZREMRANGEBYRANK', key, 0, -tonumber(ARGV[2]) - 1)\n" +
+            "    pushed = pushed + 1\n" +
+            "  end\n" +
+            "end\n" +
+            "return pushed", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final SubscriptionRepository subscriptionRepository;
+    private final ChannelRepository channelRepository;
+    private final ContentRepository contentRepository;
+    private final SupportMaterialLoader supportMaterialLoader;
+    private final int maxLength;
+    private final int fanOutThreshold;
+    private final Duration ttl;
+    private final ExecutorService fanOutExecutor;
+
+    public ChannelTimelineService(StringRedisTemplate redisTemplate,
+                                  SubscriptionRepository subscriptionRepository,
+                                  ChannelRepository channelRepository,
+                                  ContentRepository contentRepository,
+                                  SupportMaterialLoader supportMaterialLoader,
+                                  @Value("${app.timeline.max-length:500}") int maxLength,
+                                  @Value("${app.timeline.fan-out-threshold:10000}") int fanOutThreshold,
+                                  @Value("${app.timeline.ttl:7d}") Duration ttl,
+                                  @Value("${app.timeline.fan-out-threads:2}") int fanOutThreads,
+                                  @Value("${app.timeline.fan-out-queue-capacity:1000}") int fanOutQueueCapacity) {
+        this.redisTemplate = redisTemplate;
+        this.subscriptionRepository = subscriptionRepository;
+        this.channelRepository = channelRepository;
+        this.contentRepository = contentRepository;
+        this.supportMaterialLoader = supportMaterialLoader;
+        this.maxLength = maxLength;
+        this.fanOutThreshold = fanOutThreshold;
+        this.ttl = ttl;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 큐가 가득 차면 호출 스레드에서 직접 처리 (팬아웃 유실 대신 등록 응답을 늦춤)
+        this.fanOutExecutor = new ThreadPoolExecutor(fanOutThreads, fanOutThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fanOutQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "timeline-fan-out-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        fanOutExecutor.shutdown();
+        if (!fanOutExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("타임라인 팬아웃 작업이 종료 대기 시간을 초과했습니다");
+        }
+    }
+
+    /**
+     * 콘텐츠 등록/수정/삭제 반영 (커밋 이후, 팬아웃은 별도 스레드)
+     */
+    @TransactionalEventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        ContentResponse before = event.getBefore();
+        ContentResponse after = event.getAfter();
+        boolean beforeListed = isListed(before);
+        boolean afterListed = isListed(after);
+        boolean sameChannel = beforeListed && afterListed && before.getChannelId().equals(after.getChannelId());
+
+        if (beforeListed && !sameChannel) {
+            fanOutExecutor.execute(() -> remove(before.getChannelId(), before.getContentId()));
+        }
+        if (afterListed && !sameChannel) {
+            fanOutExecutor.execute(() -> push(after.getChannelId(), after.getContentId()));
+        }
+    }
+
+    /**
+     * 구독 채널 구성이 바뀌면 사용자 타임라인을 버리고 다음 조회 때 다시 구축
+     */
+    @TransactionalEventListener
+    public void onSubscriptionChanged(SubscriptionChangedEvent event) {
+        try {
+            redisTemplate.delete(userKey(event.getUserId()));
+        } catch (DataAccessException e) {
+            log.warn("타임라인 초기화 실패: userId={}, error={}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 구독 채널 타임라인 조회 (cursor보다 작은 content_id부터 최신순)
+     */
+    @Transactional(readOnly = true)
+    public TimelineResponse getTimeline(Long userId, Long cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        List<Channel> channels = subscriptionRepository.findSubscribedChannels(userId);
+        if (channels.isEmpty()) {
+            return TimelineResponse.builder().contents(Collections.emptyList()).hasNext(false).build();
+        }
+
+        List<Long> pushChannelIds = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        for (Channel channel : channels) {
+            if (isPullChannel(channel)) {
+                String key = channelKey(channel.getChannelId());
+                ensureBuilt(key, List.of(channel.getChannelId()));
+                keys.add(key);
+            } else {
+                pushChannelIds.add(channel.getChannelId());
+            }
+        }
+        if (!pushChannelIds.isEmpty()) {
+            String key = userKey(userId);
+            ensureBuilt(key, pushChannelIds);
+            keys.add(key);
+        }
+
+        // 소스마다 limit + 1개씩 읽으면 병합 결과의 상위 limit + 1개가 정확하다
+        List<Long> merged = mergeDescending(readSources(keys, cursor, limit + 1), limit + 1);
+        boolean hasNext = merged.size() > limit;
+        List<Long> pageIds = hasNext ? merged.subList(0, limit) : merged;
+
+        return TimelineResponse.builder()
+                .contents(load(pageIds))
+                .nextCursor(hasNext ? pageIds.get(pageIds.size() - 1) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private void push(Long channelId, Long contentId) {
+        try {
+            Channel channel = channelRepository.findById(channelId).orElse(null);
+            if (channel == null) {
+                return;
+            }
+
+            String member = String.valueOf(contentId);
+            String maxLengthArg = String.valueOf(maxLength);
+            redisTemplate.execute(PUSH_SCRIPT, List.of(channelKey(channelId)), member, maxLengthArg);
+            if (isPullChannel(channel)) {
+                return;
+            }
+
+            long pushed = 0;
+            long afterId = 0L;
+            while (true) {
+                List<SubscriberRow> rows = subscriptionRepository.findSubscribersAfter(
+                        channelId, afterId, PageRequest.of(0, FAN_OUT_CHUNK_SIZE));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                List<String> keys = rows.stream().map(row -> userKey(row.getUserId())).collect(Collectors.toList());
+                Long count = redisTemplate.execute(PUSH_SCRIPT, keys, member, maxLengthArg);
+                pushed += count != null ? count : 0;
+                if (rows.size() < FAN_OUT_CHUNK_SIZE) {
+                    break;
+                }
+                afterId = rows.get(rows.size() - 1).getSubscriptionId();
+            }
+            log.debug("타임라인 팬아웃: channelId={}, contentId={}, timelines={}", channelId, contentId, pushed);
+        } catch (RuntimeException e) {
+            log.error("타임라인 팬아웃 실패: channelId={}, contentId={}, error={}", channelId, contentId, e.getMessage());
+        }
+    }
+
+    /**
+     * 채널 목록과 구독자 타임라인에서 제거 (조회 시에도 삭제/비공개 콘텐츠는 걸러지므로 실패해도 노출되지 않음)
+     */
+    private void remove(Long channelId, Long contentId) {
+        try {
+            String member = String.valueOf(contentId);
+            redisTemplate.opsForZSet().remove(channelKey(channelId), member);
+
+            Channel channel = channelRepository.findById(channelId).orElse(null);
+            if (channel == null || isPullChannel(channel)) {
+                return;
+            }
+
+            byte[] memberBytes = member.getBytes(StandardCharsets.UTF_8);
+            long afterId = 0L;
+            while (true) {
+                List<SubscriberRow> rows = subscriptionRepository.findSubscribersAfter(
+                        channelId, afterId, PageRequest.of(0, FAN_OUT_CHUNK_SIZE));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    removeAll(connection, rows, memberBytes);
+                    return null;
+                });
+                if (rows.size() < FAN_OUT_CHUNK_SIZE) {
+                    break;
+                }
+                afterId = rows.get(rows.size() - 1).getSubscriptionId();
+            }
+        } catch (RuntimeException e) {
+            log.error("타임라인 제거 실패: channelId={}, contentId={}, error={}", channelId, contentId, e.getMessage());
+        }
+    }
+
+    private void removeAll(RedisConnection connection, List<SubscriberRow> rows, byte[] memberBytes) {
+        for (SubscriberRow row : rows) {
+            connection.zSetCommands().zRem(userKey(row.getUserId()).getBytes(StandardCharsets.UTF_8), memberBytes);
+        }
+    }
+
+    /**
+     * 키가 있으면 TTL만 연장, 없으면 DB의 최근 콘텐츠로 구축
+     */
+    private void ensureBuilt(String key, Collection<Long> channelIds) {
+        if (Boolean.TRUE.equals(redisTemplate.expire(key, ttl))) {
+            return;
+        }
+
+        List<Long> contentIds = contentRepository.findRecentContentIdsByChannelIds(channelIds, PageRequest.of(0, maxLength));
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        tuples.add(new DefaultTypedTuple<>(SENTINEL, 0d));
+        for (Long contentId : contentIds) {
+            tuples.add(new DefaultTypedTuple<>(String.valueOf(contentId), contentId.doubleValue()));
+        }
+        redisTemplate.opsForZSet().add(key, tuples);
+        redisTemplate.expire(key, ttl);
+    }
+
+    /**
+     * 각 키에서 cursor 미만 content_id를 최신순으로 count개씩 (한 번의 파이프라인)
+     */
+    private List<List<Long>> readSources(List<String> keys, Long cursor, int count) {
+        double max = cursor != null ? cursor - 1 : Long.MAX_VALUE;
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                ZSetOperations<String, String> zSet = (ZSetOperations<String, String>) operations.opsForZSet();
+                for (String key : keys) {
+                    zSet.reverseRangeByScore(key, 1, max, 0, count);
+                }
+                return null;
+            }
+        });
+
+        List<List<Long>> sources = new ArrayList<>(results.size());
+        for (Object result : results) {
+            List<Long> ids = new ArrayList<>();
+            if (result instanceof Collection<?> members) {
+                for (Object member : members) {
+                    ids.add(Long.valueOf(member.toString()));
+                }
+            }
+            sources.add(ids);
+        }
+        return sources;
+    }
+
+    /**
+     * 내림차순 목록들의 k-way 병합 (중복 제거, 상위 limit개)
+     */
+    private List<Long> mergeDescending(List<List<Long>> sources, int limit) {
+        PriorityQueue<int[]> heap = new PriorityQueue<>(
+                Comparator.comparingLong((int[] head) -> sources.get(head[0]).get(head[1])).reversed());
+        for (int i = 0; i < sources.size(); i++) {
+            if (!sources.get(i).isEmpty()) {
+                heap.add(new int[]{i, 0});
+            }
+        }
+
+        List<Long> merged = new ArrayList<>(limit);
+        while (!heap.isEmpty() && merged.size() < limit) {
+            int[] head = heap.poll();
+            List<Long> source = sources.get(head[0]);
+            Long contentId = source.get(head[1]);
+            if (merged.isEmpty() || !merged.get(merged.size() - 1).equals(contentId)) {
+                merged.add(contentId);
+            }
+            if (head[1] + 1 < source.size()) {
+                heap.add(new int[]{head[0], head[1] + 1});
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 현재 페이지 콘텐츠만 DB에서 조회 (삭제/비공개 전환된 콘텐츠는 제외)
+     */
+    private List<ContentResponse> load(List<Long> contentIds) {
+        if (contentIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, Content> contentMap = contentRepository.findAllById(contentIds).stream()
+                .collect(Collectors.toMap(Content::getContentId, Function.identity()));
+        List<ContentResponse> contents = contentIds.stream()
+                .map(contentMap::get)
+                .filter(content -> content != null && content.getDeletedAt() == null)
+                .map(ContentResponse::from)
+                .filter(this::isListed)
+                .collect(Collectors.toList());
+        supportMaterialLoader.attach(contents);
+        return contents;
+    }
+
+    private boolean isListed(ContentResponse content) {
+        return content != null
+                && content.getChannelId() != null
+                && "public".equals(content.getPublicStatus())
+                && !Boolean.TRUE.equals(content.getIsSupportMaterial());
+    }
+
+    private boolean isPullChannel(Channel channel) {
+        return channel.getChannelType() == Channel.ChannelType.INSTITUTION
+                || (channel.getSubscriberCount() != null && channel.getSubscriberCount() >= fanOutThreshold);
+    }
+
+    private static String userKey(Long userId) {
+        return USER_KEY_PREFIX + userId;
+    }
+
+    private static String channelKey(Long channelId) {
+        return CHANNEL_KEY_PREFIX + channelId;
+    }
+}
@@ -0,0 +1,204 @@
+package com.itda.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itda.dto.ContentResponse;
+import com.itda.event.ContentChangedEvent;
+import com.itda.event.UserContentsChangedEvent;
+import com.itda.repository.ContentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 콘텐츠 단건 캐시 (content:{id}, ContentResponse JSON)
+ * - 읽기: 캐시에 없으면 DB에서 읽어 채움 (여러 건은 MGET 한 번 + 없는 것만 IN 조회 한 번)
+ * - 쓰기: 등록/수정은 커밋 이후 새 값으로 덮어쓰고, 삭제는 짧은 TTL의 삭제 표시로 덮어씀, 폴더 이동 같은 일괄 변경은 키 제거
+ *   (삭제 직전에 DB/레플리카에서 읽은 요청이 SET NX로 이전 값을 다시 채우지 못하게, TTL은 레플리카 최대 지연보다 길게)
+ * - 조회수 등 카운터는 캐시에 반영하지 않음 (TTL이 지나면 DB 값으로 다시 채워짐)
+ * - Redis 장애 시 DB에서 직접 조회
+ */
+@Slf4j
+@Service
+public class ContentCache {
+
+    private static final String KEY_PREFIX = "content:";
+    // 삭제 표시 (JSON이 아니므로 값과 겹치지 않음)
+    private static final String TOMBSTONE = "deleted";
+
+    private final ContentRepository contentRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration tombstoneTtl;
+
+    public ContentCache(ContentRepository contentRepository,
+                        StringRedisTemplate redisTemplate,
+                        ObjectMapper objectMapper,
+                        @Value("${app.content-cache.ttl:10m}") Duration ttl,
+                        @Value("${app.content-cache.tombstone-ttl:30s}") Duration tombstoneTtl) {
+        this.contentRepository = contentRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.tombstoneTtl = tombstoneTtl;
+    }
+
+    /**
+     * 단건 조회 (삭제되었거나 없으면 null)
+     */
+    public ContentResponse get(Long contentId) {
+        return getMany(List.of(contentId)).get(contentId);
+    }
+
+    /**
+     * 여러 건 조회 (요청 순서 유지, 없는 ID는 결과에서 빠짐)
+     */
+    public Map<Long, ContentResponse> getMany(Collection<Long> contentIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(contentIds));
+        Map<Long, ContentResponse> found = new LinkedHashMap<>();
+        if (ids.isEmpty()) {
+            return found;
+        }
+
+        List<Long> misses = new ArrayList<>();
+        List<String> cached = multiGet(ids);
+        for (int i = 0; i < ids.size(); i++) {
+            String json = cached != null ? cached.get(i) : null;
+            if (TOMBSTONE.equals(json)) {
+                // 삭제됨: DB에서 다시 채우지 않음
+                continue;
+            }
+            ContentResponse response = read(json);
+            if (response != null) {
+                found.put(ids.get(i), response);
+            } else {
+                misses.add(ids.get(i));
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            List<ContentResponse> loaded = new ArrayList<>();
+            contentRepository.findAllById(misses).stream()
+                    .filter(content -> content.getDeletedAt() == null)
+                    .map(ContentResponse::from)
+                    .forEach(response -> {
+                        loaded.add(response);
+                        found.put(response.getContentId(), response);
+                    });
+            if (cached != null) {
+                // 그사이 커밋된 수정/삭제가 먼저 써 둔 값을 덮지 않도록 없을 때만
+                putAll(loaded, RedisStringCommands.SetOption.ifAbsent());
+            }
+        }
+
+        // 요청 순서대로
+        Map<Long, ContentResponse> ordered = new LinkedHashMap<>();
+        ids.forEach(id -> {
+            ContentResponse response = found.get(id);
+            if (response != null) {
+                ordered.put(id, response);
+            }
+        });
+        return ordered;
+    }
+
+    /**
+     * 등록/수정은 커밋 이후 새 값으로 덮어쓰기, 삭제는 삭제 표시로 덮어쓰기
+     */
+    @TransactionalEventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        try {
+            if (event.getChangeType() == ContentChangedEvent.ChangeType.DELETED) {
+                redisTemplate.opsForValue().set(KEY_PREFIX + event.getContentId(), TOMBSTONE, tombstoneTtl);
+            } else {
+                putAll(List.of(event.getAfter()), RedisStringCommands.SetOption.upsert());
+            }
+        } catch (DataAccessException e) {
+            // 못 지우면 TTL까지 이전 값이 보일 수 있음
+            log.warn("콘텐츠 캐시 갱신 실패: contentId={}, error={}", event.getContentId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 일괄 변경(폴더 이동)은 커밋 이후 해당 키 제거 (다음 조회 때 DB에서 다시 채움)
+     */
+    @TransactionalEventListener
+    public void onUserContentsChanged(UserContentsChangedEvent event) {
+        if (event.getContentIds().isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.delete(event.getContentIds().stream().map(id -> KEY_PREFIX + id).toList());
+        } catch (DataAccessException e) {
+            log.warn("콘텐츠 캐시 무효화 실패: userId={}, count={}, error={}",
+                    event.getUserId(), event.getContentIds().size(), e.getMessage());
+        }
+    }
+
+    private List<String> multiGet(List<Long> ids) {
+        try {
+            return redisTemplate.opsForValue().multiGet(ids.stream().map(id -> KEY_PREFIX + id).toList());
+        } catch (DataAccessException e) {
+            log.warn("콘텐츠 캐시 조회 실패, DB로 대체: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void putAll(List<ContentResponse> responses, RedisStringCommands.SetOption option) {
+        if (responses.isEmpty()) {
+            return;
+        }
+        Expiration expiration = Expiration.from(ttl);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (ContentResponse response : responses) {
+                    byte[] json = write(response);
+                    if (json != null) {
+                        connection.stringCommands().set((KEY_PREFIX + response.getContentId()).getBytes(StandardCharsets.UTF_8),
+                                json, expiration, option);
+                    }
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("콘텐츠 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private ContentResponse read(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, ContentResponse.class);
+        } catch (JsonProcessingException e) {
+            // 형식이 바뀐 이전 값은 DB에서 다시 채운다
+            return null;
+        }
+    }
+
+    private byte[] write(ContentResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            log.warn("콘텐츠 캐시 직렬화 실패: contentId={}", response.getContentId());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.itda.service;
+
+import com.itda.dto.ContentChangesResponse;
+import com.itda.dto.ContentResponse;
+import com.itda.entity.Content;
+import com.itda.repository.ContentJdbcRepository;
+import com.itda.repository.ContentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 사용자별 콘텐츠 변경 피드 (클라이언트가 로컬 사본을 증분으로 갱신)
+ * - 동기화 토큰 = 마지막으로 받은 변경의 (updated_at, content_id), 같은 시각은 content_id로 순서를 정함
+ * - 삭제는 soft delete가 updated_at을 함께 바꾸므로 같은 순서로 나오고, 카운터 변경은 나오지 않음
+ * - 늦게 커밋된 트랜잭션이 이미 지나간 토큰 뒤에 끼어들지 않도록 settle-window 이전에 바뀐 행까지만 내려준다
+ *   (기준 시각은 DB NOW(), 앱 서버 시계와 DB 시계 차이는 settle-window 안이어야 함)
+ * - 레플리카에서 읽으면 지연된 만큼의 변경을 토큰이 건너뛰므로 읽기 전용 트랜잭션이 아닌 primary에서 읽는다
+ * - 토큰 없이 요청하면 삭제되지 않은 전체 목록부터 시작 (초기 동기화)
+ */
+@Service
+@Transactional
+public class ContentChangeFeedService {
+
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final String PUBLIC_STATUS = "public";
+
+    private final ContentRepository contentRepository;
+    private final ContentJdbcRepository contentJdbcRepository;
+    private final Duration settleWindow;
+
+    public ContentChangeFeedService(ContentRepository contentRepository,
+                                    ContentJdbcRepository contentJdbcRepository,
+                                    @Value("${app.change-feed.settle-window:5s}") Duration settleWindow) {
+        this.contentRepository = contentRepository;
+        this.contentJdbcRepository = contentJdbcRepository;
+        this.settleWindow = settleWindow;
+    }
+
+    /**
+     * since 이후 변경분 (본인이 아니면 공개 콘텐츠만, 비공개로 바뀐 것은 삭제로 전달)
+     *
+     * @throws IllegalArgumentException 토큰 형식이 잘못된 경우
+     */
+    public ContentChangesResponse getChanges(Long userId, String since, int size, boolean ownerView) {
+        Cursor cursor = since != null ? Cursor.decode(since) : new Cursor(EPOCH, 0L);
+        LocalDateTime until = contentJdbcRepository.currentTimestamp().minus(settleWindow);
+
+        List<Content> rows = contentRepository.findChangesByUser(userId, cursor.updatedAt(), cursor.contentId(),
+                until, since != null, PageRequest.of(0, size + 1));
+        boolean hasMore = rows.size() > size;
+        if (hasMore) {
+            rows = rows.subList(0, size);
+        }
+
+        List<ContentResponse> upserts = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        for (Content content : rows) {
+            if (content.getDeletedAt() != null || (!ownerView && !PUBLIC_STATUS.equals(content.getPublicStatus()))) {
+                deletedIds.add(content.getContentId());
+            } else {
+                upserts.add(ContentResponse.from(content));
+            }
+        }
+
+        Cursor next = rows.isEmpty()
+                ? cursor
+                : new Cursor(rows.get(rows.size() - 1).getUpdatedAt(), rows.get(rows.size() - 1).getContentId());
+        return ContentChangesResponse.builder()
+                .upserts(upserts)
+                .deletedIds(deletedIds)
+                .nextToken(next.encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private record Cursor(LocalDateTime updatedAt, Long contentId) {
+
+        String encode() {
+            String raw = updatedAt + "|" + contentId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String token) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new IllegalArgumentException("잘못된 동기화 토큰입니다.");
+            }
+        }
+    }
+}
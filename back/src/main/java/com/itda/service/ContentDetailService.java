@@ -0,0 +1,145 @@
+package com.itda.service;
+
+import com.itda.config.ReplicationRoutingContext;
+import com.itda.dto.AuthorSummary;
+import com.itda.dto.ChannelStatsResponse;
+import com.itda.dto.ContentDetailResponse;
+import com.itda.dto.ContentResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 콘텐츠 상세 화면 묶음 조회 (콘텐츠 + 보조자료 + 작성자 요약 + 채널 요약을 한 번에)
+ * - 보조자료는 콘텐츠와 동시에, 작성자/채널은 콘텐츠를 읽은 직후 동시에 전용 풀에서 조회
+ * - 작성자/채널 요약은 @Cacheable(sync) 캐시를 거치므로 같은 대상의 동시 조회는 한 번만 로드
+ * - 부가 정보는 부분마다 시간 예산(part-timeout)을 두고, 넘기거나 실패하면 비워서 missingParts에 표시
+ * - 풀/대기열이 가득 차면 부가 정보 조회를 건너뜀 (요청 스레드에서 대신 실행하지 않음)
+ */
+@Slf4j
+@Service
+public class ContentDetailService {
+
+    static final String SUPPORT_MATERIALS = "supportMaterials";
+    static final String AUTHOR = "author";
+    static final String CHANNEL = "channel";
+
+    private final ContentService contentService;
+    private final UserService userService;
+    private final ChannelStatsService channelStatsService;
+    private final long partTimeoutMs;
+    private final ThreadPoolExecutor executor;
+
+    public ContentDetailService(ContentService contentService,
+                                UserService userService,
+                                ChannelStatsService channelStatsService,
+                                @Value("${app.content-detail.part-timeout:300ms}") Duration partTimeout,
+                                @Value("${app.content-detail.threads:8}") int threads,
+                                @Value("${app.content-detail.queue-capacity:200}") int queueCapacity) {
+        this.contentService = contentService;
+        this.userService = userService;
+        this.channelStatsService = channelStatsService;
+        this.partTimeoutMs = partTimeout.toMillis();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "content-detail-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 상세 묶음 조회 (콘텐츠가 없으면 IllegalArgumentException, 조회수는 콘텐츠 단건 조회와 같이 1 증가)
+     */
+    public ContentDetailResponse getDetail(Long contentId) {
+        long supportDeadline = System.currentTimeMillis() + partTimeoutMs;
+        CompletableFuture<List<ContentResponse>> supportMaterials =
+                submit(() -> contentService.getSupportMaterials(contentId));
+
+        // 본문은 요청 스레드에서 (대부분 content:{id} 캐시 적중)
+        ContentResponse content;
+        try {
+            content = contentService.getContent(contentId);
+        } catch (RuntimeException e) {
+            supportMaterials.cancel(false);
+            throw e;
+        }
+
+        long summaryDeadline = System.currentTimeMillis() + partTimeoutMs;
+        CompletableFuture<AuthorSummary> author = submit(() -> userService.getAuthorSummary(content.getUserId()));
+        CompletableFuture<ChannelStatsResponse> channel = content.getChannelId() != null
+                ? submit(() -> channelStatsService.getStats(content.getChannelId()))
+                : CompletableFuture.completedFuture(null);
+
+        List<String> missingParts = new ArrayList<>();
+        return ContentDetailResponse.builder()
+                .content(content)
+                .supportMaterials(await(SUPPORT_MATERIALS, supportMaterials, supportDeadline, contentId, missingParts))
+                .author(await(AUTHOR, author, summaryDeadline, contentId, missingParts))
+                .channel(await(CHANNEL, channel, summaryDeadline, contentId, missingParts))
+                .missingParts(missingParts)
+                .build();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> part) {
+        // read-your-writes 라우팅 힌트는 스레드 로컬이므로 작업 스레드로 옮겨 준다
+        boolean primaryForced = ReplicationRoutingContext.isPrimaryForced();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                if (primaryForced) {
+                    ReplicationRoutingContext.forcePrimary();
+                }
+                try {
+                    return part.get();
+                } finally {
+                    ReplicationRoutingContext.clear();
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 부분 결과 대기 (부분마다 시작 시각 + part-timeout까지, 같은 단계의 부분은 동시에 진행되므로 함께 끝남)
+     */
+    private <T> T await(String name, CompletableFuture<T> part, long deadline, Long contentId, List<String> missingParts) {
+        long remainingMs = Math.max(0, deadline - System.currentTimeMillis());
+        try {
+            return part.get(remainingMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            part.cancel(false);
+            log.warn("콘텐츠 상세 부분 조회 시간 초과: contentId={}, part={}", contentId, name);
+        } catch (ExecutionException e) {
+            log.warn("콘텐츠 상세 부분 조회 실패: contentId={}, part={}, error={}",
+                    contentId, name, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        missingParts.add(name);
+        return null;
+    }
+}
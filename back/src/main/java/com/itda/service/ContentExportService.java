@@ -0,0 +1,242 @@
+package com.itda.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itda.repository.ContentExportJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 콘텐츠 전체 내보내기 (관리자 보고용 CSV/NDJSON)
+ * - DB 결과를 한 행씩 받아 바로 응답 스트림에 쓴다 (오프셋 페이징/엔티티 적재 없음, 행 수와 무관하게 버퍼 크기만큼만 사용)
+ * - readOnly 트랜잭션이라 읽기/쓰기 분리가 켜져 있으면 레플리카에서 읽고, 시작 시점 스냅샷 기준으로 일관됨
+ * - 스트리밍 동안 커넥션 하나를 계속 쓰므로 동시 내보내기 수를 제한
+ * - 클라이언트가 끊으면 다음 쓰기에서 예외가 나므로 즉시 중단된다
+ */
+@Slf4j
+@Service
+public class ContentExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ContentExportJdbcRepository contentExportJdbcRepository;
+    private final ObjectMapper objectMapper;
+    private final Semaphore permits;
+
+    public ContentExportService(ContentExportJdbcRepository contentExportJdbcRepository,
+                                ObjectMapper objectMapper,
+                                @Value("${app.export.max-concurrent:2}") int maxConcurrent) {
+        this.contentExportJdbcRepository = contentExportJdbcRepository;
+        this.objectMapper = objectMapper;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    public enum Format {
+        CSV("csv", "text/csv"),
+        NDJSON("ndjson", "application/x-ndjson");
+
+        private final String extension;
+        private final String mediaType;
+
+        Format(String extension, String mediaType) {
+            this.extension = extension;
+            this.mediaType = mediaType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public String mediaType() {
+            return mediaType;
+        }
+
+        /**
+         * @throws IllegalArgumentException 지원하지 않는 형식
+         */
+        public static Format of(String value) {
+            return Format.valueOf(value.toUpperCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * 동시 내보내기 슬롯 확보 (없으면 false, 성공 시 export 이후 release 필요)
+     */
+    public boolean tryAcquire() {
+        return permits.tryAcquire();
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * 전체 콘텐츠를 out에 기록 (gzip이면 압축해서), 기록한 행 수 반환
+     */
+    @Transactional(readOnly = true)
+    public long export(Format format, boolean gzip, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        GZIPOutputStream compressed = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(compressed != null ? compressed : out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        RowWriter rowWriter = format == Format.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+
+        long[] rows = {0};
+        try {
+            rowWriter.begin();
+            contentExportJdbcRepository.streamAll(rs -> {
+                try {
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw new InterruptedIOException("내보내기 중단");
+                    }
+                    rowWriter.write(rs);
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            rowWriter.end();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        if (compressed != null) {
+            compressed.finish();
+        }
+        out.flush();
+
+        log.info("콘텐츠 내보내기 완료: format={}, gzip={}, rows={}, elapsed={}ms",
+                format, gzip, rows[0], System.currentTimeMillis() - start);
+        return rows[0];
+    }
+
+    private interface RowWriter {
+
+        default void begin() throws IOException {
+        }
+
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        default void end() throws IOException {
+        }
+    }
+
+    /**
+     * RFC 4180 CSV (엑셀에서 한글이 깨지지 않도록 UTF-8 BOM으로 시작)
+     * - 사용자가 입력한 문자열이 =, +, -, @, 탭, CR로 시작하면 앞에 '를 붙여 스프레드시트가 수식으로 실행하지 않게 한다
+     */
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        private CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void begin() throws IOException {
+            writer.write('\uFEFF');
+            writer.write(String.join(",", ContentExportJdbcRepository.COLUMNS));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            for (int i = 1; i <= ContentExportJdbcRepository.COLUMNS.length; i++) {
+                if (i > 1) {
+                    writer.write(',');
+                }
+                Object value = value(rs, i);
+                if (value instanceof String text) {
+                    writeField(neutralizeFormula(text));
+                } else if (value != null) {
+                    writeField(value.toString());
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        private static String neutralizeFormula(String field) {
+            if (field.isEmpty()) {
+                return field;
+            }
+            char first = field.charAt(0);
+            boolean formula = first == '=' || first == '+' || first == '-' || first == '@'
+                    || first == '\t' || first == '\r';
+            return formula ? "'" + field : field;
+        }
+
+        private void writeField(String field) throws IOException {
+            boolean quote = field.indexOf(',') >= 0 || field.indexOf('"') >= 0
+                    || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(field);
+                return;
+            }
+            writer.write('"');
+            writer.write(field.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    /**
+     * 한 줄에 JSON 객체 하나 (Jackson 스트리밍 생성기로 중간 객체 없이 기록)
+     */
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        private NdjsonRowWriter(Writer writer) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+            this.generator.setRootValueSeparator(null);
+            // 닫을 때 응답 스트림까지 닫지 않도록
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            for (int i = 1; i <= ContentExportJdbcRepository.COLUMNS.length; i++) {
+                generator.writeFieldName(ContentExportJdbcRepository.COLUMNS[i - 1]);
+                Object value = value(rs, i);
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof Number number) {
+                    generator.writeNumber(number.longValue());
+                } else {
+                    generator.writeString(value.toString());
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void end() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static Object value(ResultSet rs, int index) throws SQLException {
+        Object value = rs.getObject(index);
+        // TIMESTAMP 컬럼은 드라이버 설정에 따라 Timestamp로 오므로 LocalDateTime 표기로 통일
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : value;
+    }
+}
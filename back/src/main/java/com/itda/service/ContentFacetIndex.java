@@ -0,0 +1,292 @@
+package com.itda.service;
+
+import com.itda.dto.ContentFacetRow;
+import com.itda.dto.ContentResponse;
+import com.itda.event.ContentChangedEvent;
+import com.itda.repository.ContentRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 공개 콘텐츠 패싯 인덱스 (메모리 비트맵)
+ * - 패싯 값마다 content_id 비트맵(Roaring)을 유지하고, 필터 교집합과 패싯별 개수를 메모리에서 계산한다
+ * - 기동 시 전체 구축 후 콘텐츠 변경 이벤트로 증분 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentFacetIndex {
+
+    public static final List<String> FACETS = List.of(
+            "schoolLevel", "grade", "semester", "subject", "contentType", "contentFormat", "usageCondition");
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final ContentRepository contentRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Queue<ContentChangedEvent> changedDuringRebuild = new ConcurrentLinkedQueue<>();
+    private volatile boolean rebuilding;
+
+    private Snapshot snapshot = new Snapshot();
+
+    /**
+     * 전체 재구축 (기동 시)
+     * - 구축 중에 들어온 변경은 기록해 두었다가 교체 직후 다시 적용한다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        changedDuringRebuild.clear();
+        rebuilding = true;
+
+        Snapshot fresh = new Snapshot();
+        try {
+            long afterId = 0L;
+            while (true) {
+                List<ContentFacetRow> rows = contentRepository.findFacetRowsAfter(afterId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                for (ContentFacetRow row : rows) {
+                    fresh.add(toDocId(row.getContentId()), facetValues(row));
+                }
+                if (rows.size() < LOAD_CHUNK_SIZE) {
+                    break;
+                }
+                afterId = rows.get(rows.size() - 1).getContentId();
+            }
+        } catch (RuntimeException e) {
+            rebuilding = false;
+            log.error("패싯 인덱스 구축 실패: {}", e.getMessage(), e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            ContentChangedEvent event;
+            while ((event = changedDuringRebuild.poll()) != null) {
+                apply(fresh, event);
+            }
+            fresh.optimize();
+            snapshot = fresh;
+            rebuilding = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("패싯 인덱스 구축 완료: documents={}, elapsed={}ms",
+                fresh.all.getCardinality(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 콘텐츠 변경 반영 (커밋 이후)
+     */
+    @TransactionalEventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(snapshot, event);
+            if (rebuilding) {
+                changedDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 필터 조회 + 패싯별 개수
+     * - 같은 패싯 안의 값은 OR, 패싯 간에는 AND
+     * - 패싯별 개수는 해당 패싯 자신의 필터를 제외한 조건으로 집계 (선택 가능한 다른 값의 개수를 보여주기 위함)
+     *
+     * @param filters 패싯명 → 선택 값 목록
+     * @param offset  결과 id 시작 위치 (최신 등록순)
+     * @param limit   반환할 id 개수
+     */
+    public Result query(Map<String, ? extends Collection<String>> filters, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            Snapshot current = snapshot;
+            int facetCount = FACETS.size();
+
+            // 패싯별 선택 값의 합집합 (필터 없으면 null)
+            RoaringBitmap[] selected = new RoaringBitmap[facetCount];
+            for (int i = 0; i < facetCount; i++) {
+                Collection<String> values = filters.get(FACETS.get(i));
+                if (values == null || values.isEmpty()) {
+                    continue;
+                }
+                RoaringBitmap union = new RoaringBitmap();
+                for (String value : values) {
+                    RoaringBitmap bitmap = current.postings.get(i).get(value);
+                    if (bitmap != null) {
+                        union.or(bitmap);
+                    }
+                }
+                selected[i] = union;
+            }
+
+            RoaringBitmap matched = intersect(current.all, selected, -1);
+
+            Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+            for (int i = 0; i < facetCount; i++) {
+                RoaringBitmap base = selected[i] == null ? matched : intersect(current.all, selected, i);
+                List<Map.Entry<String, Integer>> valueCounts = new ArrayList<>();
+                for (Map.Entry<String, RoaringBitmap> posting : current.postings.get(i).entrySet()) {
+                    int count = RoaringBitmap.andCardinality(base, posting.getValue());
+                    if (count > 0) {
+                        valueCounts.add(Map.entry(posting.getKey(), count));
+                    }
+                }
+                valueCounts.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+
+                Map<String, Integer> facetCounts = new LinkedHashMap<>();
+                valueCounts.forEach(entry -> facetCounts.put(entry.getKey(), entry.getValue()));
+                counts.put(FACETS.get(i), facetCounts);
+            }
+
+            List<Long> contentIds = new ArrayList<>(Math.max(0, Math.min(limit, matched.getCardinality() - offset)));
+            IntIterator iterator = matched.getReverseIntIterator();
+            int skipped = 0;
+            while (iterator.hasNext() && contentIds.size() < limit) {
+                int docId = iterator.next();
+                if (skipped++ < offset) {
+                    continue;
+                }
+                contentIds.add(Integer.toUnsignedLong(docId));
+            }
+
+            return new Result(matched.getLongCardinality(), contentIds, counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * selected 비트맵들의 교집합 (excludeIndex 패싯은 제외)
+     */
+    private RoaringBitmap intersect(RoaringBitmap all, RoaringBitmap[] selected, int excludeIndex) {
+        RoaringBitmap result = null;
+        for (int i = 0; i < selected.length; i++) {
+            if (i == excludeIndex || selected[i] == null) {
+                continue;
+            }
+            result = result == null ? selected[i].clone() : RoaringBitmap.and(result, selected[i]);
+        }
+        return result == null ? all : result;
+    }
+
+    private void apply(Snapshot target, ContentChangedEvent event) {
+        int docId = toDocId(event.getContentId());
+        target.remove(docId);
+
+        ContentResponse after = event.getAfter();
+        if (after != null && isIndexable(after)) {
+            target.add(docId, facetValues(after));
+        }
+    }
+
+    private boolean isIndexable(ContentResponse content) {
+        return "public".equals(content.getPublicStatus()) && !Boolean.TRUE.equals(content.getIsSupportMaterial());
+    }
+
+    private int toDocId(Long contentId) {
+        // Roaring 비트맵은 32비트 unsigned 정수를 다룸
+        if (contentId < 0 || contentId > 0xFFFFFFFFL) {
+            throw new IllegalArgumentException("패싯 인덱스 범위를 벗어난 contentId: " + contentId);
+        }
+        return (int) contentId.longValue();
+    }
+
+    private String[] facetValues(ContentResponse content) {
+        return new String[]{
+                content.getSchoolLevel(), content.getGrade(), content.getSemester(), content.getSubject(),
+                content.getContentType(), content.getContentFormat(), content.getUsageCondition()
+        };
+    }
+
+    private String[] facetValues(ContentFacetRow row) {
+        return new String[]{
+                row.getSchoolLevel(), row.getGrade(), row.getSemester(), row.getSubject(),
+                row.getContentType(), row.getContentFormat(), row.getUsageCondition()
+        };
+    }
+
+    /**
+     * 조회 결과
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+        private final long total;
+        private final List<Long> contentIds;
+        private final Map<String, Map<String, Integer>> facetCounts;
+    }
+
+    /**
+     * 인덱스 본체 (재구축 시 통째로 교체)
+     */
+    private static class Snapshot {
+        private final List<Map<String, RoaringBitmap>> postings = new ArrayList<>();
+        private final Map<Integer, String[]> documents = new HashMap<>();
+        private final RoaringBitmap all = new RoaringBitmap();
+
+        Snapshot() {
+            for (int i = 0; i < FACETS.size(); i++) {
+                postings.add(new HashMap<>());
+            }
+        }
+
+        void add(int docId, String[] values) {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null && !values[i].isEmpty()) {
+                    postings.get(i).computeIfAbsent(values[i], key -> new RoaringBitmap()).add(docId);
+                }
+            }
+            documents.put(docId, values);
+            all.add(docId);
+        }
+
+        void remove(int docId) {
+            String[] values = documents.remove(docId);
+            if (values == null) {
+                return;
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == null) {
+                    continue;
+                }
+                RoaringBitmap bitmap = postings.get(i).get(values[i]);
+                if (bitmap != null) {
+                    bitmap.remove(docId);
+                    if (bitmap.isEmpty()) {
+                        postings.get(i).remove(values[i]);
+                    }
+                }
+            }
+            all.remove(docId);
+        }
+
+        void optimize() {
+            // 연속 구간이 많은 비트맵은 run 컨테이너로 압축
+            postings.forEach(facet -> facet.values().forEach(RoaringBitmap::runOptimize));
+            all.runOptimize();
+        }
+    }
+}
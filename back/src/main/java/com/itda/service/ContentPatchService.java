@@ -0,0 +1,54 @@
+package com.itda.service;
+
+import com.itda.dto.ContentPatchRequest;
+import com.itda.dto.ContentResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 콘텐츠 부분 수정 재시도
+ * - 시도마다 새 트랜잭션(ContentService.patchContent)에서 최신 상태를 다시 읽어 같은 변경을 적용
+ * - 클라이언트가 버전을 보낸 경우는 재시도하지 않음 (그 버전을 기준으로 한 수정이라 덮어쓰면 안 됨)
+ */
+@Slf4j
+@Service
+public class ContentPatchService {
+
+    private final ContentService contentService;
+    private final int maxAttempts;
+
+    public ContentPatchService(ContentService contentService,
+                               @Value("${app.content.patch-max-attempts:3}") int maxAttempts) {
+        this.contentService = contentService;
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    public ContentResponse patch(Long contentId, ContentPatchRequest request, Long userId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return contentService.patchContent(contentId, request, userId);
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (request.getVersion() != null || attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.info("콘텐츠 수정 충돌, 다시 시도: contentId={}, attempt={}", contentId, attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private static void backoff(int attempt) {
+        // 동시에 충돌한 요청끼리 다시 부딪히지 않도록 약간의 무작위 대기
+        long delayMs = ThreadLocalRandom.current().nextLong(5, 20L * attempt);
+        try {
+            TimeUnit.MILLISECONDS.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
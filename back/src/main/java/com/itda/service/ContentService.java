@@ -1,23 +1,38 @@
 package com.itda.service;
 
+import com.itda.config.ReadYourWritesGuard;
+import com.itda.dto.ContentBrowseResponse;
+import com.itda.dto.ContentPatchRequest;
 import com.itda.dto.ContentRequest;
 import com.itda.dto.ContentResponse;
+import com.itda.dto.SuggestionResponse;
 import com.itda.entity.Content;
+import com.itda.event.ContentChangedEvent;
+import com.itda.repository.ContentJdbcRepository;
 import com.itda.repository.ContentRepository;
 import com.itda.util.FileUploadUtil;
+import com.itda.util.FolderPathUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,8 +41,21 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ContentService {
 
+    // 상위 콘텐츠 순환 확인 시 거슬러 올라갈 최대 단계
+    private static final int MAX_PARENT_DEPTH = 100;
+
     private final ContentRepository contentRepository;
+    private final ContentJdbcRepository contentJdbcRepository;
     private final FileUploadUtil fileUploadUtil;
+    private final ReadYourWritesGuard readYourWritesGuard;
+    private final ContentFacetIndex contentFacetIndex;
+    private final SupportMaterialLoader supportMaterialLoader;
+    private final ContentSuggestIndex contentSuggestIndex;
+    private final ChannelStatsService channelStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ContentCache contentCache;
+    private final ContentViewRecorder contentViewRecorder;
+    private final StorageQuotaService storageQuotaService;
 
     /**
      * 콘텐츠 등록
@@ -56,13 +84,16 @@ public class ContentService {
                 .publicStatus(request.getPublicStatus() != null ? request.getPublicStatus() : "public")
                 .storageType(request.getStorageType())
                 .channelId(request.getChannelId())
-                .folderPath(request.getFolderPath())
+                .folderPath(normalizeFolderPath(request.getFolderPath()))
                 .userId(userId)
                 .viewCount(0L)
                 .likeCount(0L)
                 .downloadCount(0L)
                 .build();
 
+        // 용량 한도 확인 후 사용량 반영 (파일을 저장하기 전에, 이후 실패하면 트랜잭션과 함께 롤백)
+        storageQuotaService.reserve(userId, file != null && !file.isEmpty() ? file.getSize() : 0L);
+
         // 파일 업로드 처리 (attachment 또는 file 타입)
         if (file != null && !file.isEmpty()) {
             String filePath = fileUploadUtil.uploadContentFile(file, userId);
@@ -83,9 +114,12 @@ public class ContentService {
         }
 
         Content savedContent = contentRepository.save(content);
+        readYourWritesGuard.markWrite(userId);
         log.info("콘텐츠 등록 완료: contentId={}", savedContent.getContentId());
 
-        return ContentResponse.from(savedContent);
+        ContentResponse response = ContentResponse.from(savedContent);
+        eventPublisher.publishEvent(ContentChangedEvent.created(response));
+        return response;
     }
 
     /**
@@ -103,6 +137,8 @@ public class ContentService {
             throw new IllegalArgumentException("콘텐츠 수정 권한이 없습니다.");
         }
 
+        ContentResponse before = ContentResponse.from(content);
+
         // 기본 정보 수정
         content.setTitle(request.getTitle());
         content.setDescription(request.getDescription());
@@ -114,6 +150,9 @@ public class ContentService {
         content.setAchievementStandard(request.getAchievementStandard());
         content.setContentFormat(request.getContentFormat());
         content.setContentUrl(request.getContentUrl());
+        if (!Objects.equals(request.getParentContentId(), content.getParentContentId())) {
+            validateParent(contentId, request.getParentContentId());
+        }
         content.setParentContentId(request.getParentContentId());
         content.setIsSupportMaterial(request.getIsSupportMaterial());
         content.setKeywords(request.getKeywords());
@@ -122,10 +161,13 @@ public class ContentService {
         content.setPublicStatus(request.getPublicStatus());
         content.setStorageType(request.getStorageType());
         content.setChannelId(request.getChannelId());
-        content.setFolderPath(request.getFolderPath());
+        content.setFolderPath(normalizeFolderPath(request.getFolderPath()));
 
         // 새 파일이 업로드된 경우
         if (file != null && !file.isEmpty()) {
+            // 늘어난 용량이 한도를 넘으면 기존 파일을 지우기 전에 거절
+            storageQuotaService.replace(userId, content.getFileSize() != null ? content.getFileSize() : 0L, file.getSize());
+
             // 기존 파일 삭제
             if (content.getFilePath() != null) {
                 fileUploadUtil.deleteFile(content.getFilePath());
@@ -149,25 +191,111 @@ public class ContentService {
             content.setThumbnailPath(thumbnailPath);
         }
 
-        Content updatedContent = contentRepository.save(content);
-        log.info("콘텐츠 수정 완료: contentId={}", updatedContent.getContentId());
+        // flush 시점에 올라가는 version/updatedAt이 응답과 변경 이벤트(캐시 갱신)에 들어가도록 바로 반영
+        Content updatedContent = contentRepository.saveAndFlush(content);
+        readYourWritesGuard.markWrite(userId);
+        log.info("콘텐츠 수정 완료: contentId={}, version={}", updatedContent.getContentId(), updatedContent.getVersion());
 
-        return ContentResponse.from(updatedContent);
+        ContentResponse response = ContentResponse.from(updatedContent);
+        eventPublisher.publishEvent(ContentChangedEvent.updated(before, response));
+        return response;
     }
 
     /**
-     * 콘텐츠 조회 (단건)
+     * 콘텐츠 부분 수정 (한 번의 시도, 재시도는 ContentPatchService)
+     * - 요청에 있는 항목 중 실제로 값이 바뀐 것만 반영 (@DynamicUpdate로 바뀐 컬럼만 UPDATE)
+     * - 요청 버전이 현재 버전과 다르거나 커밋 직전에 다른 수정이 끼어들면 ObjectOptimisticLockingFailureException
      */
     @Transactional
-    public ContentResponse getContent(Long contentId) {
+    public ContentResponse patchContent(Long contentId, ContentPatchRequest request, Long userId) {
         Content content = contentRepository.findById(contentId)
+                .filter(found -> found.getDeletedAt() == null)
                 .orElseThrow(() -> new IllegalArgumentException("콘텐츠를 찾을 수 없습니다: " + contentId));
 
-        // 조회수 증가
-        content.setViewCount(content.getViewCount() + 1);
-        contentRepository.save(content);
+        if (!content.getUserId().equals(userId)) {
+            throw new IllegalArgumentException("콘텐츠 수정 권한이 없습니다.");
+        }
+        if (request.getVersion() != null && !request.getVersion().equals(content.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Content.class, contentId);
+        }
+
+        ContentResponse before = ContentResponse.from(content);
+
+        boolean changed = apply(request.getTitle(), content.getTitle(), content::setTitle)
+                | apply(request.getDescription(), content.getDescription(), content::setDescription)
+                | apply(request.getContentType(), content.getContentType(), content::setContentType)
+                | apply(request.getSchoolLevel(), content.getSchoolLevel(), content::setSchoolLevel)
+                | apply(request.getGrade(), content.getGrade(), content::setGrade)
+                | apply(request.getSemester(), content.getSemester(), content::setSemester)
+                | apply(request.getSubject(), content.getSubject(), content::setSubject)
+                | apply(request.getAchievementStandard(), content.getAchievementStandard(), content::setAchievementStandard)
+                | apply(request.getContentUrl(), content.getContentUrl(), content::setContentUrl)
+                | apply(request.getKeywords(), content.getKeywords(), content::setKeywords)
+                | apply(request.getCopyrightType(), content.getCopyrightType(), content::setCopyrightType)
+                | apply(request.getUsageCondition(), content.getUsageCondition(), content::setUsageCondition)
+                | apply(request.getPublicStatus(), content.getPublicStatus(), content::setPublicStatus)
+                | apply(request.getStorageType(), content.getStorageType(), content::setStorageType)
+                | apply(request.getChannelId(), content.getChannelId(), content::setChannelId)
+                | apply(request.getFolderPath() != null ? normalizeFolderPath(request.getFolderPath()) : null,
+                        content.getFolderPath(), content::setFolderPath);
+
+        if (!changed) {
+            return before;
+        }
+
+        // 버전 조건이 붙은 UPDATE를 여기서 실행해 충돌을 이 트랜잭션 안에서 드러낸다
+        Content updatedContent = contentRepository.saveAndFlush(content);
+        readYourWritesGuard.markWrite(userId);
+        log.info("콘텐츠 부분 수정 완료: contentId={}, version={}", contentId, updatedContent.getVersion());
 
-        return ContentResponse.from(content);
+        ContentResponse response = ContentResponse.from(updatedContent);
+        eventPublisher.publishEvent(ContentChangedEvent.updated(before, response));
+        return response;
+    }
+
+    /**
+     * 자기 자신이나 자신의 하위 보조자료를 상위 콘텐츠로 지정하면 순환이 생기므로 거부
+     */
+    private void validateParent(Long contentId, Long parentContentId) {
+        if (parentContentId == null) {
+            return;
+        }
+        if (parentContentId.equals(contentId)
+                || contentRepository.findAncestorIds(parentContentId, MAX_PARENT_DEPTH).contains(contentId)) {
+            throw new IllegalArgumentException("자기 자신이나 하위 보조자료를 상위 콘텐츠로 지정할 수 없습니다.");
+        }
+    }
+
+    private static <T> boolean apply(T requested, T current, Consumer<T> setter) {
+        if (requested == null || Objects.equals(requested, current)) {
+            return false;
+        }
+        setter.accept(requested);
+        return true;
+    }
+
+    /**
+     * 콘텐츠 조회 (단건, 캐시 우선)
+     * - 조회수는 모아서 일괄 반영 (요청마다 엔티티 저장 없음)
+     */
+    public ContentResponse getContent(Long contentId) {
+        ContentResponse response = contentCache.get(contentId);
+        if (response == null) {
+            throw new IllegalArgumentException("콘텐츠를 찾을 수 없습니다: " + contentId);
+        }
+
+        contentViewRecorder.record(contentId);
+        if (!Boolean.TRUE.equals(response.getIsSupportMaterial())) {
+            channelStatsService.recordView(response.getChannelId());
+        }
+        return response;
+    }
+
+    /**
+     * 여러 콘텐츠 조회 (요청 순서 유지, 없거나 삭제된 ID는 제외, 조회수는 올리지 않음)
+     */
+    public List<ContentResponse> getContents(Collection<Long> contentIds) {
+        return List.copyOf(contentCache.getMany(contentIds).values());
     }
 
     /**
@@ -186,18 +314,22 @@ public class ContentService {
             throw new IllegalArgumentException("콘텐츠 삭제 권한이 없습니다.");
         }
 
+        ContentResponse before = ContentResponse.from(content);
         contentRepository.delete(content); // Soft delete
+        storageQuotaService.release(content.getUserId(), content.getFileSize() != null ? content.getFileSize() : 0L);
         log.info("콘텐츠 삭제 완료: contentId={}", contentId);
+
+        eventPublisher.publishEvent(ContentChangedEvent.deleted(before));
     }
 
     /**
      * 사용자별 콘텐츠 목록 조회 (캐싱 적용)
      */
-    @Cacheable(value = "userContents", key = "#userId + '_' + #pageable.pageNumber + '_' + #pageable.pageSize")
+    @Cacheable(value = "userContents", key = "#userId + '_' + #pageable.pageNumber + '_' + #pageable.pageSize", sync = true)
     public Page<ContentResponse> getContentsByUser(Long userId, Pageable pageable) {
         log.info("DB에서 사용자 콘텐츠 조회: userId={}", userId);
         Page<Content> contents = contentRepository.findByUserId(userId, pageable);
-        return contents.map(ContentResponse::from);
+        return toResponsePage(contents);
     }
 
     /**
@@ -205,7 +337,7 @@ public class ContentService {
      */
     public Page<ContentResponse> getPublicContents(Pageable pageable) {
         Page<Content> contents = contentRepository.findByPublicStatus("public", pageable);
-        return contents.map(ContentResponse::from);
+        return toResponsePage(contents);
     }
 
     /**
@@ -213,7 +345,7 @@ public class ContentService {
      */
     public Page<ContentResponse> getContentsByChannel(Long channelId, Pageable pageable) {
         Page<Content> contents = contentRepository.findByChannelId(channelId, pageable);
-        return contents.map(ContentResponse::from);
+        return toResponsePage(contents);
     }
 
     /**
@@ -221,7 +353,7 @@ public class ContentService {
      */
     public Page<ContentResponse> getContentsByType(String contentType, Pageable pageable) {
         Page<Content> contents = contentRepository.findByContentType(contentType, pageable);
-        return contents.map(ContentResponse::from);
+        return toResponsePage(contents);
     }
 
     /**
@@ -229,9 +361,12 @@ public class ContentService {
      */
     public List<ContentResponse> getSupportMaterials(Long parentContentId) {
         List<Content> contents = contentRepository.findByParentContentId(parentContentId);
-        return contents.stream()
+        List<ContentResponse> materials = contents.stream()
                 .map(ContentResponse::from)
                 .collect(Collectors.toList());
+        // 하위 보조자료까지 한 번에 붙임
+        supportMaterialLoader.attach(materials);
+        return materials;
     }
 
     /**
@@ -239,15 +374,49 @@ public class ContentService {
      */
     public Page<ContentResponse> searchByKeyword(String keyword, Pageable pageable) {
         Page<Content> contents = contentRepository.searchByKeyword(keyword, pageable);
-        return contents.map(ContentResponse::from);
+        return toResponsePage(contents);
     }
 
     /**
      * 사용자의 폴더별 콘텐츠 조회
      */
     public Page<ContentResponse> getContentsByUserAndFolder(Long userId, String folderPath, Pageable pageable) {
-        Page<Content> contents = contentRepository.findByUserIdAndFolderPath(userId, folderPath, pageable);
-        return contents.map(ContentResponse::from);
+        // 저장 시와 같은 정규형으로 조회 (최상위는 null로 저장되어 IS NULL 조건이 된다)
+        Page<Content> contents = contentRepository.findByUserIdAndFolderPath(userId, normalizeFolderPath(folderPath), pageable);
+        return toResponsePage(contents);
+    }
+
+    /**
+     * 교육과정 탐색 (패싯 필터 + 패싯별 개수, 메모리 인덱스 사용)
+     */
+    public ContentBrowseResponse browseContents(Map<String, ? extends Collection<String>> filters, int page, int size) {
+        ContentFacetIndex.Result result = contentFacetIndex.query(filters, page * size, size);
+
+        // 현재 페이지 콘텐츠만 DB에서 조회 후 인덱스 순서(최신 등록순)로 정렬
+        Map<Long, Content> contentMap = contentRepository.findAllById(result.getContentIds()).stream()
+                .collect(Collectors.toMap(Content::getContentId, Function.identity()));
+        List<ContentResponse> contents = result.getContentIds().stream()
+                .map(contentMap::get)
+                .filter(content -> content != null)
+                .map(ContentResponse::from)
+                .collect(Collectors.toList());
+        supportMaterialLoader.attach(contents);
+
+        return ContentBrowseResponse.builder()
+                .totalElements(result.getTotal())
+                .page(page)
+                .size(size)
+                .contents(contents)
+                .facets(result.getFacetCounts())
+                .build();
+    }
+
+    /**
+     * 검색어 자동완성 (메모리 인덱스만 사용하므로 트랜잭션 없이 처리)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<SuggestionResponse> suggest(String query, int size) {
+        return contentSuggestIndex.suggest(query, size);
     }
 
     /**
@@ -255,10 +424,10 @@ public class ContentService {
      */
     @Transactional
     public void increaseLikeCount(Long contentId) {
-        Content content = contentRepository.findById(contentId)
-                .orElseThrow(() -> new IllegalArgumentException("콘텐츠를 찾을 수 없습니다: " + contentId));
-        content.setLikeCount(content.getLikeCount() + 1);
-        contentRepository.save(content);
+        // 엔티티를 읽지 않고 증감 UPDATE (수정 버전과 무관)
+        if (contentJdbcRepository.incrementLikeCount(contentId) == 0) {
+            throw new IllegalArgumentException("콘텐츠를 찾을 수 없습니다: " + contentId);
+        }
     }
 
     /**
@@ -266,16 +435,15 @@ public class ContentService {
      */
     @Transactional
     public void increaseDownloadCount(Long contentId) {
-        Content content = contentRepository.findById(contentId)
-                .orElseThrow(() -> new IllegalArgumentException("콘텐츠를 찾을 수 없습니다: " + contentId));
-        content.setDownloadCount(content.getDownloadCount() + 1);
-        contentRepository.save(content);
+        if (contentJdbcRepository.incrementDownloadCount(contentId) == 0) {
+            throw new IllegalArgumentException("콘텐츠를 찾을 수 없습니다: " + contentId);
+        }
     }
 
     /**
      * 인기 콘텐츠 조회 (조회수 높은 순, 캐싱 적용)
      */
-    @Cacheable(value = "popularContents", key = "#size")
+    @Cacheable(value = "popularContents", key = "#size", sync = true)
     public List<ContentResponse> getPopularContents(int size) {
         log.info("DB에서 인기 콘텐츠 조회: size={}", size);
         Pageable pageable = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "viewCount"));
@@ -285,6 +453,15 @@ public class ContentService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 페이지 변환 + 보조자료 요약/개수 일괄 설정
+     */
+    private Page<ContentResponse> toResponsePage(Page<Content> contents) {
+        Page<ContentResponse> responses = contents.map(ContentResponse::from);
+        supportMaterialLoader.attach(responses.getContent());
+        return responses;
+    }
+
     /**
      * 과목별 기본 썸네일 반환 (Unsplash 이미지)
      */
@@ -302,4 +479,12 @@ public class ContentService {
             default -> "https://images.unsplash.com/photo-1503676260728-1c00da094a0b?w=400&h=300&fit=crop"; // 기본 교육 이미지
         };
     }
+
+    /**
+     * 보관함 폴더 경로 정규화 (비어 있으면 null = 최상위)
+     */
+    private String normalizeFolderPath(String folderPath) {
+        String normalized = FolderPathUtil.normalize(folderPath);
+        return normalized.isEmpty() ? null : normalized;
+    }
 }
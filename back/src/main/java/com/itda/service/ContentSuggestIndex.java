@@ -0,0 +1,325 @@
+package com.itda.service;
+
+import com.itda.dto.ContentResponse;
+import com.itda.dto.ContentSuggestRow;
+import com.itda.dto.SuggestionResponse;
+import com.itda.event.ContentChangedEvent;
+import com.itda.repository.ContentRepository;
+import com.itda.util.HangulUtil;
+import com.itda.util.TopKRadixTrie;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 검색어 자동완성 인덱스 (메모리)
+ * - 공개 콘텐츠의 제목, 키워드, 과목을 후보로 하고 가중치는 (1 + 조회수)의 합
+ * - 자모 분해 키 트리: "하", "한", "한ㄱ" 처럼 입력 중인 글자도 접두사로 일치
+ * - 초성 키 트리: "ㅅㅎ" → "수학"
+ * - 제목은 단어 시작 위치마다 키를 추가해 중간 단어로도 찾을 수 있게 함
+ * - 기동 시 구축, 콘텐츠 변경 이벤트로 증분 갱신, 조회수 반영을 위해 주기적으로 재구축
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentSuggestIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+    private static final int MAX_TOKEN_KEYS = 4;
+    private static final int MAX_TERM_LENGTH = 100;
+
+    private static final Comparator<Term> ORDER = Comparator.<Term>comparingLong(term -> term.weight).reversed()
+            .thenComparingInt(term -> term.text.length())
+            .thenComparing(term -> term.text);
+
+    private final ContentRepository contentRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Queue<ContentChangedEvent> changedDuringRebuild = new ConcurrentLinkedQueue<>();
+    private volatile boolean rebuilding;
+
+    private Snapshot snapshot = new Snapshot();
+
+    /**
+     * 전체 재구축 (기동 시 + 주기적으로 조회수 가중치 반영)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.suggest.rebuild-interval-ms:1800000}",
+            fixedDelayString = "${app.suggest.rebuild-interval-ms:1800000}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        changedDuringRebuild.clear();
+        rebuilding = true;
+
+        Snapshot fresh = new Snapshot();
+        try {
+            long afterId = 0L;
+            while (true) {
+                List<ContentSuggestRow> rows = contentRepository.findSuggestRowsAfter(afterId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                for (ContentSuggestRow row : rows) {
+                    fresh.apply(row.getContentId(), contributions(row.getTitle(), row.getKeywords(), row.getSubject()),
+                            weightOf(row.getViewCount()));
+                }
+                if (rows.size() < LOAD_CHUNK_SIZE) {
+                    break;
+                }
+                afterId = rows.get(rows.size() - 1).getContentId();
+            }
+        } catch (RuntimeException e) {
+            rebuilding = false;
+            log.error("자동완성 인덱스 구축 실패: {}", e.getMessage(), e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            ContentChangedEvent event;
+            while ((event = changedDuringRebuild.poll()) != null) {
+                apply(fresh, event);
+            }
+            snapshot = fresh;
+            rebuilding = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("자동완성 인덱스 구축 완료: terms={}, elapsed={}ms",
+                fresh.terms.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 콘텐츠 변경 반영 (커밋 이후)
+     */
+    @TransactionalEventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(snapshot, event);
+            if (rebuilding) {
+                changedDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두사 자동완성 (초성만 입력하면 초성 일치, 그 외에는 자모 단위 접두사 일치)
+     */
+    public List<SuggestionResponse> suggest(String query, int size) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int limit = Math.max(1, Math.min(size, MAX_SUGGESTIONS));
+
+        lock.readLock().lock();
+        try {
+            List<Term> terms = HangulUtil.isChosungOnly(normalized)
+                    ? snapshot.chosungTrie.topByPrefix(chosungKey(normalized), limit)
+                    : snapshot.jamoTrie.topByPrefix(HangulUtil.toJamo(normalized), limit);
+
+            return terms.stream()
+                    .map(term -> new SuggestionResponse(term.text, term.type().name().toLowerCase(Locale.ROOT), term.weight))
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Snapshot target, ContentChangedEvent event) {
+        ContentResponse after = event.getAfter();
+        if (after == null || !isIndexable(after)) {
+            target.apply(event.getContentId(), Collections.emptyList(), 0L);
+            return;
+        }
+        target.apply(after.getContentId(), contributions(after.getTitle(), after.getKeywords(), after.getSubject()),
+                weightOf(after.getViewCount()));
+    }
+
+    private boolean isIndexable(ContentResponse content) {
+        return "public".equals(content.getPublicStatus()) && !Boolean.TRUE.equals(content.getIsSupportMaterial());
+    }
+
+    private long weightOf(Long viewCount) {
+        return 1L + (viewCount != null ? viewCount : 0L);
+    }
+
+    /**
+     * 콘텐츠 한 건이 기여하는 후보어 목록 (키워드는 콤마 구분)
+     */
+    private List<Contribution> contributions(String title, String keywords, String subject) {
+        Map<String, Contribution> result = new LinkedHashMap<>();
+        addContribution(result, title, TermType.TITLE);
+        addContribution(result, subject, TermType.SUBJECT);
+        if (keywords != null) {
+            for (String keyword : keywords.split(",")) {
+                addContribution(result, keyword, TermType.KEYWORD);
+            }
+        }
+        return new ArrayList<>(result.values());
+    }
+
+    private void addContribution(Map<String, Contribution> result, String text, TermType type) {
+        if (text == null) {
+            return;
+        }
+        String display = text.trim().replaceAll("\\s+", " ");
+        if (display.isEmpty()) {
+            return;
+        }
+        if (display.length() > MAX_TERM_LENGTH) {
+            display = display.substring(0, MAX_TERM_LENGTH);
+        }
+        String key = normalize(display);
+        result.putIfAbsent(type + ":" + key, new Contribution(key, display, type));
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String chosungKey(String normalized) {
+        return HangulUtil.toChosung(normalized).replace(" ", "");
+    }
+
+    /**
+     * 단어 시작 위치들 (0 포함, 최대 MAX_TOKEN_KEYS개)
+     */
+    private static List<Integer> tokenStarts(String normalized) {
+        List<Integer> starts = new ArrayList<>();
+        starts.add(0);
+        for (int i = 1; i < normalized.length() && starts.size() < MAX_TOKEN_KEYS; i++) {
+            if (normalized.charAt(i - 1) == ' ' && normalized.charAt(i) != ' ') {
+                starts.add(i);
+            }
+        }
+        return starts;
+    }
+
+    private enum TermType {
+        TITLE, SUBJECT, KEYWORD
+    }
+
+    private record Contribution(String key, String text, TermType type) {
+    }
+
+    /**
+     * 후보어 (같은 정규화 문자열은 하나로 합치고 가중치를 누적)
+     */
+    private static final class Term {
+        private final String key;
+        private final String text;
+        private final long[] typeWeights = new long[TermType.values().length];
+        private final List<String> jamoKeys = new ArrayList<>();
+        private final List<String> chosungKeys = new ArrayList<>();
+        private long weight;
+        private boolean indexed;
+
+        Term(String key, String text) {
+            this.key = key;
+            this.text = text;
+            for (int start : tokenStarts(key)) {
+                String suffix = key.substring(start);
+                jamoKeys.add(HangulUtil.toJamo(suffix));
+                chosungKeys.add(chosungKey(suffix));
+            }
+        }
+
+        TermType type() {
+            TermType best = TermType.TITLE;
+            for (TermType type : TermType.values()) {
+                if (typeWeights[type.ordinal()] > typeWeights[best.ordinal()]) {
+                    best = type;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * 인덱스 본체 (재구축 시 통째로 교체)
+     */
+    private static final class Snapshot {
+        private final TopKRadixTrie<Term> jamoTrie = new TopKRadixTrie<>(MAX_SUGGESTIONS, ORDER);
+        private final TopKRadixTrie<Term> chosungTrie = new TopKRadixTrie<>(MAX_SUGGESTIONS, ORDER);
+        private final Map<String, Term> terms = new HashMap<>();
+        private final Map<Long, ContentTerms> contents = new HashMap<>();
+
+        /**
+         * 콘텐츠의 기존 기여분을 빼고 새 기여분을 더한 뒤, 영향받은 후보어의 트리 경로만 갱신
+         */
+        void apply(Long contentId, List<Contribution> contributions, long weight) {
+            Set<Term> touched = new LinkedHashSet<>();
+
+            ContentTerms previous = contents.remove(contentId);
+            if (previous != null) {
+                for (Contribution contribution : previous.contributions) {
+                    Term term = terms.get(contribution.key());
+                    if (term != null) {
+                        term.typeWeights[contribution.type().ordinal()] -= previous.weight;
+                        term.weight -= previous.weight;
+                        touched.add(term);
+                    }
+                }
+            }
+
+            if (!contributions.isEmpty()) {
+                for (Contribution contribution : contributions) {
+                    Term term = terms.computeIfAbsent(contribution.key(), key -> new Term(key, contribution.text()));
+                    term.typeWeights[contribution.type().ordinal()] += weight;
+                    term.weight += weight;
+                    touched.add(term);
+                }
+                contents.put(contentId, new ContentTerms(contributions, weight));
+            }
+
+            touched.forEach(this::sync);
+        }
+
+        private void sync(Term term) {
+            if (term.weight <= 0) {
+                if (term.indexed) {
+                    term.jamoKeys.forEach(key -> jamoTrie.remove(key, term));
+                    term.chosungKeys.forEach(key -> chosungTrie.remove(key, term));
+                }
+                terms.remove(term.key);
+            } else if (!term.indexed) {
+                term.jamoKeys.forEach(key -> jamoTrie.put(key, term));
+                term.chosungKeys.forEach(key -> chosungTrie.put(key, term));
+                term.indexed = true;
+            } else {
+                term.jamoKeys.forEach(jamoTrie::refresh);
+                term.chosungKeys.forEach(chosungTrie::refresh);
+            }
+        }
+    }
+
+    private record ContentTerms(List<Contribution> contributions, long weight) {
+    }
+}
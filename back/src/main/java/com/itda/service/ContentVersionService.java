@@ -0,0 +1,175 @@
+package com.itda.service;
+
+import com.itda.config.RedisClientSideCache;
+import com.itda.dto.ContentResponse;
+import com.itda.event.ContentChangedEvent;
+import com.itda.event.StorageChangedEvent;
+import com.itda.event.UserContentsChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 콘텐츠 목록의 세대 번호 (조건부 GET용 ETag 생성)
+ * - 범위(사용자별 목록, 공개 목록, 사용자별 보관함 표시)마다 Redis 카운터를 두고 커밋 이후 INCR
+ * - ETag는 세대 번호로만 만들기 때문에 DB 조회/직렬화 전에 304 여부를 판단할 수 있다
+ * - 조회수/좋아요 수는 세대를 올리지 않는 대신 ETag에 시간 구간을 넣어 max-stale 이상 묵지 않게 한다
+ * - 세대 번호는 클라이언트 측 캐시(CLIENT TRACKING)로 읽어서 대부분 Redis 왕복 없이 판단
+ * - 세대를 올리기 전에 목록 캐시(userContents/popularContents)를 먼저 비운다
+ *   (새 ETag와 응답 바이트 캐시가 항상 무효화된 목록에서 다시 만들어지도록, 순서가 바뀌면 새 ETag에 이전 목록이 묶임)
+ * - Redis 장애 시 ETag 없이 평소대로 응답 (null 반환)
+ */
+@Slf4j
+@Service
+public class ContentVersionService {
+
+    private static final String KEY_PREFIX = "content:version:";
+    private static final String PUBLIC_KEY = KEY_PREFIX + "public";
+    private static final String PUBLIC_STATUS = "public";
+    private static final String USER_CONTENTS_CACHE = "userContents";
+    private static final String POPULAR_CONTENTS_CACHE = "popularContents";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisClientSideCache clientSideCache;
+    private final CacheManager cacheManager;
+    private final long maxStaleMs;
+
+    public ContentVersionService(StringRedisTemplate redisTemplate,
+                                 RedisClientSideCache clientSideCache,
+                                 CacheManager cacheManager,
+                                 @Value("${app.etag.max-stale:60s}") Duration maxStale) {
+        this.redisTemplate = redisTemplate;
+        this.clientSideCache = clientSideCache;
+        this.cacheManager = cacheManager;
+        this.maxStaleMs = maxStale.toMillis();
+    }
+
+    /**
+     * 사용자별 콘텐츠 목록 ETag
+     */
+    public String userContentsTag(Long userId) {
+        List<String> versions = versions(List.of(userKey(userId)));
+        return versions == null ? null : tag("u" + userId, versions);
+    }
+
+    /**
+     * 공개 콘텐츠 목록 ETag (로그인 사용자면 보관함 표시 세대도 포함)
+     */
+    public String publicContentsTag(Long viewerUserId) {
+        if (viewerUserId == null) {
+            List<String> versions = versions(List.of(PUBLIC_KEY));
+            return versions == null ? null : tag("p", versions);
+        }
+        List<String> versions = versions(List.of(PUBLIC_KEY, savedKey(viewerUserId)));
+        return versions == null ? null : tag("p" + viewerUserId, versions);
+    }
+
+    @TransactionalEventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        Set<String> keys = new LinkedHashSet<>();
+        collect(keys, event.getBefore());
+        collect(keys, event.getAfter());
+        clearCache(USER_CONTENTS_CACHE);
+        if (keys.contains(PUBLIC_KEY)) {
+            clearCache(POPULAR_CONTENTS_CACHE);
+        }
+        bump(keys);
+    }
+
+    @TransactionalEventListener
+    public void onUserContentsChanged(UserContentsChangedEvent event) {
+        clearCache(USER_CONTENTS_CACHE);
+        bump(Set.of(userKey(event.getUserId())));
+    }
+
+    @TransactionalEventListener
+    public void onStorageChanged(StorageChangedEvent event) {
+        bump(Set.of(savedKey(event.getUserId())));
+    }
+
+    private void collect(Set<String> keys, ContentResponse content) {
+        if (content == null) {
+            return;
+        }
+        keys.add(userKey(content.getUserId()));
+        // 보조자료는 부모 카드의 요약에 포함되므로 공개 목록에도 반영
+        if (PUBLIC_STATUS.equals(content.getPublicStatus()) || Boolean.TRUE.equals(content.getIsSupportMaterial())) {
+            keys.add(PUBLIC_KEY);
+        }
+    }
+
+    /**
+     * 커밋 이후 목록 캐시 비우기 (메서드의 @CacheEvict는 커밋 전에 실행되어 그사이 이전 값이 다시 채워질 수 있음)
+     */
+    private void clearCache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.clear();
+        } catch (DataAccessException e) {
+            log.warn("목록 캐시 비우기 실패: cache={}, error={}", name, e.getMessage());
+        }
+    }
+
+    private void bump(Set<String> keys) {
+        clientSideCache.evictLocal(keys);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String key : keys) {
+                    connection.stringCommands().incr(key.getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            // 세대를 못 올리면 시간 구간이 바뀔 때까지 이전 응답이 재사용될 수 있음
+            log.warn("콘텐츠 세대 증가 실패: keys={}, error={}", keys, e.getMessage());
+        }
+    }
+
+    private List<String> versions(List<String> keys) {
+        try {
+            List<String> versions = new ArrayList<>(keys.size());
+            for (String key : keys) {
+                String value = clientSideCache.get(key);
+                if (value == null) {
+                    // 아직 쓰기가 없던 범위도 키를 만들어 두어야 로컬 캐시에 올라간다
+                    redisTemplate.opsForValue().setIfAbsent(key, "0");
+                    value = "0";
+                }
+                versions.add(value);
+            }
+            return versions;
+        } catch (RuntimeException e) {
+            log.warn("콘텐츠 세대 조회 실패: keys={}, error={}", keys, e.getMessage());
+            return null;
+        }
+    }
+
+    private String tag(String scope, List<String> versions) {
+        long bucket = System.currentTimeMillis() / maxStaleMs;
+        return "W/\"" + scope + "-" + String.join(".", versions) + "-" + Long.toString(bucket, 36) + "\"";
+    }
+
+    private static String userKey(Long userId) {
+        return KEY_PREFIX + "user:" + userId;
+    }
+
+    private static String savedKey(Long userId) {
+        return KEY_PREFIX + "saved:" + userId;
+    }
+}
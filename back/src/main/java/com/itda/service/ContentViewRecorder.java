@@ -0,0 +1,72 @@
+package com.itda.service;
+
+import com.itda.repository.ContentJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 콘텐츠 조회수 일괄 반영
+ * - 상세 조회에서는 메모리에 더하기만 하고 (같은 콘텐츠는 하나로 합침), 주기적으로 증감분 UPDATE 배치로 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentViewRecorder {
+
+    private final ContentJdbcRepository contentJdbcRepository;
+
+    private final ReentrantReadWriteLock bufferLock = new ReentrantReadWriteLock();
+    private volatile Map<Long, Long> buffer = new ConcurrentHashMap<>();
+
+    public void record(Long contentId) {
+        add(contentId, 1L);
+    }
+
+    @Scheduled(fixedDelayString = "${app.content.view-flush-interval-ms:5000}")
+    public void flush() {
+        Map<Long, Long> flushing;
+        bufferLock.writeLock().lock();
+        try {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            flushing = buffer;
+            buffer = new ConcurrentHashMap<>();
+        } finally {
+            bufferLock.writeLock().unlock();
+        }
+
+        List<ContentJdbcRepository.CounterDelta> deltas = new ArrayList<>(flushing.size());
+        flushing.forEach((contentId, delta) -> deltas.add(new ContentJdbcRepository.CounterDelta(contentId, delta)));
+        try {
+            contentJdbcRepository.incrementViewCounts(deltas);
+            log.debug("조회수 반영: {}건", deltas.size());
+        } catch (RuntimeException e) {
+            log.error("조회수 반영 실패: {}건, 다음 주기에 재시도, error={}", deltas.size(), e.getMessage());
+            deltas.forEach(delta -> add(delta.contentId(), delta.delta()));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void add(Long contentId, long delta) {
+        bufferLock.readLock().lock();
+        try {
+            buffer.merge(contentId, delta, Long::sum);
+        } finally {
+            bufferLock.readLock().unlock();
+        }
+    }
+}
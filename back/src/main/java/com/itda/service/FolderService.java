@@ -0,0 +1,232 @@
+package com.itda.service;
+
+import com.itda.dto.ContentResponse;
+import com.itda.dto.FolderNodeResponse;
+import com.itda.event.ContentChangedEvent;
+import com.itda.event.UserContentsChangedEvent;
+import com.itda.repository.FolderJdbcRepository;
+import com.itda.util.FolderPathUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 보관함 폴더
+ * - 폴더 트리는 folders 한 번 조회로 구성하고, 하위 합계는 메모리에서 합산 (콘텐츠 전체 조회 없음)
+ * - 폴더별 항목 수/용량은 콘텐츠 변경 이벤트의 증감분으로 갱신, 밤마다 실제 값으로 보정
+ * - 이동/이름 변경은 경로 접두사 치환 UPDATE 로 하위 콘텐츠를 한 번에 옮긴다 (건별 수정 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FolderService {
+
+    private static final int RECONCILE_CHUNK_SIZE = 1000;
+
+    private final FolderJdbcRepository folderJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 사용자 폴더 트리 (최상위 노드 = 빈 경로)
+     */
+    public FolderNodeResponse getTree(Long userId) {
+        FolderNodeResponse root = new FolderNodeResponse("", FolderPathUtil.ROOT);
+        Map<String, FolderNodeResponse> nodes = new HashMap<>();
+        nodes.put(FolderPathUtil.ROOT, root);
+
+        for (FolderJdbcRepository.FolderRow row : folderJdbcRepository.findByUserId(userId)) {
+            // 정규화 이전에 저장된 경로도 같은 노드로 합친다
+            FolderNodeResponse node = nodeOf(FolderPathUtil.normalize(row.path()), nodes);
+            node.setItemCount(node.getItemCount() + row.itemCount());
+            node.setTotalBytes(node.getTotalBytes() + row.totalBytes());
+        }
+
+        sumSubtree(root);
+        return root;
+    }
+
+    /**
+     * 빈 폴더 생성
+     */
+    public void createFolder(Long userId, String path) {
+        String normalized = FolderPathUtil.normalize(path);
+        if (normalized.isEmpty()) {
+            throw new IllegalArgumentException("폴더 경로가 필요합니다.");
+        }
+        folderJdbcRepository.createIfAbsent(userId, normalized);
+    }
+
+    /**
+     * 폴더 이동 (하위 폴더/콘텐츠 포함, 대상에 같은 폴더가 있으면 합쳐짐)
+     */
+    @Transactional
+    @CacheEvict(value = "userContents", allEntries = true)
+    public int moveFolder(Long userId, String fromPath, String toPath) {
+        String from = FolderPathUtil.normalize(fromPath);
+        String to = FolderPathUtil.normalize(toPath);
+        if (from.isEmpty()) {
+            throw new IllegalArgumentException("최상위 폴더는 이동할 수 없습니다.");
+        }
+        if (from.equals(to)) {
+            return 0;
+        }
+        if (FolderPathUtil.isSelfOrDescendant(to, from)) {
+            throw new IllegalArgumentException("폴더를 자신의 하위 폴더로 이동할 수 없습니다.");
+        }
+
+        String fromPattern = FolderPathUtil.descendantPattern(from);
+        // 최상위로 옮기면 남는 경로 앞의 "/"까지 건너뜀 ("a/b/c" → "c", "a/b" 자신은 최상위)
+        int suffixStart = FolderPathUtil.suffixStart(from) + (to.isEmpty() ? 1 : 0);
+
+        // 단건 캐시(content:{id})에 이전 경로/버전이 남지 않도록 옮길 콘텐츠를 커밋 후 무효화
+        List<Long> movedIds = folderJdbcRepository.findContentIds(userId, from, fromPattern);
+        int moved = folderJdbcRepository.moveContents(userId, from, fromPattern, to, suffixStart);
+        folderJdbcRepository.moveFolders(userId, from, fromPattern, to, suffixStart);
+        if (!to.isEmpty()) {
+            folderJdbcRepository.recountSubtree(userId, to, FolderPathUtil.descendantPattern(to));
+        } else {
+            folderJdbcRepository.recountUser(userId);
+        }
+
+        if (moved > 0) {
+            eventPublisher.publishEvent(new UserContentsChangedEvent(userId, movedIds));
+        }
+        log.info("폴더 이동: userId={}, from={}, to={}, contents={}", userId, from, to, moved);
+        return moved;
+    }
+
+    /**
+     * 폴더 이름 변경 (같은 상위 폴더 안에서 이동)
+     */
+    @Transactional
+    @CacheEvict(value = "userContents", allEntries = true)
+    public int renameFolder(Long userId, String path, String newName) {
+        String from = FolderPathUtil.normalize(path);
+        String name = FolderPathUtil.normalize(newName);
+        if (name.isEmpty() || name.contains("/")) {
+            throw new IllegalArgumentException("폴더 이름이 올바르지 않습니다: " + newName);
+        }
+        return moveFolder(userId, from, FolderPathUtil.child(FolderPathUtil.parent(from), name));
+    }
+
+    /**
+     * 빈 폴더 삭제 (하위에 콘텐츠가 있으면 거부)
+     */
+    @Transactional
+    public void deleteFolder(Long userId, String path) {
+        String normalized = FolderPathUtil.normalize(path);
+        if (normalized.isEmpty()) {
+            throw new IllegalArgumentException("최상위 폴더는 삭제할 수 없습니다.");
+        }
+        String pattern = FolderPathUtil.descendantPattern(normalized);
+        if (folderJdbcRepository.hasContents(userId, normalized, pattern)) {
+            throw new IllegalArgumentException("폴더에 콘텐츠가 남아 있습니다: " + normalized);
+        }
+        folderJdbcRepository.deleteSubtree(userId, normalized, pattern);
+    }
+
+    /**
+     * 콘텐츠 등록/수정/삭제에 따른 폴더 항목 수/용량 증감 (커밋 이후)
+     */
+    @TransactionalEventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        Map<String, long[]> deltas = new LinkedHashMap<>();
+        ContentResponse before = event.getBefore();
+        ContentResponse after = event.getAfter();
+        if (before != null) {
+            accumulate(deltas, before, -1);
+        }
+        if (after != null) {
+            accumulate(deltas, after, 1);
+        }
+        deltas.values().removeIf(delta -> delta[0] == 0 && delta[1] == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Long userId = after != null ? after.getUserId() : before.getUserId();
+        List<FolderJdbcRepository.Delta> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((path, delta) -> rows.add(new FolderJdbcRepository.Delta(userId, path, delta[0], delta[1])));
+        try {
+            folderJdbcRepository.applyDeltas(rows);
+        } catch (RuntimeException e) {
+            // 정합성 보정 작업이 바로잡는다
+            log.error("폴더 집계 반영 실패: contentId={}, error={}", event.getContentId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 폴더 항목 수/용량 정합성 보정 (사용자 단위로 실제 값 재계산)
+     */
+    @Scheduled(cron = "${app.folder.reconcile-cron:0 0 5 * * *}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        long afterId = 0L;
+        int users = 0;
+        while (true) {
+            List<Long> userIds = folderJdbcRepository.findUserIdsAfter(afterId, RECONCILE_CHUNK_SIZE);
+            for (Long userId : userIds) {
+                try {
+                    folderJdbcRepository.recountUser(userId);
+                    users++;
+                } catch (RuntimeException e) {
+                    log.error("폴더 집계 보정 실패: userId={}, error={}", userId, e.getMessage());
+                }
+            }
+            if (userIds.size() < RECONCILE_CHUNK_SIZE) {
+                break;
+            }
+            afterId = userIds.get(userIds.size() - 1);
+        }
+        log.info("폴더 집계 보정 완료: users={}, elapsed={}ms", users, System.currentTimeMillis() - start);
+    }
+
+    private void accumulate(Map<String, long[]> deltas, ContentResponse content, int sign) {
+        // 폴더 행 키는 content.folder_path 원래 값 (재집계와 같은 키)
+        String path = Objects.requireNonNullElse(content.getFolderPath(), FolderPathUtil.ROOT);
+        long[] delta = deltas.computeIfAbsent(path, key -> new long[2]);
+        delta[0] += sign;
+        delta[1] += sign * (content.getFileSize() != null ? content.getFileSize() : 0L);
+    }
+
+    /**
+     * 경로의 노드 (없는 상위 노드는 만들어 연결)
+     */
+    private FolderNodeResponse nodeOf(String path, Map<String, FolderNodeResponse> nodes) {
+        FolderNodeResponse node = nodes.get(path);
+        if (node != null) {
+            return node;
+        }
+        FolderNodeResponse parent = nodeOf(FolderPathUtil.parent(path), nodes);
+        node = new FolderNodeResponse(path.substring(path.lastIndexOf('/') + 1), path);
+        parent.getChildren().add(node);
+        nodes.put(path, node);
+        return node;
+    }
+
+    private void sumSubtree(FolderNodeResponse node) {
+        long items = node.getItemCount();
+        long bytes = node.getTotalBytes();
+        node.getChildren().sort(Comparator.comparing(FolderNodeResponse::getName));
+        for (FolderNodeResponse child : node.getChildren()) {
+            sumSubtree(child);
+            items += child.getSubtreeItemCount();
+            bytes += child.getSubtreeBytes();
+        }
+        node.setSubtreeItemCount(items);
+        node.setSubtreeBytes(bytes);
+    }
+}
@@ -0,0 +1,70 @@
+package com.itda.service;
+
+import com.itda.repository.UserJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 마지막 로그인 시각 일괄 반영
+ * - 로그인 요청에서는 메모리에 기록만 하고 (같은 사용자는 최신 시각 하나로 합침), 주기적으로 UPDATE 배치로 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastLoginRecorder {
+
+    private final UserJdbcRepository userJdbcRepository;
+
+    private final ReentrantReadWriteLock bufferLock = new ReentrantReadWriteLock();
+    private volatile Map<Long, LocalDateTime> buffer = new ConcurrentHashMap<>();
+
+    public void record(Long userId, LocalDateTime loggedInAt) {
+        bufferLock.readLock().lock();
+        try {
+            buffer.merge(userId, loggedInAt, (previous, current) -> previous.isAfter(current) ? previous : current);
+        } finally {
+            bufferLock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth.last-login-flush-interval-ms:5000}")
+    public void flush() {
+        Map<Long, LocalDateTime> flushing;
+        bufferLock.writeLock().lock();
+        try {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            flushing = buffer;
+            buffer = new ConcurrentHashMap<>();
+        } finally {
+            bufferLock.writeLock().unlock();
+        }
+
+        List<UserJdbcRepository.LastLogin> lastLogins = new ArrayList<>(flushing.size());
+        flushing.forEach((userId, at) -> lastLogins.add(new UserJdbcRepository.LastLogin(userId, at)));
+        try {
+            userJdbcRepository.updateLastLoginAt(lastLogins);
+            log.debug("마지막 로그인 시각 저장: {}건", lastLogins.size());
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도 (그사이 더 최근 로그인이 있으면 그 값이 남음)
+            log.error("마지막 로그인 시각 저장 실패: {}건, error={}", lastLogins.size(), e.getMessage());
+            lastLogins.forEach(lastLogin -> record(lastLogin.userId(), lastLogin.at()));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
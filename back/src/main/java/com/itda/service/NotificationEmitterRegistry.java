@@ -0,0 +1,352 @@
+package com.itda.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itda.dto.NotificationResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 알림 SSE 연결 관리 (노드별)
+ * - 연결은 비동기 서블릿(SseEmitter)으로 유지하므로 대기 중인 연결이 요청 스레드를 점유하지 않음
+ * - 다른 노드에서 저장된 알림도 Redis pub/sub으로 받아 이 노드에 연결된 사용자에게 전달
+ * - 연결마다 전송 대기열 크기를 제한하고, 가득 차면(느린 클라이언트) 연결을 끊는다
+ *   → 클라이언트는 Last-Event-ID로 재연결해 DB에서 놓친 알림을 받는다
+ * - 주기적으로 heartbeat 주석을 보내 프록시 유휴 타임아웃과 끊긴 연결을 정리
+ * - 소켓 쓰기가 막힌 연결이 전송 스레드를 붙잡아도 다른 연결은 계속 전송되도록 전송 풀은 필요할 때 늘어나고,
+ *   heartbeat 때 write-timeout을 넘긴 연결은 떼어낸다 (막힌 쓰기는 톰캣 쓰기 타임아웃으로 끝남)
+ */
+@Slf4j
+@Component
+public class NotificationEmitterRegistry implements MessageListener {
+
+    public static final String TOPIC = "notifications";
+
+    private static final long RECONNECT_TIME_MS = 3000L;
+    // 연결별로 기억하는 최근 전송 알림 ID 수 (재연결 backlog와 실시간 알림 중복 제거용, backlog 최대 건수 + 전송 대기열보다 크게)
+    private static final int RECENT_SENT_IDS = 256;
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration emitterTimeout;
+    private final int sendQueueCapacity;
+    private final int maxConnectionsPerUser;
+    private final long writeTimeoutNanos;
+
+    private final Map<Long, List<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ThreadPoolExecutor senderExecutor;
+
+    public NotificationEmitterRegistry(RedisMessageListenerContainer listenerContainer,
+                                       ObjectMapper objectMapper,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${app.notification.emitter-timeout:30m}") Duration emitterTimeout,
+                                       @Value("${app.notification.send-queue-capacity:100}") int sendQueueCapacity,
+                                       @Value("${app.notification.max-connections-per-user:5}") int maxConnectionsPerUser,
+                                       @Value("${app.notification.sender-threads:4}") int senderThreads,
+                                       @Value("${app.notification.max-sender-threads:64}") int maxSenderThreads,
+                                       @Value("${app.notification.write-timeout:10s}") Duration writeTimeout) {
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.emitterTimeout = emitterTimeout;
+        this.sendQueueCapacity = sendQueueCapacity;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+
+        // 대기열 없이 바로 스레드에 넘김 (바쁜 스레드 뒤에 줄 서지 않음), 최대치에 닿으면 다음 offer/heartbeat 때 다시 시도
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senderExecutor = new ThreadPoolExecutor(senderThreads, maxSenderThreads, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "notification-sse-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(TOPIC));
+        Gauge.builder("notification.sse.connections", connectionCount, AtomicInteger::get)
+                .description("이 노드에 연결된 알림 SSE 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connections.values().forEach(list -> list.forEach(Connection::close));
+        senderExecutor.shutdownNow();
+    }
+
+    /**
+     * 새 연결 등록 (사용자별 최대 연결 수를 넘으면 가장 오래된 연결을 닫음)
+     * - 등록 직후부터 실시간 알림은 대기열에 쌓이고, {@link Connection#start(List)} 이후 전송된다
+     */
+    public Connection register(Long userId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        Connection connection = new Connection(userId, emitter);
+        emitter.onCompletion(connection::close);
+        emitter.onTimeout(connection::close);
+        emitter.onError(error -> connection.close());
+
+        List<Connection> evicted = new ArrayList<>();
+        connections.compute(userId, (key, list) -> {
+            List<Connection> target = list != null ? list : new CopyOnWriteArrayList<>();
+            while (target.size() >= maxConnectionsPerUser) {
+                evicted.add(target.remove(0));
+            }
+            target.add(connection);
+            return target;
+        });
+        connectionCount.incrementAndGet();
+        evicted.forEach(Connection::closeAsync);
+        return connection;
+    }
+
+    /**
+     * 이 노드에 연결된 수신자에게 전달
+     */
+    public void deliverLocally(List<NotificationResponse> notifications) {
+        for (NotificationResponse notification : notifications) {
+            List<Connection> targets = connections.get(notification.getUserId());
+            if (targets == null) {
+                continue;
+            }
+            for (Connection connection : targets) {
+                if (!connection.offer(new Outgoing(notification.getNotificationId(), notification))) {
+                    log.debug("알림 전송 대기열 초과로 연결 종료: userId={}", connection.userId);
+                    connection.closeAsync();
+                }
+            }
+        }
+    }
+
+    /**
+     * Redis 채널로 받은 알림 묶음 (자기 노드가 발행한 것도 여기로 받는다)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            List<NotificationResponse> notifications = objectMapper.readValue(
+                    message.getBody(), new TypeReference<List<NotificationResponse>>() {});
+            deliverLocally(notifications);
+        } catch (IOException e) {
+            log.error("알림 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.notification.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        connections.values().forEach(list -> list.forEach(connection -> {
+            if (connection.isStalled(now)) {
+                log.debug("알림 전송 쓰기 지연으로 연결 종료: userId={}", connection.userId);
+                meterRegistry.counter("notification.sse.stalled").increment();
+                connection.closeAsync();
+            } else {
+                connection.offer(Outgoing.HEARTBEAT);
+            }
+        }));
+    }
+
+    private void unregister(Connection connection) {
+        connections.computeIfPresent(connection.userId, (key, list) -> {
+            list.remove(connection);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    private record Outgoing(Long notificationId, Object data) {
+
+        static final Outgoing CONNECTED = new Outgoing(null, "connected");
+        static final Outgoing HEARTBEAT = new Outgoing(null, null);
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (this == CONNECTED) {
+                // 첫 전송으로 응답 헤더를 내보내고 재연결 간격을 알려줌
+                return SseEmitter.event().comment("connected").reconnectTime(RECONNECT_TIME_MS);
+            }
+            if (notificationId == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event().id(String.valueOf(notificationId)).name("notification").data(data);
+        }
+    }
+
+    /**
+     * SSE 연결 하나 (전송은 연결당 한 스레드만 수행)
+     */
+    public final class Connection {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final ArrayDeque<Outgoing> queue = new ArrayDeque<>();
+        private boolean started;
+        private boolean draining;
+        private boolean closed;
+        // 진행 중인 emitter.send 시작 시각 (0이면 전송 중 아님)
+        private volatile long sendStartedAt;
+        // drain 스레드에서만 사용 (한 번에 하나만 drain)
+        private final Set<Long> recentlySent = Collections.newSetFromMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                return size() > RECENT_SENT_IDS;
+            }
+        });
+
+        private Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        public SseEmitter getEmitter() {
+            return emitter;
+        }
+
+        /**
+         * 놓친 알림을 먼저 보내고 그동안 쌓인 실시간 알림을 이어서 전송
+         * (backlog와 실시간으로 함께 받은 알림은 최근 전송 ID로 거름, 늦게 도착한 작은 ID의 알림은 그대로 전송)
+         */
+        public synchronized void start(List<NotificationResponse> backlog) {
+            ArrayDeque<Outgoing> ordered = new ArrayDeque<>(backlog.size() + queue.size() + 1);
+            ordered.add(Outgoing.CONNECTED);
+            backlog.forEach(notification -> ordered.add(new Outgoing(notification.getNotificationId(), notification)));
+            ordered.addAll(queue);
+            queue.clear();
+            queue.addAll(ordered);
+            started = true;
+            scheduleDrain();
+        }
+
+        synchronized boolean offer(Outgoing outgoing) {
+            if (closed) {
+                return true;
+            }
+            if (queue.size() >= sendQueueCapacity) {
+                return outgoing.notificationId() == null;
+            }
+            queue.add(outgoing);
+            scheduleDrain();
+            return true;
+        }
+
+        void close() {
+            if (detach()) {
+                complete();
+            }
+        }
+
+        /**
+         * 다른 스레드(pub/sub 수신, 요청, heartbeat)에서 닫을 때: 바로 목록에서 빼고, emitter 종료는 전송 풀에 넘김
+         * (막힌 send가 emitter 잠금을 쥐고 있어 complete()가 쓰기 타임아웃까지 기다릴 수 있으므로 호출 스레드에서 하지 않음)
+         */
+        void closeAsync() {
+            if (!detach()) {
+                return;
+            }
+            try {
+                senderExecutor.execute(this::complete);
+            } catch (RejectedExecutionException e) {
+                // emitter 타임아웃으로 정리됨
+                log.debug("알림 연결 종료 위임 실패: userId={}", userId);
+            }
+        }
+
+        /**
+         * 더 이상 전송하지 않도록 목록에서 제거 (emitter는 그대로)
+         */
+        private boolean detach() {
+            synchronized (this) {
+                if (closed) {
+                    return false;
+                }
+                closed = true;
+                queue.clear();
+            }
+            unregister(this);
+            connectionCount.decrementAndGet();
+            return true;
+        }
+
+        boolean isStalled(long now) {
+            long startedAt = sendStartedAt;
+            return startedAt != 0 && now - startedAt > writeTimeoutNanos;
+        }
+
+        private void complete() {
+            try {
+                emitter.complete();
+            } catch (RuntimeException ignored) {
+                // 이미 끊긴 연결
+            }
+        }
+
+        private void scheduleDrain() {
+            if (started && !draining && !closed && !queue.isEmpty()) {
+                draining = true;
+                try {
+                    senderExecutor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // 전송 스레드가 모두 사용 중: 대기열에 남겨 두고 다음 offer/heartbeat 때 다시 시도
+                    draining = false;
+                    meterRegistry.counter("notification.sse.drain_rejected").increment();
+                }
+            }
+        }
+
+        private synchronized Outgoing poll() {
+            Outgoing outgoing = closed ? null : queue.poll();
+            if (outgoing == null) {
+                draining = false;
+            }
+            return outgoing;
+        }
+
+        private void drain() {
+            Outgoing outgoing;
+            while ((outgoing = poll()) != null) {
+                if (outgoing.notificationId() != null && !recentlySent.add(outgoing.notificationId())) {
+                    continue;
+                }
+                sendStartedAt = System.nanoTime();
+                try {
+                    emitter.send(outgoing.toEvent());
+                } catch (IOException | IllegalStateException e) {
+                    close();
+                    return;
+                } finally {
+                    sendStartedAt = 0L;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.itda.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itda.dto.ContentResponse;
+import com.itda.dto.NotificationResponse;
+import com.itda.dto.SubscriberRow;
+import com.itda.entity.Channel;
+import com.itda.entity.Notification;
+import com.itda.event.ContentChangedEvent;
+import com.itda.repository.ChannelRepository;
+import com.itda.repository.NotificationJdbcRepository;
+import com.itda.repository.NotificationRepository;
+import com.itda.repository.SubscriptionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 생성/저장/전달
+ * - 구독 채널에 콘텐츠가 공개되면 구독자별 알림을 만들어 대기열에 넣고 (대기열이 가득 차면 생산 측이 대기)
+ * - 주기적으로 모아서 다중 행 INSERT로 저장한 뒤 Redis pub/sub으로 발행 → 각 노드가 자기 SSE 연결로 전달
+ * - 재연결 시 Last-Event-ID 이후 알림은 DB에서 다시 보낸다
+ */
+@Slf4j
+@Service
+public class NotificationService {
+
+    public static final int MAX_RESUME_SIZE = 100;
+
+    private static final int SUBSCRIBER_CHUNK_SIZE = 1000;
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final ChannelRepository channelRepository;
+    private final NotificationEmitterRegistry emitterRegistry;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    private final BlockingQueue<NotificationJdbcRepository.Row> pending;
+    private final ExecutorService producerExecutor;
+
+    public NotificationService(NotificationRepository notificationRepository,
+                               NotificationJdbcRepository notificationJdbcRepository,
+                               SubscriptionRepository subscriptionRepository,
+                               ChannelRepository channelRepository,
+                               NotificationEmitterRegistry emitterRegistry,
+                               StringRedisTemplate redisTemplate,
+                               ObjectMapper objectMapper,
+                               @Value("${app.notification.batch-size:500}") int batchSize,
+                               @Value("${app.notification.queue-capacity:10000}") int queueCapacity) {
+        this.notificationRepository = notificationRepository;
+        this.notificationJdbcRepository = notificationJdbcRepository;
+        this.subscriptionRepository = subscriptionRepository;
+        this.channelRepository = channelRepository;
+        this.emitterRegistry = emitterRegistry;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.pending = new ArrayBlockingQueue<>(queueCapacity);
+        this.producerExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1000),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-producer");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        producerExecutor.shutdown();
+        producerExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+    }
+
+    /**
+     * 채널에 콘텐츠가 공개되면 구독자 알림 생성 (커밋 이후)
+     */
+    @TransactionalEventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        ContentResponse after = event.getAfter();
+        if (isPublished(after) && !isPublished(event.getBefore())) {
+            producerExecutor.execute(() -> enqueueForSubscribers(after));
+        }
+    }
+
+    /**
+     * SSE 연결 (lastEventId가 있으면 그 이후 알림부터 다시 전송)
+     */
+    public SseEmitter connect(Long userId, Long lastEventId) {
+        NotificationEmitterRegistry.Connection connection = emitterRegistry.register(userId);
+
+        List<NotificationResponse> backlog = Collections.emptyList();
+        if (lastEventId != null) {
+            backlog = notificationRepository.findByUserIdAndNotificationIdGreaterThanOrderByNotificationIdAsc(
+                            userId, lastEventId, PageRequest.of(0, MAX_RESUME_SIZE)).stream()
+                    .map(NotificationResponse::from)
+                    .collect(Collectors.toList());
+        }
+        connection.start(backlog);
+        return connection.getEmitter();
+    }
+
+    @Transactional(readOnly = true)
+    public Page<NotificationResponse> getNotifications(Long userId, Pageable pageable) {
+        return notificationRepository.findByUserIdOrderByNotificationIdDesc(userId, pageable)
+                .map(NotificationResponse::from);
+    }
+
+    @Transactional(readOnly = true)
+    public long countUnread(Long userId) {
+        return notificationRepository.countByUserIdAndIsReadFalse(userId);
+    }
+
+    @Transactional
+    public void markRead(Long userId, Long notificationId) {
+        if (notificationRepository.markRead(notificationId, userId) == 0) {
+            throw new IllegalArgumentException("알림을 찾을 수 없습니다: " + notificationId);
+        }
+    }
+
+    /**
+     * 대기열의 알림을 batch-size 단위로 저장 후 발행
+     */
+    @Scheduled(fixedDelayString = "${app.notification.flush-interval-ms:1000}")
+    public void flush() {
+        List<NotificationJdbcRepository.Row> batch = new ArrayList<>(batchSize);
+        while (pending.drainTo(batch, batchSize) > 0) {
+            try {
+                save(batch);
+            } catch (RuntimeException e) {
+                log.error("알림 저장 실패: {}건 유실, error={}", batch.size(), e.getMessage());
+            }
+            batch.clear();
+        }
+    }
+
+    private void save(List<NotificationJdbcRepository.Row> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = notificationJdbcRepository.insertAll(batch, now);
+
+        List<NotificationResponse> saved = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            NotificationJdbcRepository.Row row = batch.get(i);
+            saved.add(NotificationResponse.builder()
+                    .notificationId(ids.get(i))
+                    .userId(row.userId())
+                    .title(row.title())
+                    .message(row.message())
+                    .notificationType(row.notificationType())
+                    .isRead(false)
+                    .relatedId(row.relatedId())
+                    .createdAt(now)
+                    .build());
+        }
+        publish(saved);
+    }
+
+    /**
+     * 모든 노드로 발행 (Redis 장애 시 이 노드 연결에만 전달)
+     */
+    private void publish(List<NotificationResponse> notifications) {
+        try {
+            redisTemplate.convertAndSend(NotificationEmitterRegistry.TOPIC, objectMapper.writeValueAsString(notifications));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("알림 발행 실패, 로컬 연결에만 전달: {}", e.getMessage());
+            emitterRegistry.deliverLocally(notifications);
+        }
+    }
+
+    private void enqueueForSubscribers(ContentResponse content) {
+        Channel channel = channelRepository.findById(content.getChannelId()).orElse(null);
+        if (channel == null) {
+            return;
+        }
+        String title = channel.getChannelName() + " 새 콘텐츠";
+        String message = "'" + content.getTitle() + "' 콘텐츠가 등록되었습니다.";
+
+        try {
+            long afterId = 0L;
+            while (true) {
+                List<SubscriberRow> rows = subscriptionRepository.findSubscribersAfter(
+                        channel.getChannelId(), afterId, PageRequest.of(0, SUBSCRIBER_CHUNK_SIZE));
+                for (SubscriberRow row : rows) {
+                    if (!row.getUserId().equals(content.getUserId())) {
+                        // 대기열이 가득 차면 저장이 따라올 때까지 대기 (배압)
+                        pending.put(new NotificationJdbcRepository.Row(row.getUserId(), title, message,
+                                Notification.NotificationType.CONTENT.name(), content.getContentId()));
+                    }
+                }
+                if (rows.size() < SUBSCRIBER_CHUNK_SIZE) {
+                    break;
+                }
+                afterId = rows.get(rows.size() - 1).getSubscriptionId();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("알림 생성 중단: contentId={}", content.getContentId());
+        } catch (RuntimeException e) {
+            log.error("알림 생성 실패: contentId={}, error={}", content.getContentId(), e.getMessage());
+        }
+    }
+
+    private boolean isPublished(ContentResponse content) {
+        return content != null
+                && content.getChannelId() != null
+                && "public".equals(content.getPublicStatus())
+                && !Boolean.TRUE.equals(content.getIsSupportMaterial());
+    }
+}
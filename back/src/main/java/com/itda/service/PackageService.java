@@ -0,0 +1,267 @@
+package com.itda.service;
+
+import com.itda.dto.ContentResponse;
+import com.itda.dto.PackageRequest;
+import com.itda.dto.PackageResponse;
+import com.itda.entity.Content;
+import com.itda.entity.ContentPackage;
+import com.itda.entity.PackageContent;
+import com.itda.event.ContentChangedEvent;
+import com.itda.event.PackageChangedEvent;
+import com.itda.repository.ChannelRepository;
+import com.itda.repository.ContentPackageRepository;
+import com.itda.repository.ContentRepository;
+import com.itda.repository.PackageContentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 꾸러미 (콘텐츠 묶음)
+ * - 상세는 꾸러미 한 건 + 구성 콘텐츠 조인 한 번 + 보조자료 일괄 로딩으로 집계를 만들고, 집계 전체를 한 캐시 항목으로 둔다
+ *   (구성 콘텐츠 수와 무관하게 캐시 적중 시 Redis 조회 한 번)
+ * - 캐시에는 비공개 구성 콘텐츠까지 담고, 요청자 권한에 맞는 필터링은 꺼낸 뒤 메모리에서 한다
+ * - 구성 변경 시, 그리고 구성 콘텐츠가 수정/삭제되면 해당 콘텐츠가 속한 꾸러미 캐시를 모두 비운다
+ */
+@Slf4j
+@Service
+public class PackageService {
+
+    public static final String CACHE_NAME = "packageDetail";
+
+    // 꾸러미 하나에 담을 수 있는 최대 콘텐츠 수
+    private static final int MAX_CONTENTS = 200;
+
+    private final ContentPackageRepository contentPackageRepository;
+    private final PackageContentRepository packageContentRepository;
+    private final ContentRepository contentRepository;
+    private final ChannelRepository channelRepository;
+    private final SupportMaterialLoader supportMaterialLoader;
+    private final StorageService storageService;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PackageService(ContentPackageRepository contentPackageRepository,
+                          PackageContentRepository packageContentRepository,
+                          ContentRepository contentRepository,
+                          ChannelRepository channelRepository,
+                          SupportMaterialLoader supportMaterialLoader,
+                          StorageService storageService,
+                          CacheManager cacheManager,
+                          ApplicationEventPublisher eventPublisher) {
+        this.contentPackageRepository = contentPackageRepository;
+        this.packageContentRepository = packageContentRepository;
+        this.contentRepository = contentRepository;
+        this.channelRepository = channelRepository;
+        this.supportMaterialLoader = supportMaterialLoader;
+        this.storageService = storageService;
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 꾸러미 상세 (userId는 비로그인 시 null)
+     */
+    public PackageResponse getPackage(Long packageId, Long userId) {
+        PackageResponse aggregate = cache().get(packageId, () -> loadAggregate(packageId));
+        if (aggregate == null) {
+            throw new IllegalArgumentException("꾸러미를 찾을 수 없습니다: " + packageId);
+        }
+
+        boolean owner = userId != null && Objects.equals(aggregate.getOwnerId(), userId);
+        if (!Boolean.TRUE.equals(aggregate.getIsPublic()) && !owner) {
+            throw new IllegalArgumentException("꾸러미를 찾을 수 없습니다: " + packageId);
+        }
+
+        if (!owner) {
+            List<ContentResponse> visible = aggregate.getContents().stream()
+                    .filter(content -> "public".equals(content.getPublicStatus())
+                            || (userId != null && Objects.equals(content.getUserId(), userId)))
+                    .collect(Collectors.toList());
+            if (visible.size() != aggregate.getContents().size()) {
+                aggregate.setContents(visible);
+                aggregate.setContentCount(visible.size());
+                aggregate.setTotalFileSize(visible.stream()
+                        .mapToLong(content -> content.getFileSize() != null ? content.getFileSize() : 0L)
+                        .sum());
+            }
+        }
+
+        if (userId != null) {
+            storageService.applySavedFlags(userId, aggregate.getContents());
+        }
+        return aggregate;
+    }
+
+    /**
+     * 꾸러미 생성 (채널 소유자만)
+     */
+    @Transactional
+    public PackageResponse createPackage(PackageRequest request, Long userId) {
+        if (request.getChannelId() == null || request.getTitle() == null || request.getTitle().isBlank()) {
+            throw new IllegalArgumentException("채널과 제목은 필수입니다.");
+        }
+        requireChannelOwner(request.getChannelId(), userId);
+
+        ContentPackage contentPackage = new ContentPackage();
+        contentPackage.setChannelId(request.getChannelId());
+        applyFields(contentPackage, request);
+        ContentPackage saved = contentPackageRepository.save(contentPackage);
+
+        saveMembers(saved.getPackageId(), request.getContentIds(), userId);
+        log.info("꾸러미 생성: packageId={}, channelId={}", saved.getPackageId(), saved.getChannelId());
+        return loadAggregate(saved.getPackageId());
+    }
+
+    /**
+     * 꾸러미 정보 수정 (구성 콘텐츠가 함께 오면 구성도 교체)
+     */
+    @Transactional
+    public PackageResponse updatePackage(Long packageId, PackageRequest request, Long userId) {
+        ContentPackage contentPackage = findOwnedPackage(packageId, userId);
+        applyFields(contentPackage, request);
+        contentPackageRepository.save(contentPackage);
+
+        if (request.getContentIds() != null) {
+            packageContentRepository.deleteByPackageId(packageId);
+            saveMembers(packageId, request.getContentIds(), userId);
+        }
+        eventPublisher.publishEvent(new PackageChangedEvent(packageId));
+        return loadAggregate(packageId);
+    }
+
+    /**
+     * 구성 콘텐츠 교체 (전달된 순서가 표시 순서)
+     */
+    @Transactional
+    public PackageResponse replaceContents(Long packageId, List<Long> contentIds, Long userId) {
+        findOwnedPackage(packageId, userId);
+        packageContentRepository.deleteByPackageId(packageId);
+        saveMembers(packageId, contentIds, userId);
+        eventPublisher.publishEvent(new PackageChangedEvent(packageId));
+        return loadAggregate(packageId);
+    }
+
+    @Transactional
+    public void deletePackage(Long packageId, Long userId) {
+        ContentPackage contentPackage = findOwnedPackage(packageId, userId);
+        packageContentRepository.deleteByPackageId(packageId);
+        contentPackageRepository.delete(contentPackage);
+        eventPublisher.publishEvent(new PackageChangedEvent(packageId));
+        log.info("꾸러미 삭제: packageId={}", packageId);
+    }
+
+    /**
+     * 꾸러미 정보/구성 변경 시 캐시 무효화 (커밋 이후에 비워야 커밋 전 상태가 다시 캐시되지 않음)
+     */
+    @TransactionalEventListener
+    public void onPackageChanged(PackageChangedEvent event) {
+        evict(event.getPackageId());
+    }
+
+    /**
+     * 구성 콘텐츠 변경 시 해당 콘텐츠가 속한 꾸러미 캐시 무효화 (커밋 이후)
+     */
+    @TransactionalEventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.getChangeType() == ContentChangedEvent.ChangeType.CREATED) {
+            return;
+        }
+        List<Long> packageIds = packageContentRepository.findPackageIdsByContentId(event.getContentId());
+        packageIds.forEach(this::evict);
+        if (!packageIds.isEmpty()) {
+            log.debug("꾸러미 캐시 무효화: contentId={}, packages={}", event.getContentId(), packageIds);
+        }
+    }
+
+    /**
+     * 캐시에 담을 집계 (꾸러미 조회 + 구성 콘텐츠 조인 + 보조자료 일괄 로딩, 꾸러미 없으면 null)
+     */
+    private PackageResponse loadAggregate(Long packageId) {
+        ContentPackage contentPackage = contentPackageRepository.findById(packageId).orElse(null);
+        if (contentPackage == null) {
+            return null;
+        }
+        Long ownerId = channelRepository.findOwnerId(contentPackage.getChannelId()).orElse(null);
+
+        List<ContentResponse> contents = contentRepository.findPackageMembers(packageId).stream()
+                .map(ContentResponse::from)
+                .collect(Collectors.toList());
+        supportMaterialLoader.attach(contents);
+
+        return PackageResponse.of(contentPackage, ownerId, contents);
+    }
+
+    /**
+     * 구성 콘텐츠 저장 (중복 제거, 삭제된/남의 비공개 콘텐츠 제외, 전달 순서 유지)
+     */
+    private void saveMembers(Long packageId, List<Long> contentIds, Long userId) {
+        if (contentIds == null || contentIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(contentIds));
+        if (ids.size() > MAX_CONTENTS) {
+            throw new IllegalArgumentException("꾸러미에는 최대 " + MAX_CONTENTS + "개의 콘텐츠를 담을 수 있습니다.");
+        }
+
+        Map<Long, Content> found = contentRepository.findAllById(ids).stream()
+                .filter(content -> content.getDeletedAt() == null)
+                .filter(content -> "public".equals(content.getPublicStatus())
+                        || Objects.equals(content.getUserId(), userId))
+                .collect(Collectors.toMap(Content::getContentId, Function.identity()));
+
+        List<PackageContent> members = new ArrayList<>(found.size());
+        int sortOrder = 0;
+        for (Long contentId : ids) {
+            if (found.containsKey(contentId)) {
+                members.add(new PackageContent(packageId, contentId, sortOrder++));
+            }
+        }
+        packageContentRepository.saveAll(members);
+    }
+
+    private ContentPackage findOwnedPackage(Long packageId, Long userId) {
+        ContentPackage contentPackage = contentPackageRepository.findById(packageId)
+                .orElseThrow(() -> new IllegalArgumentException("꾸러미를 찾을 수 없습니다: " + packageId));
+        requireChannelOwner(contentPackage.getChannelId(), userId);
+        return contentPackage;
+    }
+
+    private void requireChannelOwner(Long channelId, Long userId) {
+        Long ownerId = channelRepository.findOwnerId(channelId)
+                .orElseThrow(() -> new IllegalArgumentException("채널을 찾을 수 없습니다: " + channelId));
+        if (!ownerId.equals(userId)) {
+            throw new IllegalArgumentException("꾸러미 관리 권한이 없습니다.");
+        }
+    }
+
+    private void applyFields(ContentPackage contentPackage, PackageRequest request) {
+        if (request.getTitle() != null) contentPackage.setTitle(request.getTitle());
+        if (request.getDescription() != null) contentPackage.setDescription(request.getDescription());
+        if (request.getSubject() != null) contentPackage.setSubject(request.getSubject());
+        if (request.getGradeLevel() != null) contentPackage.setGradeLevel(request.getGradeLevel());
+        if (request.getLessonPlan() != null) contentPackage.setLessonPlan(request.getLessonPlan());
+        if (request.getThumbnailUrl() != null) contentPackage.setThumbnailUrl(request.getThumbnailUrl());
+        if (request.getIsPublic() != null) contentPackage.setIsPublic(request.getIsPublic());
+    }
+
+    private void evict(Long packageId) {
+        cache().evict(packageId);
+    }
+
+    private Cache cache() {
+        return Objects.requireNonNull(cacheManager.getCache(CACHE_NAME));
+    }
+}
@@ -0,0 +1,154 @@
+package com.itda.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt 검증/해시 전용 스레드 풀
+ * - CPU를 쓰는 BCrypt는 코어 수만큼의 스레드에서만 돌리고, 대기열이 가득 차면 즉시 거절 (요청 스레드가 줄줄이 CPU를 다투지 않음)
+ * - 대기 시간/처리 시간을 나눠서 기록 (login.bcrypt.queue, login.bcrypt.verify)
+ * - 저장된 해시의 cost가 설정값과 다르면 재해시 대상
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final PasswordEncoder passwordEncoder;
+    private final int cost;
+    private final Duration waitTimeout;
+    private final ThreadPoolExecutor executor;
+    private final Timer queueTimer;
+    private final Timer verifyTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.auth.bcrypt-cost:10}") int cost,
+                          @Value("${app.auth.hash-threads:0}") int threads,
+                          @Value("${app.auth.hash-queue-capacity:200}") int queueCapacity,
+                          @Value("${app.auth.hash-wait-timeout:5s}") Duration waitTimeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.cost = cost;
+        this.waitTimeout = waitTimeout;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+
+        this.queueTimer = Timer.builder("login.bcrypt.queue")
+                .description("BCrypt 작업 대기 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.verifyTimer = Timer.builder("login.bcrypt.verify")
+                .description("BCrypt 작업 처리 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("login.bcrypt.rejected")
+                .description("대기열 초과로 거절된 BCrypt 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("login.bcrypt.queue.size", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 비밀번호 검증 (풀에서 실행, 대기열 초과/대기 시간 초과 시 IllegalStateException)
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submitAndWait(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 백그라운드 재해시 (대기열이 차 있으면 건너뜀, 다음 로그인 때 다시 시도)
+     */
+    public void encodeAsync(String rawPassword, Consumer<String> onEncoded) {
+        try {
+            executor.execute(() -> {
+                try {
+                    onEncoded.accept(passwordEncoder.encode(rawPassword));
+                } catch (RuntimeException e) {
+                    log.warn("비밀번호 재해시 실패: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("BCrypt 대기열이 가득 차 재해시를 건너뜀");
+        }
+    }
+
+    /**
+     * 저장된 해시의 cost가 설정값과 다른지 (BCrypt 형식이 아니어도 재해시 대상)
+     */
+    public boolean needsRehash(String encodedPassword) {
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return !matcher.find() || Integer.parseInt(matcher.group(1)) != cost;
+    }
+
+    private <T> T submitAndWait(Supplier<T> task) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.get();
+                } finally {
+                    verifyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new IllegalStateException("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new IllegalStateException("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("로그인 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
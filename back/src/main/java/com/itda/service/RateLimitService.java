@@ -0,0 +1,105 @@
+package com.itda.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 사용자/IP별 요청 빈도 제한 (Redis 토큰 버킷)
+ * - 버킷 상태(남은 토큰, 마지막 갱신 시각)를 Redis 해시 하나에 두고 Lua 스크립트로 보충 + 소비를 원자적으로 처리
+ *   (여러 노드가 같은 버킷을 공유)
+ * - 분당 허용 횟수만큼 버스트를 허용하고 1분에 걸쳐 고르게 보충
+ * - Redis 장애 시에는 허용 (로그인/파일 기능 자체를 막지 않음)
+ */
+@Slf4j
+@Service
+public class RateLimitService {
+
+    public enum Policy {
+        LOGIN_IP, LOGIN_USER, FILE_IP, FILE_USER
+    }
+
+    private static final String KEY_PREFIX = "ratelimit:";
+    private static final long REFILL_WINDOW_MS = 60_000L;
+
+    // KEYS[1]: 버킷 키, ARGV: 용량, ms당 보충량, 현재 시각(ms) → {허용 여부, 다음 토큰까지 대기 ms}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1])\n" +
+            "local rate = tonumber(ARGV[2])\n" +
+            "local now = tonumber(ARGV[3])\n" +
+            "local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')\n" +
+            "local tokens = tonumber(bucket[1])\n" +
+            "local ts = tonumber(bucket[2])\n" +
+            "if tokens == nil or ts == nil then\n" +
+            "  tokens = capacity\n" +
+            "  ts = now\n" +
+            "end\n" +
+            "if now > ts then\n" +
+            "  tokens = math.min(capacity, tokens + (now - ts) * rate)\n" +
+            "  ts = now\n" +
+            "end\n" +
+            "local allowed = 0\n" +
+            "local wait = 0\n" +
+            "if tokens >= 1 then\n" +
+            "  tokens = tokens - 1\n" +
+            "  allowed = 1\n" +
+            "else\n" +
+            "  wait = math.ceil((1 - tokens) / rate)\n" +
+            "end\n" +
+            "redis.call('HMSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(ts))\n" +
+            "redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate) + 1000)\n" +
+            "return {allowed, wait}", List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Map<Policy, Integer> perMinute = new EnumMap<>(Policy.class);
+
+    public RateLimitService(StringRedisTemplate redisTemplate,
+                            @Value("${app.rate-limit.login-per-ip:600}") int loginPerIp,
+                            @Value("${app.rate-limit.login-per-user:10}") int loginPerUser,
+                            @Value("${app.rate-limit.file-per-ip:3000}") int filePerIp,
+                            @Value("${app.rate-limit.file-per-user:60}") int filePerUser) {
+        this.redisTemplate = redisTemplate;
+        perMinute.put(Policy.LOGIN_IP, loginPerIp);
+        perMinute.put(Policy.LOGIN_USER, loginPerUser);
+        perMinute.put(Policy.FILE_IP, filePerIp);
+        perMinute.put(Policy.FILE_USER, filePerUser);
+    }
+
+    /**
+     * 토큰 하나 소비 시도
+     */
+    public Decision tryConsume(Policy policy, String subject) {
+        int capacity = perMinute.get(policy);
+        double ratePerMs = (double) capacity / REFILL_WINDOW_MS;
+        String key = KEY_PREFIX + policy.name().toLowerCase(Locale.ROOT) + ":" + subject;
+        try {
+            List<?> result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(key),
+                    String.valueOf(capacity), String.valueOf(ratePerMs), String.valueOf(System.currentTimeMillis()));
+            if (result == null || result.size() < 2) {
+                return Decision.ALLOWED;
+            }
+            boolean allowed = ((Number) result.get(0)).longValue() == 1L;
+            long waitMs = ((Number) result.get(1)).longValue();
+            return allowed ? Decision.ALLOWED : new Decision(false, Math.max(1L, (waitMs + 999) / 1000));
+        } catch (RuntimeException e) {
+            log.warn("요청 빈도 확인 실패, 허용 처리: policy={}, error={}", policy, e.getMessage());
+            return Decision.ALLOWED;
+        }
+    }
+
+    /**
+     * @param retryAfterSeconds 거절 시 다음 토큰까지 대기 시간(초)
+     */
+    public record Decision(boolean allowed, long retryAfterSeconds) {
+        static final Decision ALLOWED = new Decision(true, 0L);
+    }
+}
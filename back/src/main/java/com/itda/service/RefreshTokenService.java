@@ -0,0 +1,121 @@
+package com.itda.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 (불투명 랜덤 값, Redis에는 SHA-256 해시로만 저장)
+ * - 사용할 때마다 새 토큰으로 교체 (GETDEL로 한 번만 사용 가능)
+ * - 로그인 한 번에서 이어지는 토큰들은 같은 family로 묶고, 이미 사용된 토큰이 다시 오면 탈취로 보고 family 전체를 폐기
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final String TOKEN_KEY_PREFIX = "auth:refresh:";
+    private static final String USED_KEY_PREFIX = "auth:refresh-used:";
+    private static final String FAMILY_KEY_PREFIX = "auth:refresh-family:";
+    private static final int TOKEN_BYTES = 32;
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(StringRedisTemplate redisTemplate,
+                               @Value("${app.jwt.refresh-token-ttl:14d}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 로그인 시 새 family로 발급
+     */
+    public String issue(Long userId, String username) {
+        return issueInFamily(UUID.randomUUID().toString(), userId, username);
+    }
+
+    /**
+     * 토큰 교체 (유효하지 않거나 재사용된 토큰이면 IllegalArgumentException)
+     */
+    public Rotation rotate(String refreshToken) {
+        String hash = hash(refreshToken);
+        String value = redisTemplate.opsForValue().getAndDelete(TOKEN_KEY_PREFIX + hash);
+        if (value == null) {
+            String reusedFamily = redisTemplate.opsForValue().get(USED_KEY_PREFIX + hash);
+            if (reusedFamily != null) {
+                log.warn("이미 사용된 refresh token 재사용 감지, family 폐기: familyId={}", reusedFamily);
+                revokeFamily(reusedFamily);
+            }
+            throw new IllegalArgumentException("유효하지 않은 refresh token입니다");
+        }
+
+        String[] parts = value.split("\\|", 3);
+        String familyId = parts[0];
+        Long userId = Long.valueOf(parts[1]);
+        String username = parts[2];
+
+        redisTemplate.opsForValue().set(USED_KEY_PREFIX + hash, familyId, ttl);
+        redisTemplate.opsForSet().remove(FAMILY_KEY_PREFIX + familyId, hash);
+        return new Rotation(userId, username, familyId, issueInFamily(familyId, userId, username));
+    }
+
+    /**
+     * 로그아웃 시 해당 토큰의 family 전체 폐기
+     */
+    public void revoke(String refreshToken) {
+        String value = redisTemplate.opsForValue().get(TOKEN_KEY_PREFIX + hash(refreshToken));
+        if (value != null) {
+            revokeFamily(value.substring(0, value.indexOf('|')));
+        }
+    }
+
+    public void revokeFamily(String familyId) {
+        String familyKey = FAMILY_KEY_PREFIX + familyId;
+        Set<String> hashes = redisTemplate.opsForSet().members(familyKey);
+        List<String> keys = new ArrayList<>();
+        keys.add(familyKey);
+        if (hashes != null) {
+            hashes.forEach(hash -> keys.add(TOKEN_KEY_PREFIX + hash));
+        }
+        redisTemplate.delete(keys);
+    }
+
+    private String issueInFamily(String familyId, Long userId, String username) {
+        byte[] random = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(random);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+        String hash = hash(token);
+
+        String familyKey = FAMILY_KEY_PREFIX + familyId;
+        redisTemplate.opsForValue().set(TOKEN_KEY_PREFIX + hash, familyId + "|" + userId + "|" + username, ttl);
+        redisTemplate.opsForSet().add(familyKey, hash);
+        redisTemplate.expire(familyKey, ttl);
+        return token;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record Rotation(Long userId, String username, String familyId, String refreshToken) {
+    }
+}
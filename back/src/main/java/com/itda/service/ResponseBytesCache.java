@@ -0,0 +1,136 @@
+package com.itda.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화가 끝난 JSON 바이트 응답 캐시 (자주 호출되는 목록 API)
+ * - 캐시 적중 시 객체 역직렬화/Jackson 재직렬화 없이 저장된 바이트를 그대로 응답
+ * - 일정 크기 이상이면 gzip으로 압축해서 저장 (gzip을 받는 클라이언트에는 그대로, 아니면 풀어서 전송)
+ * - 키에 ETag(세대 번호)를 넣으므로 콘텐츠 변경 이벤트로 세대가 오르면 자동으로 다른 키가 된다 (별도 삭제 없음, TTL로 정리)
+ * - loader가 읽는 원본 캐시는 세대가 오르기 전에 비워지므로 (ContentVersionService) 새 키는 항상 변경 이후 목록으로 만들어진다
+ * - Redis 장애 시 매번 직렬화해서 응답
+ */
+@Slf4j
+@Service
+public class ResponseBytesCache {
+
+    private static final String KEY_PREFIX = "response:";
+    private static final byte PLAIN = 0;
+    private static final byte GZIP = 1;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+    private final int gzipMinBytes;
+
+    public ResponseBytesCache(StringRedisTemplate redisTemplate,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.response-cache.ttl:2m}") Duration ttl,
+                              @Value("${app.response-cache.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.ttl = ttl;
+        this.gzipMinBytes = gzipMinBytes;
+    }
+
+    /**
+     * 캐시된 JSON 바이트 (없으면 loader 결과를 직렬화해서 저장)
+     */
+    public CachedJson get(String name, String key, Supplier<?> loader) {
+        byte[] redisKey = (KEY_PREFIX + name + ":" + key).getBytes(StandardCharsets.UTF_8);
+        byte[] stored = read(redisKey);
+        if (stored != null && stored.length > 0) {
+            meterRegistry.counter("response.cache", "name", name, "result", "hit").increment();
+            return new CachedJson(Arrays.copyOfRange(stored, 1, stored.length), stored[0] == GZIP);
+        }
+
+        meterRegistry.counter("response.cache", "name", name, "result", "miss").increment();
+        CachedJson json = serialize(loader.get());
+        write(redisKey, json);
+        return json;
+    }
+
+    private CachedJson serialize(Object value) {
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(value);
+            if (bytes.length < gzipMinBytes) {
+                return new CachedJson(bytes, false);
+            }
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+                gzip.write(bytes);
+            }
+            return new CachedJson(buffer.toByteArray(), true);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] read(byte[] redisKey) {
+        try {
+            return redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.stringCommands().get(redisKey));
+        } catch (DataAccessException e) {
+            log.warn("응답 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void write(byte[] redisKey, CachedJson json) {
+        byte[] stored = new byte[json.bytes().length + 1];
+        stored[0] = json.gzipped() ? GZIP : PLAIN;
+        System.arraycopy(json.bytes(), 0, stored, 1, json.bytes().length);
+        try {
+            redisTemplate.execute((RedisCallback<Object>) connection -> connection.stringCommands()
+                    .set(redisKey, stored, Expiration.from(ttl), RedisStringCommands.SetOption.upsert()));
+        } catch (DataAccessException e) {
+            log.warn("응답 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 직렬화된 JSON (gzipped면 bytes는 gzip 스트림)
+     */
+    public record CachedJson(byte[] bytes, boolean gzipped) {
+
+        /**
+         * gzip을 받지 않는 클라이언트용 원본 바이트
+         */
+        public byte[] plainBytes() {
+            if (!gzipped) {
+                return bytes;
+            }
+            try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+                return gzip.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
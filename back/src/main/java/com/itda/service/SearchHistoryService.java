@@ -0,0 +1,153 @@
+package com.itda.service;
+
+import com.itda.dto.TrendingKeywordResponse;
+import com.itda.repository.SearchHistoryJdbcRepository;
+import com.itda.util.SlidingWindowTopK;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 기록 / 인기 검색어
+ * - 검색 요청 스레드에서는 메모리 버퍼에 누적만 하고, 주기적으로 모아서 일괄 upsert (검색 응답 지연에 DB 쓰기가 끼지 않음)
+ * - 같은 (사용자, 검색어)는 버퍼에서 횟수로 합쳐진다
+ * - 인기 검색어는 슬라이딩 윈도우 Count-Min Sketch + 상위 K 힙으로 메모리에서 계산 (테이블 조회 없음, 노드별 집계)
+ */
+@Slf4j
+@Service
+public class SearchHistoryService {
+
+    private static final int MAX_KEYWORD_LENGTH = 200;
+
+    private final SearchHistoryJdbcRepository searchHistoryJdbcRepository;
+    private final SlidingWindowTopK trending;
+    private final int maxBufferSize;
+
+    private final ReentrantReadWriteLock bufferLock = new ReentrantReadWriteLock();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private volatile Map<BufferKey, Pending> buffer = new ConcurrentHashMap<>();
+
+    public SearchHistoryService(SearchHistoryJdbcRepository searchHistoryJdbcRepository,
+                                @Value("${app.search-history.max-buffer-size:10000}") int maxBufferSize,
+                                @Value("${app.search-history.trending-window-minutes:60}") int trendingWindowMinutes,
+                                @Value("${app.search-history.trending-buckets:12}") int trendingBuckets) {
+        this.searchHistoryJdbcRepository = searchHistoryJdbcRepository;
+        this.maxBufferSize = maxBufferSize;
+        long bucketMillis = trendingWindowMinutes * 60_000L / trendingBuckets;
+        this.trending = new SlidingWindowTopK(trendingBuckets, bucketMillis, 200, 4, 4096);
+    }
+
+    /**
+     * 검색어 기록 (username이 null이면 인기 검색어 집계에만 반영)
+     */
+    public void record(String username, String keyword) {
+        String normalized = normalize(keyword);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        trending.add(normalized, 1, System.currentTimeMillis());
+
+        if (username == null) {
+            return;
+        }
+
+        bufferLock.readLock().lock();
+        try {
+            Map<BufferKey, Pending> current = buffer;
+            BufferKey key = new BufferKey(username, normalized);
+            if (current.size() >= maxBufferSize && !current.containsKey(key)) {
+                // DB 장애 등으로 버퍼가 가득 찬 경우 메모리 보호를 위해 버림
+                droppedCount.incrementAndGet();
+                return;
+            }
+            current.merge(key, new Pending(1, LocalDateTime.now()), Pending::merge);
+        } finally {
+            bufferLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 버퍼를 교체하고 이전 버퍼를 일괄 저장
+     */
+    @Scheduled(fixedDelayString = "${app.search-history.flush-interval-ms:5000}")
+    public void flush() {
+        Map<BufferKey, Pending> flushing;
+        bufferLock.writeLock().lock();
+        try {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            flushing = buffer;
+            buffer = new ConcurrentHashMap<>();
+        } finally {
+            bufferLock.writeLock().unlock();
+        }
+
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            log.warn("검색 기록 버퍼 초과로 버려진 건수: {}", dropped);
+        }
+
+        try {
+            Map<String, Long> userIds = searchHistoryJdbcRepository.findUserIdsByUsernames(
+                    flushing.keySet().stream().map(BufferKey::username).collect(Collectors.toSet()));
+
+            List<SearchHistoryJdbcRepository.Entry> entries = new ArrayList<>(flushing.size());
+            flushing.forEach((key, pending) -> {
+                Long userId = userIds.get(key.username());
+                if (userId != null) {
+                    entries.add(new SearchHistoryJdbcRepository.Entry(userId, key.keyword(), pending.count(), pending.lastSearchedAt()));
+                }
+            });
+
+            searchHistoryJdbcRepository.upsertAll(entries);
+            log.debug("검색 기록 저장: {}건", entries.size());
+        } catch (RuntimeException e) {
+            log.error("검색 기록 저장 실패: {}건 유실, error={}", flushing.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 인기 검색어 (최근 윈도우 기준)
+     */
+    public List<TrendingKeywordResponse> getTrendingKeywords(int size) {
+        return trending.top(size, System.currentTimeMillis()).stream()
+                .map(entry -> new TrendingKeywordResponse(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    private String normalize(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        String normalized = keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return normalized.length() > MAX_KEYWORD_LENGTH ? normalized.substring(0, MAX_KEYWORD_LENGTH) : normalized;
+    }
+
+    private record BufferKey(String username, String keyword) {
+    }
+
+    private record Pending(long count, LocalDateTime lastSearchedAt) {
+        Pending merge(Pending other) {
+            LocalDateTime latest = lastSearchedAt.isAfter(other.lastSearchedAt) ? lastSearchedAt : other.lastSearchedAt;
+            return new Pending(count + other.count, latest);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.itda.service;
+
+import com.itda.repository.StorageUsageJdbcRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 사용자별 업로드 용량 한도
+ * - 콘텐츠 등록/파일 교체/삭제 트랜잭션 안에서 사용량 행을 증감 (콘텐츠 저장이 롤백되면 사용량도 함께 롤백)
+ * - 늘리는 변경은 조건부 UPDATE라 동시 업로드가 있어도 한도를 넘지 않고, 업로드마다 SUM(file_size)를 하지 않는다
+ * - 업로드 본문을 받기 전 판단은 StorageQuotaFilter (Content-Length 기준, 여기서 최종 확인)
+ * - 누락/중복 반영은 주기적인 정합성 보정 작업이 실제 값으로 덮어써서 바로잡는다
+ */
+@Slf4j
+@Service
+public class StorageQuotaService {
+
+    private static final int RECONCILE_CHUNK_SIZE = 1000;
+
+    private final StorageUsageJdbcRepository storageUsageJdbcRepository;
+    private final boolean enabled;
+    private final long defaultQuotaBytes;
+
+    public StorageQuotaService(StorageUsageJdbcRepository storageUsageJdbcRepository,
+                               @Value("${app.storage-quota.enabled:true}") boolean enabled,
+                               @Value("${app.storage-quota.default-bytes:1GB}") DataSize defaultQuota) {
+        this.storageUsageJdbcRepository = storageUsageJdbcRepository;
+        this.enabled = enabled;
+        this.defaultQuotaBytes = defaultQuota.toBytes();
+    }
+
+    /**
+     * 새 콘텐츠 등록분 반영 (파일이 없으면 bytes = 0, 항목 수만 증가)
+     *
+     * @throws QuotaExceededException 한도 초과
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(Long userId, long bytes) {
+        apply(userId, bytes, 1);
+    }
+
+    /**
+     * 파일 교체분 반영 (차이만큼 증감)
+     *
+     * @throws QuotaExceededException 늘어난 만큼이 한도 초과
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void replace(Long userId, long oldBytes, long newBytes) {
+        apply(userId, newBytes - oldBytes, 0);
+    }
+
+    /**
+     * 삭제분 반영
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(Long userId, long bytes) {
+        apply(userId, -bytes, -1);
+    }
+
+    /**
+     * 남은 용량 (업로드 전 판단용, 한도 기능이 꺼져 있으면 Long.MAX_VALUE)
+     * - 사용량 행이 아직 없으면 기본 한도를 그대로 남은 용량으로 본다 (실제 사용량 반영은 등록 트랜잭션에서)
+     */
+    @Transactional(readOnly = true)
+    public long remainingBytes(Long userId) {
+        if (!enabled) {
+            return Long.MAX_VALUE;
+        }
+        StorageUsageJdbcRepository.Usage usage = storageUsageJdbcRepository.findUsage(userId);
+        if (usage == null) {
+            return defaultQuotaBytes;
+        }
+        return Math.max(0, quotaOf(usage) - usage.usedBytes());
+    }
+
+    /**
+     * 사용량 조회 (행이 없으면 실제 값으로 만든 뒤 반환)
+     */
+    @Transactional
+    public Usage getUsage(Long userId) {
+        StorageUsageJdbcRepository.Usage usage = storageUsageJdbcRepository.findUsage(userId);
+        if (usage == null) {
+            storageUsageJdbcRepository.initIfAbsent(userId);
+            usage = storageUsageJdbcRepository.findUsage(userId);
+        }
+        return new Usage(usage.usedBytes(), usage.itemCount(), quotaOf(usage));
+    }
+
+    /**
+     * 정합성 보정: user_id 범위별로 실제 값을 다시 계산 (범위마다 별도 문장이라 잠금이 짧다)
+     */
+    @Scheduled(cron = "${app.storage-quota.reconcile-cron:0 45 4 * * *}")
+    public synchronized void reconcile() {
+        long start = System.currentTimeMillis();
+        long maxId = storageUsageJdbcRepository.findMaxUserId();
+        int updated = 0;
+        for (long afterId = 0; afterId < maxId; afterId += RECONCILE_CHUNK_SIZE) {
+            updated += storageUsageJdbcRepository.reconcileRange(afterId, afterId + RECONCILE_CHUNK_SIZE);
+        }
+        log.info("업로드 사용량 정합성 보정 완료: rows={}, elapsed={}ms", updated, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 증감을 먼저 시도하고, 반영된 행이 없을 때 행이 없어서인지 확인해 그때만 실제 값으로 만든 뒤 다시 시도
+     * (업로드마다 SUM(file_size)를 하거나 INSERT ... SELECT로 content 범위를 잠그지 않도록)
+     */
+    private void apply(Long userId, long bytes, long items) {
+        if (addOrTry(userId, bytes, items)) {
+            return;
+        }
+        StorageUsageJdbcRepository.Usage usage = storageUsageJdbcRepository.findUsage(userId);
+        if (usage == null) {
+            storageUsageJdbcRepository.initIfAbsent(userId);
+            if (addOrTry(userId, bytes, items)) {
+                return;
+            }
+            usage = storageUsageJdbcRepository.findUsage(userId);
+        }
+        if (!enabled) {
+            return;
+        }
+        log.info("업로드 용량 한도 초과: userId={}, requested={}, used={}", userId, bytes, usage.usedBytes());
+        throw new QuotaExceededException(bytes, Math.max(0, quotaOf(usage) - usage.usedBytes()));
+    }
+
+    private boolean addOrTry(Long userId, long bytes, long items) {
+        if (!enabled) {
+            // 한도 기능이 꺼져 있어도 사용량은 계속 집계 (다시 켰을 때 보정 없이 바로 쓸 수 있도록)
+            return storageUsageJdbcRepository.add(userId, bytes, items);
+        }
+        return storageUsageJdbcRepository.tryAdd(userId, bytes, items, defaultQuotaBytes);
+    }
+
+    private long quotaOf(StorageUsageJdbcRepository.Usage usage) {
+        return usage.quotaBytes() != null ? usage.quotaBytes() : defaultQuotaBytes;
+    }
+
+    public record Usage(long usedBytes, long itemCount, long quotaBytes) {
+    }
+
+    /**
+     * 업로드 용량 한도 초과 (컨트롤러에서 413으로 응답)
+     */
+    @Getter
+    public static class QuotaExceededException extends IllegalStateException {
+
+        private final long requestedBytes;
+        private final long remainingBytes;
+
+        public QuotaExceededException(long requestedBytes, long remainingBytes) {
+            super("업로드 용량 한도를 초과했습니다: requested=" + requestedBytes + ", remaining=" + remainingBytes);
+            this.requestedBytes = requestedBytes;
+            this.remainingBytes = remainingBytes;
+        }
+    }
+}
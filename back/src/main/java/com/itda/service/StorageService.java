@@ -0,0 +1,176 @@
+package com.itda.service;
+
+import com.itda.dto.ContentResponse;
+import com.itda.entity.Storage;
+import com.itda.event.StorageChangedEvent;
+import com.itda.repository.StorageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 보관함 (북마크/좋아요/공유/다운로드)
+ * - 카드 목록의 "보관함 여부"는 사용자별 Redis SET(storage:{userId}:{itemType}:{storageType}) 한 번 조회로 판정
+ *   (카드마다 쿼리하지 않음, 한 페이지를 SMISMEMBER 한 번으로 확인)
+ * - 쓰기는 MySQL에 바로 반영하고 커밋 후 이미 구축된 SET에만 SADD/SREM (다시 구축하지 않음, 없으면 다음 조회 때 구축)
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class StorageService {
+
+    private static final String KEY_PREFIX = "storage:";
+
+    // 보관 항목이 없는 사용자도 "구축됨"으로 표시하기 위한 자리표시 멤버
+    private static final String SENTINEL = "0";
+
+    // 구축된 SET에만 반영 (없는 키에 SADD하면 자리표시 없이 일부만 든 SET이 "구축됨"으로 보이므로)
+    private static final DefaultRedisScript<Long> UPDATE_IF_BUILT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call(ARGV[1], KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private final StorageRepository storageRepository;
+    private final SupportMaterialLoader supportMaterialLoader;
+    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration ttl;
+
+    public StorageService(StorageRepository storageRepository,
+                          SupportMaterialLoader supportMaterialLoader,
+                          StringRedisTemplate redisTemplate,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${app.storage.membership-ttl:1h}") Duration ttl) {
+        this.storageRepository = storageRepository;
+        this.supportMaterialLoader = supportMaterialLoader;
+        this.redisTemplate = redisTemplate;
+        this.eventPublisher = eventPublisher;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 보관함에 추가 (이미 있으면 무시)
+     */
+    @Transactional
+    public void add(Long userId, Storage.ItemType itemType, Long itemId, Storage.StorageType storageType) {
+        if (storageRepository.existsByUserIdAndItemTypeAndItemIdAndStorageType(userId, itemType, itemId, storageType)) {
+            return;
+        }
+        storageRepository.save(new Storage(userId, itemType, itemId, storageType));
+        eventPublisher.publishEvent(new StorageChangedEvent(userId, itemType, itemId, storageType, true));
+    }
+
+    /**
+     * 보관함에서 삭제 (없으면 무시)
+     */
+    @Transactional
+    public void remove(Long userId, Storage.ItemType itemType, Long itemId, Storage.StorageType storageType) {
+        storageRepository.findByUserIdAndItemTypeAndItemIdAndStorageType(userId, itemType, itemId, storageType)
+                .ifPresent(storage -> {
+                    storageRepository.delete(storage);
+                    eventPublisher.publishEvent(new StorageChangedEvent(userId, itemType, itemId, storageType, false));
+                });
+    }
+
+    /**
+     * 보관한 콘텐츠 목록
+     */
+    public Page<ContentResponse> getStoredContents(Long userId, Storage.StorageType storageType, Pageable pageable) {
+        Page<ContentResponse> contents = storageRepository
+                .findStoredContents(userId, Storage.ItemType.CONTENT, storageType, pageable)
+                .map(ContentResponse::from);
+        supportMaterialLoader.attach(contents.getContent());
+        contents.forEach(content -> content.setIsSaved(storageType == Storage.StorageType.BOOKMARK));
+        return contents;
+    }
+
+    /**
+     * itemIds 중 보관함에 있는 ID (Redis SET 한 번 조회)
+     */
+    public Set<Long> findSavedIds(Long userId, Storage.ItemType itemType, Storage.StorageType storageType,
+                                  Collection<Long> itemIds) {
+        if (userId == null || itemIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        String key = key(userId, itemType, storageType);
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.expire(key, ttl))) {
+                build(key, userId, itemType, storageType);
+            }
+            Map<Object, Boolean> membership = redisTemplate.opsForSet()
+                    .isMember(key, itemIds.stream().map(String::valueOf).toArray());
+            Set<Long> saved = new HashSet<>();
+            membership.forEach((member, isMember) -> {
+                if (Boolean.TRUE.equals(isMember)) {
+                    saved.add(Long.valueOf(member.toString()));
+                }
+            });
+            return saved;
+        } catch (DataAccessException e) {
+            // Redis 장애 시 DB 전체 목록으로 판정
+            log.warn("보관함 SET 조회 실패, DB로 대체: userId={}, error={}", userId, e.getMessage());
+            Set<Long> stored = new HashSet<>(storageRepository.findItemIds(userId, itemType, storageType));
+            return itemIds.stream().filter(stored::contains).collect(Collectors.toSet());
+        }
+    }
+
+    /**
+     * 콘텐츠 카드 목록에 북마크 여부 일괄 설정 (비로그인이면 그대로)
+     */
+    public void applySavedFlags(Long userId, List<ContentResponse> contents) {
+        if (userId == null || contents == null || contents.isEmpty()) {
+            return;
+        }
+        Set<Long> contentIds = contents.stream()
+                .map(ContentResponse::getContentId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<Long> saved = findSavedIds(userId, Storage.ItemType.CONTENT, Storage.StorageType.BOOKMARK, contentIds);
+        contents.forEach(content -> content.setIsSaved(saved.contains(content.getContentId())));
+    }
+
+    /**
+     * 커밋 후 SET에 추가/삭제 반영 (SET 전체를 지우고 DB에서 다시 구축하지 않음)
+     */
+    @TransactionalEventListener
+    public void onStorageChanged(StorageChangedEvent event) {
+        try {
+            redisTemplate.execute(UPDATE_IF_BUILT_SCRIPT,
+                    List.of(key(event.getUserId(), event.getItemType(), event.getStorageType())),
+                    event.isAdded() ? "SADD" : "SREM", String.valueOf(event.getItemId()));
+        } catch (DataAccessException e) {
+            log.warn("보관함 SET 갱신 실패: userId={}, error={}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    private void build(String key, Long userId, Storage.ItemType itemType, Storage.StorageType storageType) {
+        List<Long> itemIds = storageRepository.findItemIds(userId, itemType, storageType);
+        String[] members = new String[itemIds.size() + 1];
+        members[0] = SENTINEL;
+        for (int i = 0; i < itemIds.size(); i++) {
+            members[i + 1] = String.valueOf(itemIds.get(i));
+        }
+        redisTemplate.opsForSet().add(key, members);
+        redisTemplate.expire(key, ttl);
+    }
+
+    private static String key(Long userId, Storage.ItemType itemType, Storage.StorageType storageType) {
+        return KEY_PREFIX + userId + ":" + itemType + ":" + storageType;
+    }
+}
@@ -0,0 +1,53 @@
+package com.itda.service;
+
+import com.itda.entity.Subscription;
+import com.itda.event.SubscriptionChangedEvent;
+import com.itda.repository.ChannelRepository;
+import com.itda.repository.SubscriptionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SubscriptionService {
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final ChannelRepository channelRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 채널 구독 (이미 구독 중이면 무시)
+     */
+    @Transactional
+    public void subscribe(Long userId, Long channelId) {
+        if (!channelRepository.existsById(channelId)) {
+            throw new IllegalArgumentException("채널을 찾을 수 없습니다: " + channelId);
+        }
+        if (subscriptionRepository.existsByUserIdAndChannelId(userId, channelId)) {
+            return;
+        }
+
+        subscriptionRepository.save(new Subscription(userId, channelId));
+        log.info("채널 구독: userId={}, channelId={}", userId, channelId);
+
+        eventPublisher.publishEvent(new SubscriptionChangedEvent(userId, channelId, true));
+    }
+
+    /**
+     * 채널 구독 취소 (구독 중이 아니면 무시)
+     */
+    @Transactional
+    public void unsubscribe(Long userId, Long channelId) {
+        subscriptionRepository.findByUserIdAndChannelId(userId, channelId).ifPresent(subscription -> {
+            subscriptionRepository.delete(subscription);
+            log.info("채널 구독 취소: userId={}, channelId={}", userId, channelId);
+
+            eventPublisher.publishEvent(new SubscriptionChangedEvent(userId, channelId, false));
+        });
+    }
+}
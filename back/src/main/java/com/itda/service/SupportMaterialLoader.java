@@ -0,0 +1,101 @@
+package com.itda.service;
+
+import com.itda.dto.ContentResponse;
+import com.itda.dto.SupportMaterialRow;
+import com.itda.dto.SupportMaterialSummary;
+import com.itda.repository.ContentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 보조자료 일괄 로딩
+ * - 페이지 단위 콘텐츠 목록에 보조자료 요약과 개수를 한 번의 쿼리로 붙인다 (카드별 조회 N+1 방지)
+ * - 다단계 보조자료도 재귀 CTE 한 번으로 가져와 메모리에서 트리를 구성한다
+ */
+@Component
+@RequiredArgsConstructor
+public class SupportMaterialLoader {
+
+    // 보조자료 트리 최대 깊이 (순환 참조 방지 겸용)
+    private static final int MAX_DEPTH = 5;
+
+    private final ContentRepository contentRepository;
+
+    /**
+     * 콘텐츠 목록에 보조자료 요약/개수 설정
+     */
+    public void attach(List<ContentResponse> contents) {
+        Set<Long> parentIds = new LinkedHashSet<>();
+        for (ContentResponse content : contents) {
+            if (content.getContentId() != null) {
+                parentIds.add(content.getContentId());
+            }
+        }
+
+        Map<Long, List<SupportMaterialSummary>> childrenByParent = loadTree(parentIds);
+
+        for (ContentResponse content : contents) {
+            List<SupportMaterialSummary> children = childrenByParent.getOrDefault(content.getContentId(), new ArrayList<>());
+            content.setSupportMaterials(children);
+            content.setSupportMaterialCount(children.size());
+        }
+    }
+
+    /**
+     * 부모 id → 직속 보조자료 목록 (각 보조자료에는 하위 보조자료가 중첩되어 있음)
+     */
+    public Map<Long, List<SupportMaterialSummary>> loadTree(Set<Long> parentIds) {
+        Map<Long, List<SupportMaterialSummary>> childrenByParent = new HashMap<>();
+        if (parentIds.isEmpty()) {
+            return childrenByParent;
+        }
+
+        // 같은 보조자료가 여러 경로로 나올 수 있으므로 (목록 안의 콘텐츠끼리 부모/자식인 경우) id로 중복 제거
+        List<SupportMaterialRow> rows = contentRepository.findSupportMaterialTree(parentIds, MAX_DEPTH);
+        Map<Long, SupportMaterialSummary> nodes = new LinkedHashMap<>();
+        for (SupportMaterialRow row : rows) {
+            nodes.putIfAbsent(row.getContentId(), SupportMaterialSummary.from(row));
+        }
+
+        for (SupportMaterialSummary node : nodes.values()) {
+            Long parentId = node.getParentContentId();
+            if (formsCycle(nodes, node.getContentId(), parentId)) {
+                // DB에 이미 들어간 순환 참조는 연결하지 않음 (직렬화 무한 재귀 방지)
+                continue;
+            }
+            if (parentIds.contains(parentId)) {
+                childrenByParent.computeIfAbsent(parentId, key -> new ArrayList<>()).add(node);
+            }
+            SupportMaterialSummary parentNode = nodes.get(parentId);
+            if (parentNode != null) {
+                parentNode.getSupportMaterials().add(node);
+            }
+        }
+        return childrenByParent;
+    }
+
+    /**
+     * parentId에서 위로 올라가다 자기 자신을 만나면 순환 (방문한 id는 다시 보지 않음)
+     */
+    private static boolean formsCycle(Map<Long, SupportMaterialSummary> nodes, Long contentId, Long parentId) {
+        Set<Long> visited = new HashSet<>();
+        Long current = parentId;
+        while (current != null && visited.add(current)) {
+            if (current.equals(contentId)) {
+                return true;
+            }
+            SupportMaterialSummary parent = nodes.get(current);
+            current = parent != null ? parent.getParentContentId() : null;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,180 @@
+package com.itda.service;
+
+import com.itda.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 액세스 토큰 폐기 목록 (요청마다 O(1) 확인)
+ * - 폐기된 jti는 세대별 블룸 필터에 넣는다 (세대 = 액세스 토큰 수명 단위 시간 구간)
+ *   토큰은 발급 후 한 수명 안에 만료되므로 현재/직전 세대만 보면 되고, 그보다 오래된 세대는 통째로 버린다
+ * - 필터는 노드 메모리에 두고 Redis 비트맵(auth:revoked:bloom:{세대})과 pub/sub으로 노드 간 동기화
+ * - 필터가 "없음"이면 Redis 조회 없이 통과, "있을 수도"일 때만 정확한 키(auth:revoked:{jti})를 확인
+ *   (그 확인이 실패하면 안전하게 폐기로 간주)
+ */
+@Slf4j
+@Service
+public class TokenRevocationService implements MessageListener {
+
+    public static final String TOPIC = "auth:revocations";
+
+    private static final String BLOOM_KEY_PREFIX = "auth:revoked:bloom:";
+    private static final String REVOKED_KEY_PREFIX = "auth:revoked:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long generationMs;
+    private final int bitCount;
+    private final int hashCount;
+    private final Counter exactLookups;
+    private final Counter revokedHits;
+
+    private final Map<Long, BloomFilter> generations = new ConcurrentHashMap<>();
+
+    public TokenRevocationService(StringRedisTemplate redisTemplate,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.jwt.access-token-ttl:15m}") Duration accessTokenTtl,
+                                  @Value("${app.jwt.revocation.bloom-bits:1048576}") int bitCount,
+                                  @Value("${app.jwt.revocation.bloom-hashes:5}") int hashCount) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.generationMs = accessTokenTtl.toMillis();
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+        this.exactLookups = Counter.builder("auth.revocation.lookups")
+                .description("블룸 필터 양성으로 Redis까지 확인한 횟수")
+                .register(meterRegistry);
+        this.revokedHits = Counter.builder("auth.revocation.rejected")
+                .description("폐기된 토큰으로 거절된 요청 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(TOPIC));
+    }
+
+    /**
+     * 토큰 폐기 (만료 시각이 지났으면 아무것도 하지 않음)
+     */
+    public void revoke(String jti, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        long remaining = expiresAtMillis - now;
+        if (jti == null || remaining <= 0) {
+            return;
+        }
+
+        long generation = now / generationMs;
+        BloomFilter filter = filter(generation);
+        long[] positions = filter.positions(jti);
+        for (long position : positions) {
+            filter.set(position);
+        }
+
+        byte[] bloomKey = (BLOOM_KEY_PREFIX + generation).getBytes(StandardCharsets.UTF_8);
+        redisTemplate.opsForValue().set(REVOKED_KEY_PREFIX + jti, "1", Duration.ofMillis(remaining));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (long position : positions) {
+                connection.stringCommands().setBit(bloomKey, position, true);
+            }
+            // 이 세대에 폐기된 토큰이 모두 만료될 때까지 유지
+            connection.keyCommands().pExpire(bloomKey, generationMs * 2 + 60_000L);
+            return null;
+        });
+        redisTemplate.convertAndSend(TOPIC, generation + ":" + jti);
+    }
+
+    /**
+     * 폐기 여부 (jti가 없는 이전 발급 토큰은 만료 전까지 폐기 불가)
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        long generation = System.currentTimeMillis() / generationMs;
+        if (!mightContain(generation, jti) && !mightContain(generation - 1, jti)) {
+            return false;
+        }
+
+        exactLookups.increment();
+        boolean revoked;
+        try {
+            revoked = Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_KEY_PREFIX + jti));
+        } catch (RuntimeException e) {
+            log.warn("토큰 폐기 여부 확인 실패, 폐기로 간주: jti={}, error={}", jti, e.getMessage());
+            revoked = true;
+        }
+        if (revoked) {
+            revokedHits.increment();
+        }
+        return revoked;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator <= 0) {
+            return;
+        }
+        try {
+            filter(Long.parseLong(body.substring(0, separator))).add(body.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            log.warn("토큰 폐기 메시지 형식 오류: {}", body);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        sync();
+    }
+
+    /**
+     * Redis 비트맵을 로컬 필터에 합치고 지난 세대를 정리 (pub/sub 유실 보완, 새 노드 기동 시 복원)
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.sync-interval-ms:60000}")
+    public void sync() {
+        long generation = System.currentTimeMillis() / generationMs;
+        generations.keySet().removeIf(existing -> existing < generation - 1);
+        try {
+            for (long target = generation - 1; target <= generation; target++) {
+                byte[] key = (BLOOM_KEY_PREFIX + target).getBytes(StandardCharsets.UTF_8);
+                byte[] bitmap = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                        connection.stringCommands().get(key));
+                if (bitmap != null) {
+                    filter(target).merge(bitmap);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("토큰 폐기 필터 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    private boolean mightContain(long generation, String jti) {
+        BloomFilter filter = generations.get(generation);
+        return filter != null && filter.mightContain(jti);
+    }
+
+    private BloomFilter filter(long generation) {
+        return generations.computeIfAbsent(generation, key -> new BloomFilter(bitCount, hashCount));
+    }
+}
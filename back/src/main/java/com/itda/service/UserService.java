@@ -1,32 +1,48 @@
 package com.itda.service;
 
+import com.itda.dto.AuthorSummary;
 import com.itda.dto.LoginRequest;
 import com.itda.dto.LoginResponse;
 import com.itda.entity.User;
+import com.itda.repository.UserJdbcRepository;
 import com.itda.repository.UserRepository;
 import com.itda.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final UserJdbcRepository userJdbcRepository;
+    private final PasswordHasher passwordHasher;
+    private final LastLoginRecorder lastLoginRecorder;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
 
-    @Transactional
+    /**
+     * 로그인
+     * - BCrypt 검증은 전용 풀에서 (대기 중에 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 실행)
+     * - 마지막 로그인 시각은 모아서 일괄 UPDATE, 해시 cost가 설정과 다르면 백그라운드에서 재해시
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponse login(LoginRequest loginRequest) {
         User user = userRepository.findByUsername(loginRequest.getUsername())
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
 
-        if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPasswordHash())) {
+        if (!passwordHasher.matches(loginRequest.getPassword(), user.getPasswordHash())) {
             throw new RuntimeException("비밀번호가 일치하지 않습니다");
         }
 
@@ -34,25 +50,81 @@ public class UserService {
             throw new RuntimeException("비활성화된 계정입니다");
         }
 
-        // 마지막 로그인 시간 업데이트
-        user.setLastLoginAt(LocalDateTime.now());
-        userRepository.save(user);
+        // 마지막 로그인 시간 업데이트 (일괄 반영)
+        lastLoginRecorder.record(user.getUserId(), LocalDateTime.now());
 
-        // JWT 토큰 생성
-        String token = jwtUtil.generateToken(user.getUsername());
+        if (passwordHasher.needsRehash(user.getPasswordHash())) {
+            Long userId = user.getUserId();
+            String previousHash = user.getPasswordHash();
+            passwordHasher.encodeAsync(loginRequest.getPassword(), newHash -> {
+                if (userJdbcRepository.updatePasswordHash(userId, previousHash, newHash) > 0) {
+                    log.info("비밀번호 재해시: userId={}", userId);
+                }
+            });
+        }
+
+        // 짧은 수명의 액세스 토큰 + 교체형 리프레시 토큰
+        return buildLoginResponse(user, refreshTokenService.issue(user.getUserId(), user.getUsername()));
+    }
+
+    /**
+     * 리프레시 토큰으로 재발급 (리프레시 토큰도 새 것으로 교체, 유효하지 않으면 IllegalArgumentException)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public LoginResponse refresh(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        User user = userRepository.findById(rotation.userId())
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
 
-        return new LoginResponse(
-                token,
+        if (!user.getIsActive()) {
+            refreshTokenService.revokeFamily(rotation.familyId());
+            throw new IllegalArgumentException("비활성화된 계정입니다");
+        }
+
+        return buildLoginResponse(user, rotation.refreshToken());
+    }
+
+    /**
+     * 로그아웃 (액세스 토큰 즉시 폐기 + 리프레시 토큰 family 폐기)
+     */
+    public void logout(String accessToken, String refreshToken) {
+        if (StringUtils.hasText(accessToken)) {
+            Claims claims = jwtUtil.parseClaims(accessToken);
+            if (claims != null) {
+                tokenRevocationService.revoke(claims.getId(), claims.getExpiration().getTime());
+            }
+        }
+        if (StringUtils.hasText(refreshToken)) {
+            refreshTokenService.revoke(refreshToken);
+        }
+    }
+
+    private LoginResponse buildLoginResponse(User user, String refreshToken) {
+        LoginResponse response = new LoginResponse(
+                jwtUtil.generateToken(user.getUsername()),
                 user.getUserId(),
                 user.getUsername(),
                 user.getEmail(),
                 user.getFullName(),
                 user.getUserType().name()
         );
+        response.setRefreshToken(refreshToken);
+        response.setExpiresIn(jwtUtil.getAccessTokenTtlMs() / 1000);
+        return response;
     }
 
     public User findByUsername(String username) {
         return userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
     }
-}
\ No newline at end of file
+
+    /**
+     * 작성자 요약 (콘텐츠 상세용, 캐시 - 같은 작성자의 동시 조회는 한 번만 로드)
+     */
+    @Cacheable(value = "authorSummaries", key = "#userId", sync = true)
+    public AuthorSummary getAuthorSummary(Long userId) {
+        return userRepository.findById(userId)
+                .map(AuthorSummary::from)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+    }
+}
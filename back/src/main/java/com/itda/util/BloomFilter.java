@@ -0,0 +1,102 @@
+package com.itda.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 블룸 필터 (비트 위치가 Redis 비트맵 오프셋과 1:1로 대응)
+ * - 해시 한 번(64비트 두 개)으로 k개 위치를 만드는 이중 해싱
+ * - 비트 i는 Redis SETBIT/GETBIT 오프셋 i와 같다 (Redis 바이트 배열을 그대로 병합 가능)
+ * - 스레드 안전 (비트 설정은 CAS, 읽기는 잠금 없음)
+ */
+public class BloomFilter {
+
+    private final int bitCount;
+    private final int hashCount;
+    private final AtomicLongArray words;
+
+    public BloomFilter(int bitCount, int hashCount) {
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+        this.words = new AtomicLongArray((bitCount + 63) / 64);
+    }
+
+    /**
+     * key가 차지하는 비트 위치들 (Redis SETBIT 오프셋으로도 사용)
+     */
+    public long[] positions(String key) {
+        long h1 = fnv1a(key);
+        long h2 = mix(h1) | 1L;
+        long[] positions = new long[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            positions[i] = Math.floorMod(h1 + i * h2, (long) bitCount);
+        }
+        return positions;
+    }
+
+    public void add(String key) {
+        for (long position : positions(key)) {
+            set(position);
+        }
+    }
+
+    public boolean mightContain(String key) {
+        for (long position : positions(key)) {
+            if ((words.get((int) (position >>> 6)) & (1L << (position & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void set(long position) {
+        int index = (int) (position >>> 6);
+        long mask = 1L << (position & 63);
+        long current;
+        do {
+            current = words.get(index);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(index, current, current | mask));
+    }
+
+    /**
+     * Redis 비트맵(GET 결과 바이트)을 합침 - Redis는 바이트의 최상위 비트가 오프셋 0
+     */
+    public void merge(byte[] redisBitmap) {
+        int limit = Math.min(redisBitmap.length, (bitCount + 7) / 8);
+        for (int byteIndex = 0; byteIndex < limit; byteIndex++) {
+            int value = redisBitmap[byteIndex] & 0xFF;
+            if (value == 0) {
+                continue;
+            }
+            for (int bit = 0; bit < 8; bit++) {
+                if ((value & (0x80 >>> bit)) != 0) {
+                    set(byteIndex * 8L + bit);
+                }
+            }
+        }
+    }
+
+    public int getBitCount() {
+        return bitCount;
+    }
+
+    private static long fnv1a(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // splitmix64 마무리 단계 (두 번째 해시)
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,78 @@
+package com.itda.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Count-Min Sketch (빈도 근사 카운터)
+ * - 고정 메모리(depth x width)로 키별 빈도를 과대 추정 방향으로만 근사
+ * - 선형 구조라 다른 스케치를 더하거나 뺄 수 있음 (슬라이딩 윈도우 구현에 사용)
+ * - 스레드 안전하지 않음
+ */
+public class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final long[][] table;
+
+    public CountMinSketch(int depth, int width) {
+        this.depth = depth;
+        this.width = width;
+        this.table = new long[depth][width];
+    }
+
+    public void add(String key, long count) {
+        long hash = hash64(key);
+        for (int row = 0; row < depth; row++) {
+            table[row][index(hash, row)] += count;
+        }
+    }
+
+    public long estimate(String key) {
+        long hash = hash64(key);
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, table[row][index(hash, row)]);
+        }
+        return min;
+    }
+
+    /**
+     * other 스케치의 값을 뺌 (같은 크기여야 함)
+     */
+    public void subtract(CountMinSketch other) {
+        for (int row = 0; row < depth; row++) {
+            for (int col = 0; col < width; col++) {
+                table[row][col] -= other.table[row][col];
+            }
+        }
+    }
+
+    public void clear() {
+        for (long[] row : table) {
+            Arrays.fill(row, 0L);
+        }
+    }
+
+    /**
+     * 두 해시의 조합으로 행마다 독립적인 인덱스 생성 (Kirsch-Mitzenmacher)
+     */
+    private int index(long hash, int row) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        int combined = h1 + row * h2;
+        return Math.floorMod(combined, width);
+    }
+
+    /**
+     * FNV-1a 64bit
+     */
+    private static long hash64(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
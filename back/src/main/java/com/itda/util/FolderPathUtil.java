@@ -0,0 +1,80 @@
+package com.itda.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 보관함 폴더 경로 유틸 (materialized path)
+ * - 정규형: 앞뒤 슬래시 없이 "/"로 구분 ("수학/1단원"), 최상위는 빈 문자열
+ * - 하위 폴더 전체는 path = 'a' OR path LIKE 'a/%' 범위 조회로 찾는다 (인덱스 범위 스캔)
+ */
+public final class FolderPathUtil {
+
+    public static final String ROOT = "";
+
+    private static final int MAX_SEGMENT_LENGTH = 100;
+
+    private FolderPathUtil() {
+    }
+
+    /**
+     * 공백/중복 슬래시/앞뒤 슬래시 정리 (null이면 최상위)
+     */
+    public static String normalize(String path) {
+        if (path == null) {
+            return ROOT;
+        }
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.replace('\\', '/').split("/")) {
+            String trimmed = segment.trim();
+            if (trimmed.isEmpty() || trimmed.equals(".")) {
+                continue;
+            }
+            if (trimmed.equals("..")) {
+                throw new IllegalArgumentException("폴더 경로에 '..'를 사용할 수 없습니다.");
+            }
+            if (trimmed.length() > MAX_SEGMENT_LENGTH) {
+                throw new IllegalArgumentException("폴더 이름은 " + MAX_SEGMENT_LENGTH + "자를 넘을 수 없습니다.");
+            }
+            segments.add(trimmed);
+        }
+        return String.join("/", segments);
+    }
+
+    /**
+     * 상위 폴더 경로 (최상위 바로 아래면 빈 문자열)
+     */
+    public static String parent(String normalized) {
+        int index = normalized.lastIndexOf('/');
+        return index < 0 ? ROOT : normalized.substring(0, index);
+    }
+
+    public static String child(String parent, String name) {
+        return parent.isEmpty() ? name : parent + "/" + name;
+    }
+
+    /**
+     * path가 ancestor 자신이거나 그 하위인지
+     */
+    public static boolean isSelfOrDescendant(String path, String ancestor) {
+        return ancestor.isEmpty() || path.equals(ancestor) || path.startsWith(ancestor + "/");
+    }
+
+    /**
+     * 하위 폴더 LIKE 패턴 ("a" → "a/%", 이스케이프 문자 '!')
+     */
+    public static String descendantPattern(String normalized) {
+        return escapeLike(normalized) + "/%";
+    }
+
+    /**
+     * SQL SUBSTRING 시작 위치 (문자 단위, 보조 평면 문자 포함)
+     */
+    public static int suffixStart(String normalized) {
+        return normalized.codePointCount(0, normalized.length()) + 1;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
@@ -0,0 +1,82 @@
+package com.itda.util;
+
+/**
+ * 지연 시간 기반 적응형 동시 처리 한도 (gradient + AIMD)
+ * - 장기 평균 지연(부하 없는 기준)과 단기 평균 지연의 비율(gradient)로 한도를 조정한다
+ *   단기 지연이 기준보다 커지면(큐가 쌓이면) 한도를 줄이고, 비슷하면 여유분(sqrt(limit))만큼 늘린다
+ * - 실패/타임아웃 표본은 곱셈 감소(AIMD)로 빠르게 줄인다
+ * - 한도에 못 미치게 쓰는 동안에는 늘리지 않는다 (유휴 시 한도가 무한정 커지는 것 방지)
+ * - 스레드 안전 (표본 반영은 synchronized, 한도 읽기는 volatile)
+ */
+public class GradientLimit {
+
+    private static final double SHORT_SMOOTHING = 0.1;
+    private static final double LONG_SMOOTHING = 0.005;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double LIMIT_SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    /**
+     * @param tolerance 단기 지연이 기준의 몇 배까지는 정상으로 볼지 (예: 1.5)
+     */
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * 처리 완료 표본 반영
+     *
+     * @param rttNanos 처리 시간
+     * @param inFlight 표본 요청 시작 시점의 동시 처리 수
+     * @param dropped  실패/타임아웃 여부
+     */
+    public synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+        if (dropped) {
+            estimatedLimit = Math.max(minLimit, estimatedLimit * BACKOFF_RATIO);
+            limit = (int) estimatedLimit;
+            return;
+        }
+
+        if (longRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+            return;
+        }
+        shortRttNanos += (rttNanos - shortRttNanos) * SHORT_SMOOTHING;
+        longRttNanos += (rttNanos - longRttNanos) * LONG_SMOOTHING;
+
+        // 기준 지연이 높아진 채로 굳지 않도록, 단기 지연이 기준보다 훨씬 낮으면 기준을 빠르게 끌어내림
+        if (longRttNanos / shortRttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        // 한도의 절반도 쓰지 않는 동안에는 늘리지 않음
+        if (inFlight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / shortRttNanos));
+        double queueSize = Math.sqrt(estimatedLimit);
+        double target = estimatedLimit * gradient + queueSize;
+        estimatedLimit = estimatedLimit * (1 - LIMIT_SMOOTHING) + target * LIMIT_SMOOTHING;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit));
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,112 @@
+package com.itda.util;
+
+import java.util.Map;
+
+/**
+ * 한글 자모 분해 유틸
+ * - 초성 추출: "수학" → "ㅅㅎ"
+ * - 자모 분해: "한글" → "ㅎㅏㄴㄱㅡㄹ" (겹모음/겹받침도 낱자로 분해)
+ *   입력 중인 글자("하", "한")도 완성된 단어의 앞부분과 일치시키기 위해 사용
+ */
+public final class HangulUtil {
+
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_END = 0xD7A3;
+    private static final int JUNGSUNG_COUNT = 21;
+    private static final int JONGSUNG_COUNT = 28;
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private static final String[] JUNGSUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ",
+            "ㅣ"
+    };
+
+    private static final String[] JONGSUNG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 단독으로 입력된 겹자모 (호환용 자모)
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+            Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+            Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+            Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"), Map.entry('ㅘ', "ㅗㅏ"),
+            Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"),
+            Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ")
+    );
+
+    private HangulUtil() {
+    }
+
+    /**
+     * 완성형 한글은 초성으로, 나머지 문자는 그대로
+     */
+    public static String toChosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (isSyllable(ch)) {
+                builder.append(CHOSUNG[(ch - HANGUL_BASE) / (JUNGSUNG_COUNT * JONGSUNG_COUNT)]);
+            } else {
+                builder.append(ch);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 완성형 한글과 겹자모를 낱자 자모열로 분해, 나머지 문자는 그대로
+     */
+    public static String toJamo(String text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (isSyllable(ch)) {
+                int code = ch - HANGUL_BASE;
+                builder.append(CHOSUNG[code / (JUNGSUNG_COUNT * JONGSUNG_COUNT)]);
+                builder.append(JUNGSUNG[(code % (JUNGSUNG_COUNT * JONGSUNG_COUNT)) / JONGSUNG_COUNT]);
+                builder.append(JONGSUNG[code % JONGSUNG_COUNT]);
+            } else {
+                String compound = COMPOUND_JAMO.get(ch);
+                builder.append(compound != null ? compound : String.valueOf(ch));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 초성(자음)으로만 이루어진 입력인지 (공백 허용)
+     */
+    public static boolean isChosungOnly(String text) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (isChosung(ch)) {
+                hasConsonant = true;
+            } else if (!Character.isWhitespace(ch)) {
+                return false;
+            }
+        }
+        return hasConsonant;
+    }
+
+    private static boolean isSyllable(char ch) {
+        return ch >= HANGUL_BASE && ch <= HANGUL_END;
+    }
+
+    private static boolean isChosung(char ch) {
+        for (char chosung : CHOSUNG) {
+            if (chosung == ch) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -6,25 +6,31 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
 
     private final SecretKey secretKey;
-    private final int jwtExpirationMs;
+    private final long accessTokenTtlMs;
 
     public JwtUtil(@Value("${jwt.secret:mySecretKey1234567890123456789012345678901234567890123456789012345678901234567890}") String secret,
-                   @Value("${jwt.expiration:86400000}") int jwtExpirationMs) {
+                   @Value("${app.jwt.access-token-ttl:15m}") Duration accessTokenTtl) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
-        this.jwtExpirationMs = jwtExpirationMs;
+        this.accessTokenTtlMs = accessTokenTtl.toMillis();
     }
 
+    /**
+     * 액세스 토큰 발급 (폐기 확인용 jti 포함)
+     */
     public String generateToken(String username) {
         Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
+        Date expiryDate = new Date(now.getTime() + accessTokenTtlMs);
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(username)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
@@ -32,6 +38,25 @@ public class JwtUtil {
                 .compact();
     }
 
+    public long getAccessTokenTtlMs() {
+        return accessTokenTtlMs;
+    }
+
+    /**
+     * 서명/만료 검증 후 클레임 반환 (유효하지 않으면 null)
+     */
+    public Claims parseClaims(String token) {
+        try {
+            return Jwts.parserBuilder()
+                    .setSigningKey(secretKey)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     public String getUsernameFromToken(String token) {
         Claims claims = Jwts.parserBuilder()
                 .setSigningKey(secretKey)
@@ -43,14 +68,6 @@ public class JwtUtil {
     }
 
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return parseClaims(token) != null;
     }
-}
\ No newline at end of file
+}
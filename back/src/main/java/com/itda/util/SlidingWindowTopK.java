@@ -0,0 +1,120 @@
+package com.itda.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 슬라이딩 윈도우 인기 항목 집계
+ * - 윈도우를 여러 버킷으로 나눠 버킷마다 Count-Min Sketch를 두고, 윈도우 합계 스케치를 함께 유지한다
+ * - 버킷이 만료되면 합계에서 해당 버킷을 빼므로 전체 재집계가 필요 없다
+ * - 상위 후보는 capacity 크기의 최소 힙으로 관리 (힙 최솟값보다 큰 항목만 진입)
+ */
+public class SlidingWindowTopK {
+
+    private final CountMinSketch[] buckets;
+    private final CountMinSketch window;
+    private final long bucketMillis;
+    private final int capacity;
+
+    private final Map<String, Candidate> candidates = new HashMap<>();
+    private final PriorityQueue<Candidate> heap = new PriorityQueue<>(Comparator.comparingLong(candidate -> candidate.count));
+
+    private int currentIndex;
+    private long currentBucketStart;
+
+    public SlidingWindowTopK(int bucketCount, long bucketMillis, int capacity, int sketchDepth, int sketchWidth) {
+        this.buckets = new CountMinSketch[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new CountMinSketch(sketchDepth, sketchWidth);
+        }
+        this.window = new CountMinSketch(sketchDepth, sketchWidth);
+        this.bucketMillis = bucketMillis;
+        this.capacity = capacity;
+        this.currentBucketStart = System.currentTimeMillis();
+    }
+
+    public synchronized void add(String key, long count, long nowMillis) {
+        rotate(nowMillis);
+        buckets[currentIndex].add(key, count);
+        window.add(key, count);
+        offer(key, window.estimate(key));
+    }
+
+    /**
+     * 윈도우 내 상위 항목 (근사 빈도 내림차순)
+     */
+    public synchronized List<Map.Entry<String, Long>> top(int size, long nowMillis) {
+        rotate(nowMillis);
+        List<Candidate> sorted = new ArrayList<>(candidates.values());
+        sorted.sort(Comparator.comparingLong((Candidate candidate) -> candidate.count).reversed()
+                .thenComparing(candidate -> candidate.key));
+
+        List<Map.Entry<String, Long>> result = new ArrayList<>(Math.min(size, sorted.size()));
+        for (Candidate candidate : sorted.subList(0, Math.min(size, sorted.size()))) {
+            result.add(Map.entry(candidate.key, candidate.count));
+        }
+        return result;
+    }
+
+    private void offer(String key, long count) {
+        Candidate existing = candidates.get(key);
+        if (existing != null) {
+            heap.remove(existing);
+            existing.count = count;
+            heap.add(existing);
+            return;
+        }
+
+        if (candidates.size() >= capacity) {
+            Candidate min = heap.peek();
+            if (min == null || min.count >= count) {
+                return;
+            }
+            heap.poll();
+            candidates.remove(min.key);
+        }
+
+        Candidate candidate = new Candidate(key, count);
+        candidates.put(key, candidate);
+        heap.add(candidate);
+    }
+
+    /**
+     * 경과한 버킷만큼 윈도우를 밀고, 만료된 버킷 값을 합계에서 제거한 뒤 후보 빈도를 다시 계산
+     */
+    private void rotate(long nowMillis) {
+        long elapsed = (nowMillis - currentBucketStart) / bucketMillis;
+        if (elapsed <= 0) {
+            return;
+        }
+
+        int steps = (int) Math.min(elapsed, buckets.length);
+        for (int i = 0; i < steps; i++) {
+            currentIndex = (currentIndex + 1) % buckets.length;
+            window.subtract(buckets[currentIndex]);
+            buckets[currentIndex].clear();
+        }
+        currentBucketStart += elapsed * bucketMillis;
+
+        heap.clear();
+        candidates.values().removeIf(candidate -> {
+            candidate.count = window.estimate(candidate.key);
+            return candidate.count <= 0;
+        });
+        heap.addAll(candidates.values());
+    }
+
+    private static final class Candidate {
+        private final String key;
+        private long count;
+
+        Candidate(String key, long count) {
+            this.key = key;
+            this.count = count;
+        }
+    }
+}
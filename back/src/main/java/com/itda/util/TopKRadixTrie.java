@@ -0,0 +1,234 @@
+package com.itda.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상위 K개 캐시를 가진 압축 접두사 트리 (radix trie)
+ * - 분기점에만 노드를 두어 단일 경로를 하나의 간선 라벨로 압축한다
+ * - 각 노드는 하위 트리 전체에서 가중치 상위 K개 값을 미리 계산해 두므로, 접두사 조회는 경로 탐색 비용만 든다
+ * - 값의 가중치가 바뀌면 해당 키 경로에 대해 {@link #refresh(String)}를 호출해야 한다
+ * - 스레드 안전하지 않음 (호출 측에서 잠금)
+ */
+public class TopKRadixTrie<T> {
+
+    private final int k;
+    private final Comparator<? super T> order;
+    private final Node<T> root = new Node<>("");
+
+    public TopKRadixTrie(int k, Comparator<? super T> order) {
+        this.k = k;
+        this.order = order;
+    }
+
+    /**
+     * key 위치에 value 추가 후 경로의 상위 K 갱신
+     */
+    public void put(String key, T value) {
+        List<Node<T>> path = new ArrayList<>();
+        Node<T> node = root;
+        path.add(node);
+        int index = 0;
+
+        while (index < key.length()) {
+            int childIndex = node.childIndex(key.charAt(index));
+            if (childIndex < 0) {
+                Node<T> leaf = new Node<>(key.substring(index));
+                node.insertChild(leaf);
+                node = leaf;
+                path.add(node);
+                index = key.length();
+                break;
+            }
+
+            Node<T> child = node.children.get(childIndex);
+            int common = commonPrefixLength(child.label, key, index);
+            if (common < child.label.length()) {
+                // 간선 분할: parent → middle(공통부분) → child(나머지)
+                Node<T> middle = new Node<>(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.insertChild(child);
+                middle.top = child.top;
+                node.children.set(childIndex, middle);
+                child = middle;
+            }
+            node = child;
+            path.add(node);
+            index += common;
+        }
+
+        node.addValue(value);
+        recompute(path);
+    }
+
+    /**
+     * key 위치에서 value 제거 후 경로의 상위 K 갱신 (빈 노드는 다음 재구축 때 정리)
+     */
+    public void remove(String key, T value) {
+        List<Node<T>> path = findPath(key);
+        if (path == null) {
+            return;
+        }
+        path.get(path.size() - 1).removeValue(value);
+        recompute(path);
+    }
+
+    /**
+     * 가중치가 바뀐 값이 있는 key 경로의 상위 K 재계산
+     */
+    public void refresh(String key) {
+        List<Node<T>> path = findPath(key);
+        if (path != null) {
+            recompute(path);
+        }
+    }
+
+    /**
+     * prefix로 시작하는 키들의 값 중 상위 limit개
+     */
+    public List<T> topByPrefix(String prefix, int limit) {
+        Node<T> node = root;
+        int index = 0;
+        while (index < prefix.length()) {
+            int childIndex = node.childIndex(prefix.charAt(index));
+            if (childIndex < 0) {
+                return Collections.emptyList();
+            }
+            Node<T> child = node.children.get(childIndex);
+            int common = commonPrefixLength(child.label, prefix, index);
+            if (index + common == prefix.length()) {
+                // prefix가 간선 중간에서 끝나도 해당 하위 트리 전체가 일치
+                node = child;
+                break;
+            }
+            if (common < child.label.length()) {
+                return Collections.emptyList();
+            }
+            node = child;
+            index += common;
+        }
+
+        List<T> top = node.top;
+        return top.subList(0, Math.min(limit, top.size()));
+    }
+
+    private List<Node<T>> findPath(String key) {
+        List<Node<T>> path = new ArrayList<>();
+        Node<T> node = root;
+        path.add(node);
+        int index = 0;
+        while (index < key.length()) {
+            int childIndex = node.childIndex(key.charAt(index));
+            if (childIndex < 0) {
+                return null;
+            }
+            Node<T> child = node.children.get(childIndex);
+            if (!key.startsWith(child.label, index)) {
+                return null;
+            }
+            node = child;
+            path.add(node);
+            index += child.label.length();
+        }
+        return path;
+    }
+
+    /**
+     * 경로의 가장 깊은 노드부터 루트까지 상위 K 재계산 (자기 값 + 자식들의 상위 K 병합)
+     */
+    private void recompute(List<Node<T>> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node<T> node = path.get(i);
+            Map<T, Boolean> seen = new IdentityHashMap<>();
+            List<T> candidates = new ArrayList<>();
+            for (T value : node.values) {
+                if (seen.put(value, Boolean.TRUE) == null) {
+                    candidates.add(value);
+                }
+            }
+            for (Node<T> child : node.children) {
+                for (T value : child.top) {
+                    if (seen.put(value, Boolean.TRUE) == null) {
+                        candidates.add(value);
+                    }
+                }
+            }
+            candidates.sort(order);
+            node.top = Collections.unmodifiableList(
+                    new ArrayList<>(candidates.subList(0, Math.min(k, candidates.size()))));
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static final class Node<T> {
+
+        private String label;
+        // 간선 첫 글자 순으로 정렬
+        private List<Node<T>> children = Collections.emptyList();
+        private List<T> values = Collections.emptyList();
+        private List<T> top = Collections.emptyList();
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        /**
+         * 자식은 간선 첫 글자 기준 정렬 상태로 유지 (이진 탐색)
+         */
+        int childIndex(char first) {
+            int low = 0;
+            int high = children.size() - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midChar = children.get(mid).label.charAt(0);
+                if (midChar < first) {
+                    low = mid + 1;
+                } else if (midChar > first) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+
+        void insertChild(Node<T> child) {
+            char first = child.label.charAt(0);
+            if (children.isEmpty()) {
+                children = new ArrayList<>(2);
+            }
+            int position = 0;
+            while (position < children.size() && children.get(position).label.charAt(0) < first) {
+                position++;
+            }
+            children.add(position, child);
+        }
+
+        void addValue(T value) {
+            if (values.isEmpty()) {
+                values = new ArrayList<>(1);
+            }
+            if (!values.contains(value)) {
+                values.add(value);
+            }
+        }
+
+        void removeValue(T value) {
+            if (!values.isEmpty()) {
+                values.remove(value);
+            }
+        }
+    }
+}
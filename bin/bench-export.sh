@@ -0,0 +1,80 @@
+#!/bin/bash
+
+# ITDA 콘텐츠 전체 내보내기 메모리 확인 스크립트
+# - content 테이블에 더미 행을 채운 뒤(기본 100만 건) CSV/NDJSON/gzip 내보내기를 내려받으며
+#   전송 속도와 내보내는 동안의 서버 힙 사용량 최댓값을 출력한다
+# - 힙 상한을 고정한 서버에서 실행해야 의미가 있다 (예: JAVA_OPTS="-Xmx256m" 로 백엔드 기동)
+#   행 수를 늘려도 힙 최댓값이 거의 같고 OOM 없이 끝나면 정상
+#
+# 사용법: ./bin/bench-export.sh [행 수]
+#   SEED=false 면 데이터 채우기를 건너뜀, 채운 행은 title이 'export-bench-'로 시작하며 CLEANUP=true 면 끝난 뒤 삭제
+
+BASE_URL=${BASE_URL:-http://localhost:18080}
+ROWS=${1:-1000000}
+SEED=${SEED:-true}
+CLEANUP=${CLEANUP:-false}
+MYSQL_CONTAINER=${MYSQL_CONTAINER:-itda-mysql}
+MYSQL="docker exec -i $MYSQL_CONTAINER mysql -uroot -pidolphinspass itda"
+
+echo "📦 ITDA 콘텐츠 내보내기 측정 (${ROWS}건)"
+echo "================================"
+
+TOKEN=$(curl -s -X POST "$BASE_URL/api/auth/login" -H "Content-Type: application/json" \
+  -d '{"username":"admin","password":"admin123"}' | sed -n 's/.*"token":"\([^"]*\)".*/\1/p')
+if [ -z "$TOKEN" ]; then
+  echo "❌ 관리자 로그인 실패 - 서버 상태와 계정 정보를 확인하세요"
+  exit 1
+fi
+AUTH="Authorization: Bearer $TOKEN"
+
+if [ "$SEED" = "true" ]; then
+  echo "🌱 더미 콘텐츠 ${ROWS}건 생성 중..."
+  $MYSQL 2>/dev/null <<SQL
+SET SESSION cte_max_recursion_depth = 1000000;
+INSERT INTO content (title, content_type, content_format, copyright_type, public_status, storage_type,
+                     user_id, view_count, like_count, download_count, created_at, updated_at)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < $ROWS)
+SELECT CONCAT('export-bench-', n, ', "따옴표" 포함'), 'school', 'url', 'personal', 'public', 'storage',
+       (SELECT MIN(user_id) FROM users), n % 1000, n % 100, n % 10, NOW(), NOW()
+FROM seq;
+SQL
+fi
+echo "전체 행 수: $(echo 'SELECT COUNT(*) FROM content WHERE deleted_at IS NULL' | $MYSQL -N 2>/dev/null)"
+
+heap_used() {
+  curl -s -H "$AUTH" "$BASE_URL/actuator/metrics/jvm.memory.used?tag=area:heap" \
+    | sed -n 's/.*"statistic":"VALUE","value":\([0-9.E]*\).*/\1/p' | awk '{ printf "%d", $1 / 1048576 }'
+}
+
+printf "%-16s %-12s %-12s %-14s %-14s\n" "형식" "크기(MB)" "시간(s)" "속도(MB/s)" "최대 힙(MB)"
+
+for CASE in "csv false" "ndjson false" "csv true" "ndjson true"; do
+  read FORMAT GZIP <<< "$CASE"
+  MAX_HEAP_FILE=$(mktemp)
+  echo 0 > "$MAX_HEAP_FILE"
+
+  # 내려받는 동안 0.5초마다 힙 사용량 샘플링
+  (
+    while true; do
+      USED=$(heap_used)
+      [ -n "$USED" ] && [ "$USED" -gt "$(cat "$MAX_HEAP_FILE")" ] && echo "$USED" > "$MAX_HEAP_FILE"
+      sleep 0.5
+    done
+  ) &
+  SAMPLER=$!
+
+  read SIZE TIME <<< "$(curl -s -o /dev/null -w '%{size_download} %{time_total}' -H "$AUTH" \
+    "$BASE_URL/api/admin/contents/export?format=$FORMAT&gzip=$GZIP")"
+
+  kill "$SAMPLER" 2>/dev/null
+  wait "$SAMPLER" 2>/dev/null
+  LABEL="$FORMAT$([ "$GZIP" = "true" ] && echo " (gzip)")"
+  echo "$SIZE $TIME $(cat "$MAX_HEAP_FILE")" | awk -v label="$LABEL" \
+    '{ printf "%-16s %-12.1f %-12.1f %-14.1f %-14d\n", label, $1 / 1048576, $2, $1 / 1048576 / $2, $3 }'
+  rm -f "$MAX_HEAP_FILE"
+done
+
+if [ "$CLEANUP" = "true" ]; then
+  echo "🧹 더미 콘텐츠 삭제 중..."
+  echo "DELETE FROM content WHERE title LIKE 'export-bench-%'" | $MYSQL 2>/dev/null
+fi
@@ -0,0 +1,76 @@
+#!/bin/bash
+
+# ITDA 로그인 처리량 측정 스크립트
+# - 동시 요청 수를 늘려가며 로그인 처리량(건/초)과 p99 지연을 재고,
+#   p99가 목표 이하인 구간 중 가장 높은 처리량을 보고한다
+# - 요청 빈도 제한에 걸리지 않도록 서버를 --app.rate-limit.enabled=false 로 띄운 뒤 실행
+#
+# 사용법: ./bin/bench-login.sh [아이디] [비밀번호]
+#   TARGET_P99_MS=300 LEVELS="4 8 16 32 64" REQUESTS_PER_WORKER=25 로 조정 가능
+
+BASE_URL=${BASE_URL:-http://localhost:18080}
+LOGIN_USER=${1:-teacher}
+LOGIN_PASSWORD=${2:-password}
+TARGET_P99_MS=${TARGET_P99_MS:-300}
+LEVELS=${LEVELS:-"4 8 16 32 64"}
+REQUESTS_PER_WORKER=${REQUESTS_PER_WORKER:-25}
+
+BODY="{\"username\":\"$LOGIN_USER\",\"password\":\"$LOGIN_PASSWORD\"}"
+
+echo "🔐 ITDA 로그인 처리량 측정 (목표 p99 ≤ ${TARGET_P99_MS}ms)"
+echo "================================"
+
+# 사전 확인 + 예열
+STATUS=$(curl -s -o /dev/null -w '%{http_code}' -X POST "$BASE_URL/api/auth/login" \
+  -H "Content-Type: application/json" -d "$BODY")
+if [ "$STATUS" != "200" ]; then
+  echo "❌ 로그인 실패 (HTTP $STATUS) - 계정 정보와 요청 빈도 제한 설정을 확인하세요"
+  exit 1
+fi
+for i in $(seq 1 20); do
+  curl -s -o /dev/null -X POST "$BASE_URL/api/auth/login" -H "Content-Type: application/json" -d "$BODY"
+done
+
+export BASE_URL BODY
+BEST_LEVEL=""
+BEST_RATE=0
+
+printf "%-8s %-12s %-12s %-12s %-10s\n" "동시 요청" "처리량(건/s)" "p50(ms)" "p99(ms)" "실패"
+
+for LEVEL in $LEVELS; do
+  TOTAL=$((LEVEL * REQUESTS_PER_WORKER))
+  RESULT_FILE=$(mktemp)
+
+  START=$(date +%s.%N)
+  seq 1 "$TOTAL" | xargs -P "$LEVEL" -I{} sh -c \
+    'curl -s -o /dev/null -w "%{http_code} %{time_total}\n" -X POST "$BASE_URL/api/auth/login" -H "Content-Type: application/json" -d "$BODY"' \
+    >> "$RESULT_FILE"
+  END=$(date +%s.%N)
+
+  OK=$(awk '$1 == 200' "$RESULT_FILE" | wc -l)
+  FAILED=$((TOTAL - OK))
+  RATE=$(echo "$OK $START $END" | awk '{ printf "%.1f", $1 / ($3 - $2) }')
+  read P50 P99 <<< "$(awk '$1 == 200 { print $2 * 1000 }' "$RESULT_FILE" | sort -n | awk '
+    { v[NR] = $1 }
+    END { if (NR == 0) { print "- -"; exit }
+          p50 = int(NR * 0.50); if (p50 < 1) p50 = 1;
+          p99 = int(NR * 0.99); if (p99 < 1) p99 = 1;
+          printf "%.1f %.1f", v[p50], v[p99] }')"
+  rm -f "$RESULT_FILE"
+
+  printf "%-8s %-12s %-12s %-12s %-10s\n" "$LEVEL" "$RATE" "$P50" "$P99" "$FAILED"
+
+  if [ "$P99" != "-" ] && [ "$FAILED" -eq 0 ] \
+     && awk "BEGIN { exit !($P99 <= $TARGET_P99_MS && $RATE > $BEST_RATE) }"; then
+    BEST_LEVEL=$LEVEL
+    BEST_RATE=$RATE
+  fi
+done
+
+echo ""
+if [ -n "$BEST_LEVEL" ]; then
+  echo "✅ p99 ≤ ${TARGET_P99_MS}ms 최대 처리량: ${BEST_RATE}건/s (동시 요청 ${BEST_LEVEL})"
+else
+  echo "⚠️  p99 ≤ ${TARGET_P99_MS}ms 를 만족하는 구간이 없습니다"
+fi
+echo "   서버 측 BCrypt 대기/처리 시간: $BASE_URL/actuator/metrics/login.bcrypt.queue, login.bcrypt.verify"
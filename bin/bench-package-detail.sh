@@ -0,0 +1,75 @@
+#!/bin/bash
+
+# ITDA 꾸러미 상세 조회 지연 측정 스크립트
+# - 구성 콘텐츠 수별로 임시 꾸러미를 만들고, 첫 조회(캐시 미적중)와 반복 조회(캐시 적중) 지연을 잰다
+# - 캐시 미적중 지연은 꾸러미 수정 직후(캐시 무효화) 조회로 반복 측정한다
+#
+# 사용법: TOKEN=<JWT> CHANNEL_ID=<내 채널 ID> ./bin/bench-package-detail.sh [반복 횟수]
+#   SIZES="1 10 50 100 200" 로 구성 콘텐츠 수 지정 가능 (기본값)
+
+BASE_URL=${BASE_URL:-http://localhost:18080}
+ITERATIONS=${1:-20}
+SIZES=${SIZES:-"1 10 50 100 200"}
+
+if [ -z "$TOKEN" ] || [ -z "$CHANNEL_ID" ]; then
+  echo "❌ TOKEN, CHANNEL_ID 환경변수가 필요합니다"
+  exit 1
+fi
+
+AUTH="Authorization: Bearer $TOKEN"
+
+echo "📦 ITDA 꾸러미 상세 조회 지연 측정"
+echo "================================"
+
+# 측정에 쓸 공개 콘텐츠 ID 수집
+MAX_SIZE=$(echo $SIZES | tr ' ' '\n' | sort -n | tail -1)
+CONTENT_IDS=$(curl -s "$BASE_URL/api/contents/public?page=0&size=$MAX_SIZE" \
+  | grep -o '"contentId":[0-9]*' | cut -d: -f2 | awk '!seen[$0]++' | head -n "$MAX_SIZE")
+AVAILABLE=$(echo "$CONTENT_IDS" | grep -c .)
+echo "사용 가능한 공개 콘텐츠: ${AVAILABLE}건"
+echo ""
+
+# 지연 목록(초)의 평균/p95 (ms)
+summarize() {
+  sort -n | awk '{ v[NR] = $1 * 1000; sum += v[NR] }
+    END { if (NR == 0) { print "-"; exit }
+          p = int(NR * 0.95); if (p < 1) p = 1;
+          printf "avg %7.2fms  p95 %7.2fms", sum / NR, v[p] }'
+}
+
+printf "%-8s %-36s %-36s\n" "구성 수" "캐시 미적중" "캐시 적중"
+
+for SIZE in $SIZES; do
+  if [ "$SIZE" -gt "$AVAILABLE" ]; then
+    echo "⚠️  구성 수 ${SIZE}: 공개 콘텐츠가 부족해 건너뜀"
+    continue
+  fi
+
+  IDS=$(echo "$CONTENT_IDS" | head -n "$SIZE" | paste -sd, -)
+  PACKAGE_ID=$(curl -s -X POST "$BASE_URL/api/packages" -H "$AUTH" -H "Content-Type: application/json" \
+    -d "{\"channelId\":$CHANNEL_ID,\"title\":\"bench-$SIZE\",\"isPublic\":true,\"contentIds\":[$IDS]}" \
+    | grep -o '"packageId":[0-9]*' | head -1 | cut -d: -f2)
+
+  if [ -z "$PACKAGE_ID" ]; then
+    echo "❌ 꾸러미 생성 실패 (구성 수 ${SIZE})"
+    exit 1
+  fi
+
+  COLD=""
+  WARM=""
+  for i in $(seq 1 "$ITERATIONS"); do
+    # 수정으로 캐시를 비운 뒤 첫 조회 = 미적중, 바로 이어지는 조회 = 적중
+    curl -s -o /dev/null -X PUT "$BASE_URL/api/packages/$PACKAGE_ID" -H "$AUTH" \
+      -H "Content-Type: application/json" -d "{\"title\":\"bench-$SIZE-$i\"}"
+    COLD="$COLD$(curl -s -o /dev/null -w '%{time_total}' "$BASE_URL/api/packages/$PACKAGE_ID")"$'\n'
+    WARM="$WARM$(curl -s -o /dev/null -w '%{time_total}' "$BASE_URL/api/packages/$PACKAGE_ID")"$'\n'
+  done
+
+  printf "%-8s %-36s %-36s\n" "$SIZE" \
+    "$(echo -n "$COLD" | summarize)" "$(echo -n "$WARM" | summarize)"
+
+  curl -s -o /dev/null -X DELETE "$BASE_URL/api/packages/$PACKAGE_ID" -H "$AUTH"
+done
+
+echo ""
+echo "🎉 측정 완료!"
@@ -0,0 +1,65 @@
+#!/bin/bash
+
+# ITDA Redis 클라이언트 측 캐시(CLIENT TRACKING) 효과 측정 스크립트
+# - 조건부 GET(If-None-Match) 304 경로는 Redis 세대 번호 조회만 하므로 Redis 왕복 비용이 그대로 드러난다
+# - 서버를 두 번 띄워 비교:
+#     1) 기본 설정 (tracking on)          → ./bin/bench-redis-tracking.sh on
+#     2) --app.redis.client-tracking.enabled=false → ./bin/bench-redis-tracking.sh off
+# - 동시 요청 수별 처리량(건/초)과 p50/p99, 서버의 클라이언트 캐시 적중 수를 출력
+#
+# 사용법: ./bin/bench-redis-tracking.sh [라벨]
+#   LEVELS="8 16 32 64" REQUESTS_PER_WORKER=200 로 조정 가능 (요청 빈도 제한은 꺼 두고 실행)
+
+BASE_URL=${BASE_URL:-http://localhost:18080}
+LABEL=${1:-on}
+LEVELS=${LEVELS:-"8 16 32 64"}
+REQUESTS_PER_WORKER=${REQUESTS_PER_WORKER:-200}
+URL="$BASE_URL/api/contents/public?page=0&size=20"
+
+echo "📡 ITDA Redis 클라이언트 측 캐시 측정 [tracking $LABEL]"
+echo "================================"
+
+ETAG=$(curl -s -D - -o /dev/null "$URL" | awk -F': ' 'tolower($1) == "etag" { print $2 }' | tr -d '\r')
+if [ -z "$ETAG" ]; then
+  echo "❌ ETag를 받지 못했습니다 - 서버와 Redis 상태를 확인하세요"
+  exit 1
+fi
+echo "ETag: $ETAG"
+# 예열
+for i in $(seq 1 50); do
+  curl -s -o /dev/null -H "If-None-Match: $ETAG" "$URL"
+done
+
+export URL ETAG
+printf "%-8s %-12s %-12s %-12s %-10s\n" "동시 요청" "처리량(건/s)" "p50(ms)" "p99(ms)" "304 아님"
+
+for LEVEL in $LEVELS; do
+  TOTAL=$((LEVEL * REQUESTS_PER_WORKER))
+  RESULT_FILE=$(mktemp)
+
+  START=$(date +%s.%N)
+  seq 1 "$TOTAL" | xargs -P "$LEVEL" -I{} sh -c \
+    'curl -s -o /dev/null -w "%{http_code} %{time_total}\n" -H "If-None-Match: $ETAG" "$URL"' \
+    >> "$RESULT_FILE"
+  END=$(date +%s.%N)
+
+  OK=$(awk '$1 == 304' "$RESULT_FILE" | wc -l)
+  OTHER=$((TOTAL - OK))
+  RATE=$(echo "$OK $START $END" | awk '{ printf "%.1f", $1 / ($3 - $2) }')
+  read P50 P99 <<< "$(awk '$1 == 304 { print $2 * 1000 }' "$RESULT_FILE" | sort -n | awk '
+    { v[NR] = $1 }
+    END { if (NR == 0) { print "- -"; exit }
+          p50 = int(NR * 0.50); if (p50 < 1) p50 = 1;
+          p99 = int(NR * 0.99); if (p99 < 1) p99 = 1;
+          printf "%.1f %.1f", v[p50], v[p99] }')"
+  rm -f "$RESULT_FILE"
+
+  printf "%-8s %-12s %-12s %-12s %-10s\n" "$LEVEL" "$RATE" "$P50" "$P99" "$OTHER"
+done
+
+echo ""
+echo "🔎 클라이언트 측 캐시 적중/미스:"
+curl -s "$BASE_URL/actuator/metrics/redis.client.cache?tag=result:hit" | grep -o '"value":[0-9.E]*' | head -1 | sed 's/^/   hit  /'
+curl -s "$BASE_URL/actuator/metrics/redis.client.cache?tag=result:miss" | grep -o '"value":[0-9.E]*' | head -1 | sed 's/^/   miss /'
+echo "   (tracking off면 적중 0 - 매 요청 Redis 왕복)"
+echo "   ETag는 max-stale(기본 60초)마다 바뀌므로 측정 중 304 아님이 조금 섞일 수 있습니다"
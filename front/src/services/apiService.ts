@@ -286,6 +286,54 @@ export const getUserContents = async (
   }
 };
 
+// 콘텐츠 변경분 조회 (since 토큰 이후 등록/수정/삭제분만, 토큰 없이 호출하면 전체부터)
+export interface ContentChanges {
+  upserts: ContentItem[];
+  deletedIds: string[];
+  nextToken: string;
+  hasMore: boolean;
+}
+
+export const getUserContentChanges = async (
+  userId: number,
+  since?: string,
+  size: number = 200
+): Promise<ContentChanges> => {
+  const token = localStorage.getItem('token');
+
+  if (!token) {
+    throw new Error('인증 토큰이 없습니다.');
+  }
+
+  const API_BASE_URL = import.meta.env.VITE_API_URL || 'http://localhost:18080/api';
+  const sinceParam = since ? `&since=${encodeURIComponent(since)}` : '';
+
+  try {
+    const response = await fetch(`${API_BASE_URL}/contents/user/${userId}/changes?size=${size}${sinceParam}`, {
+      method: 'GET',
+      headers: {
+        'Authorization': `Bearer ${token}`,
+        'Content-Type': 'application/json',
+      },
+    });
+
+    if (!response.ok) {
+      throw new Error(`콘텐츠 변경분 조회 실패: ${response.statusText}`);
+    }
+
+    const data = await response.json();
+    return {
+      upserts: (data.upserts as BackendContentResponse[]).map(convertBackendContentToContentItem),
+      deletedIds: (data.deletedIds as number[]).map(String),
+      nextToken: data.nextToken,
+      hasMore: data.hasMore,
+    };
+  } catch (error) {
+    console.error('콘텐츠 변경분 조회 오류:', error);
+    throw error;
+  }
+};
+
 // 콘텐츠 삭제
 export const deleteContent = async (contentId: string): Promise<void> => {
   const token = localStorage.getItem('token');
@@ -332,3 +380,29 @@ export const getPopularContents = async (size: number = 10): Promise<ContentItem
     throw error;
   }
 };
+
+// 여러 콘텐츠 한 번에 조회 (카드 채우기용, 최대 100개, 요청 순서 유지)
+export const getContentsByIds = async (contentIds: string[]): Promise<ContentItem[]> => {
+  if (contentIds.length === 0) {
+    return [];
+  }
+
+  const token = localStorage.getItem('token');
+  const API_BASE_URL = import.meta.env.VITE_API_URL || 'http://localhost:18080/api';
+
+  try {
+    const response = await fetch(`${API_BASE_URL}/contents?ids=${contentIds.map(encodeURIComponent).join(',')}`, {
+      headers: token ? { 'Authorization': `Bearer ${token}` } : {},
+    });
+
+    if (!response.ok) {
+      throw new Error(`콘텐츠 조회 실패: ${response.statusText}`);
+    }
+
+    const data: BackendContentResponse[] = await response.json();
+    return data.map(convertBackendContentToContentItem);
+  } catch (error) {
+    console.error('콘텐츠 일괄 조회 오류:', error);
+    throw error;
+  }
+};
@@ -8,6 +8,8 @@ export interface LoginRequest {
 export interface LoginResponse {
   token: string;
   tokenType: string;
+  refreshToken: string;
+  expiresIn: number;
   userId: number;
   username: string;
   email: string;
@@ -30,12 +32,16 @@ class AuthService {
   }
 
   async logout(): Promise<void> {
-    await api.post('/auth/logout');
-    this.clearAuth();
+    try {
+      await api.post('/auth/logout', { refreshToken: localStorage.getItem('refreshToken') });
+    } finally {
+      this.clearAuth();
+    }
   }
 
   saveAuth(authData: LoginResponse): void {
     localStorage.setItem('token', authData.token);
+    localStorage.setItem('refreshToken', authData.refreshToken);
     localStorage.setItem('user', JSON.stringify({
       userId: authData.userId,
       username: authData.username,
@@ -47,6 +53,7 @@ class AuthService {
 
   clearAuth(): void {
     localStorage.removeItem('token');
+    localStorage.removeItem('refreshToken');
     localStorage.removeItem('user');
   }
 